@@ -26,6 +26,7 @@ import app.use_cases.country_collection.CollectionInteractor;
 import app.use_cases.detail.DetailDataAccessInterface;
 import app.use_cases.detail.DetailInteractor;
 import app.use_cases.explore_map.ExploreMapInteractor;
+import app.use_cases.explore_map.ProjectedMapCache;
 import app.use_cases.filter_countries.FilterCountriesInteractor;
 import app.use_cases.quiz.LocalQuestionRepository;
 import app.use_cases.quiz.QuestionRepository;
@@ -48,6 +49,8 @@ import app.views.home.HomeView;
 import app.views.quiz.QuizState;
 import app.views.quiz.QuizView;
 
+import java.io.File;
+
 /**
  * Main entry point for the GeoLearn application.
  */
@@ -72,8 +75,8 @@ public class Main {
         setupCompareModule(navigator, countryDataApi);
         setupCollectionModule(inMemoryUserDataStorage, countryDataApi, navigator);
         setupFilterCountriesModule(countryDataApi, navigator);
-        setupExploreMapModule(navigator);
-        setupDetailModule(navigator);
+        setupExploreMapModule(navigator, countryDataApi);
+        setupDetailModule(navigator, countryDataApi);
         setupQuizModule(countryDataApi, inMemoryUserDataStorage);
 
         navigator.navigateTo("authentication");
@@ -151,13 +154,17 @@ public class Main {
         MasterFrame.getInstance().registerView(filterCountriesView, "filter_countries");
     }
 
-    private static void setupExploreMapModule(NavigationService navigator) {
+    private static void setupExploreMapModule(NavigationService navigator,
+                                              APICountryDataAccessObject countryDataApi) {
         final ViewModel<ExploreMapState> exploreMapViewModel =
                 new ViewModel<>(new ExploreMapState());
         final ExploreMapPresenter exploreMapPresenter =
                 new ExploreMapPresenter(exploreMapViewModel);
+        final ProjectedMapCache projectedMaps = new ProjectedMapCache();
         final ExploreMapDataAccessObject exploreMapDataAccess =
-                new ExploreMapDataAccessObject();
+                new ExploreMapDataAccessObject(
+                        new File(System.getProperty("user.home"), ".geolearn/cache"),
+                        countryDataApi, projectedMaps);
         final ExploreMapInteractor exploreMapInteractor =
                 new ExploreMapInteractor(exploreMapDataAccess,
                         exploreMapPresenter);
@@ -166,16 +173,19 @@ public class Main {
         final ExploreMapView exploreMapView =
                 new ExploreMapView(exploreMapViewModel, navigator);
         exploreMapView.setController(exploreMapController);
+        exploreMapView.setTileCacheDirectory(
+                new File(System.getProperty("user.home"), ".geolearn/tiles"));
+        exploreMapView.setProjectedMaps(projectedMaps);
         MasterFrame.getInstance().registerView(exploreMapView, "explore_map");
     }
 
-    private static void setupDetailModule(NavigationService navigator) {
+    private static void setupDetailModule(NavigationService navigator,
+                                          APICountryDataAccessObject countryDataApi) {
         final ViewModel<DetailState> detailViewModel =
                 new ViewModel<>(new DetailState());
         final DetailPresenter detailPresenter =
                 new DetailPresenter(detailViewModel);
-        final DetailDataAccessInterface dataAccessInterface =
-                new APICountryDataAccessObject();
+        final DetailDataAccessInterface dataAccessInterface = countryDataApi;
         final DetailInteractor detailInteractor =
                 new DetailInteractor(dataAccessInterface, detailPresenter);
         final DetailController detailController =
@@ -0,0 +1,149 @@
+package app;
+
+import app.data_access.ExploreMapDataAccessObject;
+import app.use_cases.explore_map.MapProjection;
+import app.views.explore_map.MapImageExporter;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Headless entry point that renders the world map to image files, for
+ * generating map assets on machines without a display.
+ *
+ * <p>
+ * Usage:
+ * <pre>
+ * MapExport image &lt;shapefile&gt; &lt;output.png&gt; &lt;width&gt; &lt;height&gt; [minX minY maxX maxY] [options]
+ * MapExport tiles &lt;shapefile&gt; &lt;directory&gt; &lt;maxZoom&gt; [options]
+ *
+ * options:
+ *   --projection=PLATE_CARREE|WEB_MERCATOR|ROBINSON|EQUAL_EARTH
+ *   --threads=N
+ * </pre>
+ * A bounding box is given in the projection's coordinates; without one the
+ * whole map is drawn.
+ */
+public final class MapExport {
+    private static final String PROJECTION_OPTION = "--projection=";
+    private static final String THREADS_OPTION = "--threads=";
+    /** Image width, or deepest zoom level for tiles. */
+    private static final int ARG_SIZE = 3;
+    private static final int ARG_HEIGHT = 4;
+    private static final int ARG_MIN_X = 5;
+    private static final int ARG_MIN_Y = 6;
+    private static final int ARG_MAX_X = 7;
+    private static final int ARG_MAX_Y = 8;
+    private static final int IMAGE_ARGUMENTS = 5;
+    private static final int IMAGE_ARGUMENTS_WITH_AREA = 9;
+    private static final int TILES_ARGUMENTS = 4;
+    private static final int USAGE_ERROR = 2;
+    private static final int EXPORT_ERROR = 1;
+
+    private MapExport() {
+    }
+
+    /**
+     * Renders a map image or tile pyramid as described by the arguments.
+     *
+     * @param args command line arguments, see the class documentation
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        final List<String> positional = new ArrayList<>();
+        MapProjection projection = MapProjection.PLATE_CARREE;
+        int threads = Runtime.getRuntime().availableProcessors();
+        try {
+            for (String arg : args) {
+                if (arg.startsWith(PROJECTION_OPTION)) {
+                    projection = MapProjection.valueOf(
+                            arg.substring(PROJECTION_OPTION.length()).toUpperCase(Locale.ROOT));
+                }
+                else if (arg.startsWith(THREADS_OPTION)) {
+                    threads = Integer.parseInt(arg.substring(THREADS_OPTION.length()));
+                }
+                else {
+                    positional.add(arg);
+                }
+            }
+            if (!isValid(positional) || threads <= 0) {
+                exit(USAGE_ERROR, usage());
+            }
+            else {
+                export(positional, projection, threads);
+            }
+        }
+        catch (IllegalArgumentException ex) {
+            exit(USAGE_ERROR, ex.getMessage() + System.lineSeparator() + usage());
+        }
+        catch (IOException ex) {
+            exit(EXPORT_ERROR, "Map export failed: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Loads the shapefile in the requested projection and writes the image or tiles.
+     */
+    private static void export(List<String> positional, MapProjection projection, int threads)
+            throws IOException {
+        final ExploreMapDataAccessObject dataAccess = new ExploreMapDataAccessObject(
+                new File(System.getProperty("user.home"), ".geolearn/cache"), null);
+        dataAccess.loadShapefile(positional.get(1));
+        dataAccess.setProjection(projection);
+        final MapImageExporter exporter =
+                new MapImageExporter(dataAccess.getFeatureIndex().getStore(), threads);
+        final File output = new File(positional.get(2));
+
+        if ("image".equals(positional.get(0))) {
+            ReferencedEnvelope area = exporter.getBounds();
+            if (positional.size() == IMAGE_ARGUMENTS_WITH_AREA) {
+                area = new ReferencedEnvelope(
+                        Double.parseDouble(positional.get(ARG_MIN_X)), Double.parseDouble(positional.get(ARG_MAX_X)),
+                        Double.parseDouble(positional.get(ARG_MIN_Y)), Double.parseDouble(positional.get(ARG_MAX_Y)),
+                        area.getCoordinateReferenceSystem());
+            }
+            exporter.writeImage(area, Integer.parseInt(positional.get(ARG_SIZE)),
+                    Integer.parseInt(positional.get(ARG_HEIGHT)), output);
+            System.out.println("Wrote " + output);
+        }
+        else {
+            final int tiles = exporter.writeTiles(output, Integer.parseInt(positional.get(ARG_SIZE)));
+            System.out.println("Wrote " + tiles + " tiles to " + output);
+        }
+    }
+
+    /**
+     * Checks the command and the number of arguments it was given.
+     */
+    private static boolean isValid(List<String> positional) {
+        boolean result = false;
+        if (!positional.isEmpty()) {
+            final int count = positional.size();
+            if ("image".equals(positional.get(0))) {
+                result = count == IMAGE_ARGUMENTS || count == IMAGE_ARGUMENTS_WITH_AREA;
+            }
+            else if ("tiles".equals(positional.get(0))) {
+                result = count == TILES_ARGUMENTS;
+            }
+        }
+        return result;
+    }
+
+    private static String usage() {
+        return "Usage:" + System.lineSeparator()
+                + "  MapExport image <shapefile> <output.png> <width> <height> [minX minY maxX maxY] [options]"
+                + System.lineSeparator()
+                + "  MapExport tiles <shapefile> <directory> <maxZoom> [options]" + System.lineSeparator()
+                + "Options: --projection=PLATE_CARREE|WEB_MERCATOR|ROBINSON|EQUAL_EARTH --threads=N";
+    }
+
+    private static void exit(int status, String message) {
+        System.err.println(message);
+        System.exit(status);
+    }
+}
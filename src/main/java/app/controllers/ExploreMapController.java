@@ -2,12 +2,15 @@ package app.controllers;
 
 import app.use_cases.explore_map.ExploreMapInputBoundary;
 import app.use_cases.explore_map.ExploreMapInputData;
+import app.use_cases.explore_map.ExploreMapProjectionInputData;
 import app.use_cases.explore_map.ExploreMapSelectInputData;
+import app.use_cases.explore_map.MapFeatureIndex;
+import app.use_cases.explore_map.MapProjection;
 
 /**
  * Controller for the Explore Map use case.
  * Simplified to only handle data operations
- * (loading map and selecting features).
+ * (loading map, selecting features and changing projection).
  * Zoom/pan/mode changes are handled directly in the view.
  */
 public class ExploreMapController {
@@ -44,4 +47,45 @@ public class ExploreMapController {
                 new ExploreMapSelectInputData(screenX, screenY);
         interactor.selectFeature(inputData);
     }
+
+    /**
+     * Select the feature at the given map coordinates, or the nearest one
+     * within a tolerance if the point misses every feature.
+     *
+     * @param x the x map coordinate
+     * @param y the y map coordinate
+     * @param tolerance the search distance in map units
+     */
+    public void selectFeature(final double x, final double y, final double tolerance) {
+        final ExploreMapSelectInputData inputData =
+                new ExploreMapSelectInputData(x, y, tolerance);
+        interactor.selectFeature(inputData);
+    }
+
+    /**
+     * Select the feature at the given map coordinates among the features
+     * currently drawn, or the nearest one within a tolerance.
+     *
+     * @param x the x map coordinate
+     * @param y the y map coordinate
+     * @param tolerance the search distance in map units
+     * @param featureIndex the index of the drawn features
+     */
+    public void selectFeature(final double x, final double y, final double tolerance,
+                              final MapFeatureIndex featureIndex) {
+        final ExploreMapSelectInputData inputData =
+                new ExploreMapSelectInputData(x, y, tolerance, featureIndex);
+        interactor.selectFeature(inputData);
+    }
+
+    /**
+     * Show the map in another projection.
+     *
+     * @param projection the projection to switch to
+     */
+    public void changeProjection(final MapProjection projection) {
+        final ExploreMapProjectionInputData inputData =
+                new ExploreMapProjectionInputData(projection);
+        interactor.changeProjection(inputData);
+    }
 }
@@ -45,6 +45,8 @@ public class APICountryDataAccessObject implements FilterCountriesDataAccessInte
     private final OkHttpClient client;
     private final String apiBase;
     private List<Country> cachedCountries;
+    private Map<String, Country> countriesByCode;
+    private Map<String, Country> countriesByName;
 
     public APICountryDataAccessObject() {
         this.client = new OkHttpClient().newBuilder().build();
@@ -79,6 +81,7 @@ public class APICountryDataAccessObject implements FilterCountriesDataAccessInte
                 countries.add(country);
             });
             cachedCountries = countries;
+            indexCountries(countries);
         }
         return cachedCountries;
     }
@@ -296,16 +299,26 @@ public class APICountryDataAccessObject implements FilterCountriesDataAccessInte
         );
     }
 
+    /**
+     * Builds code and name lookups over the cached countries.
+     *
+     * @param countries the fetched countries
+     */
+    private void indexCountries(List<Country> countries) {
+        final Map<String, Country> byCode = new HashMap<>(countries.size() * 2);
+        final Map<String, Country> byName = new HashMap<>(countries.size() * 2);
+        for (Country country : countries) {
+            byCode.put(country.getCode(), country);
+            byName.putIfAbsent(country.getName(), country);
+        }
+        countriesByCode = byCode;
+        countriesByName = byName;
+    }
+
     @Override
     public Country getCountryByCode(String countryCode) {
-        Country result = null;
-        for (Country country : getCountries()) {
-            if (country.getCode().equals(countryCode)) {
-                result = country;
-                break;
-            }
-        }
-        return result;
+        getCountries();
+        return countriesByCode.get(countryCode);
     }
 
     // -------------------- ADDED FOR COMPARE USE CASE --------------------
@@ -346,14 +359,8 @@ public class APICountryDataAccessObject implements FilterCountriesDataAccessInte
 
     @Override
     public Country getCountryByName(String countryName) {
-        Country result = null;
-        for (Country country : getCountries()) {
-            if (country.getName().equals(countryName)) {
-                result = country;
-                break;
-            }
-        }
-        return result;
+        getCountries();
+        return countriesByName.get(countryName);
     }
 
     private static final class CountryDataMaps {
@@ -2,71 +2,303 @@ package app.data_access;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import org.geotools.api.data.FileDataStore;
-import org.geotools.api.data.FileDataStoreFinder;
+import org.geotools.api.data.DataStore;
 import org.geotools.api.data.SimpleFeatureSource;
 import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.data.shapefile.ShapefileDataStoreFactory;
 import org.geotools.data.simple.SimpleFeatureCollection;
 import org.geotools.data.simple.SimpleFeatureIterator;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.locationtech.jts.geom.Coordinate;
-import org.locationtech.jts.geom.Geometry;
-import org.locationtech.jts.geom.Point;
 
+import app.use_cases.country.CountryDataAccessInterface;
+import app.use_cases.explore_map.CountryJoinIndex;
 import app.use_cases.explore_map.ExploreMapDataAccessInterface;
+import app.use_cases.explore_map.LandAdjacencyGraph;
+import app.use_cases.explore_map.MapDataset;
+import app.use_cases.explore_map.MapFeatureIndex;
+import app.use_cases.explore_map.MapFeatureStore;
+import app.use_cases.explore_map.MapProjection;
+import app.use_cases.explore_map.MapResolution;
+import app.use_cases.explore_map.ProjectedMapCache;
 
 /**
  * Data Access Object for the Explore Map use case.
  *
  * <p>
  * Provides methods to load shapefiles and to query features and bounds
- * from the currently loaded feature source.
+ * from the currently loaded map. A shapefile is decoded exactly once into an
+ * in-memory {@link MapFeatureStore}; the shapefile store is closed right
+ * after, and bounds, rendering and point queries (through a
+ * {@link MapFeatureIndex} of prepared geometries) are all served from memory.
+ *
+ * <p>
+ * When the loaded file is one of the Natural Earth country datasets, the
+ * DAO also offers a {@link MapDataset} that reads the finer resolutions
+ * from the same directory on demand.
+ *
+ * <p>
+ * If a cache directory is configured, every decoded shapefile is also written
+ * there as a {@link MapFeatureCacheFile}; later loads of the unchanged file
+ * map that cache instead of decoding the shapefile again.
+ *
+ * <p>
+ * With a country catalog, each loaded map is also joined to it through a
+ * {@link CountryJoinIndex}, so selections resolve to catalog country codes.
+ *
+ * <p>
+ * The {@link LandAdjacencyGraph} of the loaded map is built on a background
+ * thread as soon as the map loads, so the first selection does not wait for
+ * it, and, for cached shapefiles, stored next to the feature cache.
+ *
+ * <p>
+ * Queries answer in the current {@link MapProjection}. A freshly loaded map
+ * starts in its native coordinates; switching projection swaps in a
+ * reprojected copy from a {@link ProjectedMapCache}, which can be shared with
+ * the view so a projection computed once is reused by both.
  */
 public class ExploreMapDataAccessObject implements ExploreMapDataAccessInterface {
     private static final Logger LOGGER = Logger.getLogger(ExploreMapDataAccessObject.class.getName());
+    private static final String SHAPEFILE_EXTENSION = ".shp";
+    private static final String CACHE_EXTENSION = ".gmc";
+    private static final String ADJACENCY_CACHE_EXTENSION = ".gma";
+
+    /** Directory holding preprocessed map caches, or null to always decode shapefiles. */
+    private final File cacheDirectory;
+
+    /** Country catalog features are joined to, or null if there is none. */
+    private final CountryDataAccessInterface countryCatalog;
 
     private SimpleFeatureSource featureSource;
 
+    /** In-memory copy of the features behind {@link #featureSource}. */
+    private MapFeatureStore featureStore;
+
+    /** Hit-test index over the features in {@link #featureStore}. */
+    private MapFeatureIndex featureIndex;
+
+    /** Reprojected copies of loaded stores. */
+    private final ProjectedMapCache projectedMaps;
+
+    /** Projection queries are answered in. */
+    private MapProjection projection = MapProjection.PLATE_CARREE;
+
+    /** Index over the loaded features in {@link #projection}; the same as {@link #featureIndex} when native. */
+    private MapFeatureIndex displayIndex;
+
+    /** Join from {@link #featureStore} positions to the country catalog. */
+    private CountryJoinIndex countryJoin;
+
+    /** Builds the land borders of each loaded map off the loading and UI threads. */
+    private final ExecutorService adjacencyExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "map-adjacency");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Pending build of {@link #adjacencyGraph}, started when the map is loaded. */
+    private Future<LandAdjacencyGraph> adjacencyTask;
+
+    /** Land borders between the features of {@link #featureStore}, once {@link #adjacencyTask} is done. */
+    private LandAdjacencyGraph adjacencyGraph;
+
+    /** {@link #adjacencyGraph} over the features of {@link #displayIndex}. */
+    private LandAdjacencyGraph displayAdjacencyGraph;
+
+    /** Finer resolutions of the loaded map, or null if it is not a known dataset. */
+    private MapDataset dataset;
+
+    /** Absolute path and modification time of the shapefile behind {@link #featureStore}. */
+    private String loadedPath;
+    private long loadedModified;
+
+    /**
+     * Creates a DAO that decodes shapefiles on every load.
+     */
+    public ExploreMapDataAccessObject() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a DAO that keeps preprocessed copies of loaded shapefiles.
+     *
+     * @param cacheDirectory directory for the cache files, or null to disable caching
+     * @param countryCatalog catalog to join map features to, or null to skip the join
+     */
+    public ExploreMapDataAccessObject(File cacheDirectory, CountryDataAccessInterface countryCatalog) {
+        this(cacheDirectory, countryCatalog, new ProjectedMapCache());
+    }
+
+    /**
+     * Creates a DAO that keeps preprocessed copies of loaded shapefiles and
+     * takes reprojected maps from a shared cache.
+     *
+     * @param cacheDirectory directory for the cache files, or null to disable caching
+     * @param countryCatalog catalog to join map features to, or null to skip the join
+     * @param projectedMaps cache of reprojected maps, shared with the view
+     */
+    public ExploreMapDataAccessObject(File cacheDirectory, CountryDataAccessInterface countryCatalog,
+                                      ProjectedMapCache projectedMaps) {
+        this.cacheDirectory = cacheDirectory;
+        this.countryCatalog = countryCatalog;
+        this.projectedMaps = projectedMaps;
+    }
+
     @Override
     public SimpleFeatureSource loadShapefile(String filePath) throws IOException {
         final File file = new File(filePath);
-        final FileDataStore store = FileDataStoreFinder.getDataStore(file);
-        if (store == null) {
-            throw new IOException("Could not find data store for file: " + filePath);
+        if (featureStore == null
+                || !file.getAbsolutePath().equals(loadedPath)
+                || file.lastModified() != loadedModified) {
+            readShapefile(file);
+        }
+        else {
+            // Reopening the loaded file shows it in its native coordinates again, like any fresh load.
+            setProjection(MapProjection.PLATE_CARREE);
         }
-        this.featureSource = store.getFeatureSource();
         return this.featureSource;
     }
 
-    @Override
-    public SimpleFeature getFeatureAtPosition(Coordinate coordinate) {
-        SimpleFeature foundFeature = null;
-        if (featureSource != null) {
+    /**
+     * Decodes a shapefile into the current store and remembers where it came from,
+     * so reopening the same unchanged file reuses the loaded data.
+     *
+     * @param file the shapefile to read
+     * @throws IOException if the file cannot be read
+     */
+    private void readShapefile(File file) throws IOException {
+        useStore(readFeatures(file), file);
+
+        final MapResolution resolution = MapResolution.forFileName(file.getName());
+        if (resolution != null) {
+            final File directory = file.getAbsoluteFile().getParentFile();
+            dataset = new MapDataset(resolution, featureIndex,
+                    finer -> readFeatures(new File(directory, finer.getFileName())));
+        }
+    }
+
+    /**
+     * Reads a shapefile's features from the preprocessed cache when it is
+     * current, otherwise decodes the shapefile and refreshes the cache.
+     *
+     * @param file the shapefile to read
+     * @return the features of the shapefile
+     * @throws IOException if the shapefile is missing or cannot be read
+     */
+    private MapFeatureStore readFeatures(File file) throws IOException {
+        MapFeatureStore store = null;
+        if (cacheDirectory != null && file.isFile()
+                && file.getName().toLowerCase().endsWith(SHAPEFILE_EXTENSION)) {
+            final MapFeatureCacheFile cache = new MapFeatureCacheFile(cacheFileFor(file, CACHE_EXTENSION));
+            final long checksum = MapFeatureCacheFile.checksum(file);
             try {
-                final SimpleFeatureCollection collection = featureSource.getFeatures();
-                try (SimpleFeatureIterator iterator = collection.features()) {
-                    while (iterator.hasNext()) {
-                        final SimpleFeature feature = iterator.next();
-                        final Geometry geometry = (Geometry) feature.getDefaultGeometry();
-
-                        if (geometry != null) {
-                            final Point point = geometry.getFactory().createPoint(coordinate);
-                            if (geometry.contains(point)) {
-                                foundFeature = feature;
-                                break;
-                            }
-                        }
-                    }
-                }
+                store = cache.read(checksum);
             }
             catch (IOException ex) {
-                LOGGER.log(Level.SEVERE, "Error getting feature at position: {0}", new Object[]{ex.getMessage()});
-                LOGGER.log(Level.SEVERE, "Exception while getting feature at position", ex);
+                LOGGER.log(Level.WARNING, "Ignoring unreadable map cache", ex);
+            }
+            if (store == null) {
+                store = decodeShapefile(file, checksum);
+                try {
+                    cache.write(store, checksum);
+                }
+                catch (IOException ex) {
+                    LOGGER.log(Level.WARNING, "Could not write map cache", ex);
+                }
             }
         }
+        else {
+            store = decodeShapefile(file, MapFeatureStore.UNKNOWN_SOURCE);
+        }
+        return store;
+    }
+
+    /**
+     * Returns the location of a cache file derived from a shapefile.
+     *
+     * @param shapefile the {@code .shp} file
+     * @param extension the extension of the cache file
+     * @return the cache file in the cache directory, named after the shapefile
+     */
+    private File cacheFileFor(File shapefile, String extension) {
+        final String name = shapefile.getName();
+        return new File(cacheDirectory,
+                name.substring(0, name.length() - SHAPEFILE_EXTENSION.length()) + extension);
+    }
+
+    /**
+     * Opens a shapefile, decodes all of its features and closes it again.
+     *
+     * @param file the shapefile to read
+     * @param checksum checksum of the shapefile, or {@link MapFeatureStore#UNKNOWN_SOURCE}
+     * @return the decoded features
+     * @throws IOException if the file is missing or cannot be read
+     */
+    private MapFeatureStore decodeShapefile(File file, long checksum) throws IOException {
+        final String filePath = file.getPath();
+        if (!file.isFile()) {
+            throw new IOException("Shapefile not found: " + filePath);
+        }
+        final DataStore store = openShapefile(file);
+        if (store == null) {
+            throw new IOException("Could not find data store for file: " + filePath);
+        }
+        try {
+            return readStore(store.getFeatureSource(store.getTypeNames()[0]), checksum);
+        }
+        finally {
+            store.dispose();
+        }
+    }
+
+    /**
+     * Opens a shapefile with memory-mapped reads. Every feature is read once
+     * into a {@link MapFeatureStore} and queried there, so the shapefile's
+     * quadtree index is neither used nor created; no {@code .qix} file is
+     * written next to the user's shapefiles, which may be read-only or shared.
+     *
+     * @param file the shapefile to open
+     * @return the data store, or null if no store can handle the file
+     * @throws IOException if the file cannot be opened
+     */
+    private DataStore openShapefile(File file) throws IOException {
+        final Map<String, Serializable> params = new HashMap<>();
+        params.put(ShapefileDataStoreFactory.URLP.key, file.toURI().toURL());
+        params.put(ShapefileDataStoreFactory.MEMORY_MAPPED.key, Boolean.TRUE);
+        params.put(ShapefileDataStoreFactory.CACHE_MEMORY_MAPS.key, Boolean.TRUE);
+        params.put(ShapefileDataStoreFactory.ENABLE_SPATIAL_INDEX.key, Boolean.FALSE);
+        params.put(ShapefileDataStoreFactory.CREATE_SPATIAL_INDEX.key, Boolean.FALSE);
+        return new ShapefileDataStoreFactory().createDataStore(params);
+    }
+
+    @Override
+    public SimpleFeature getFeatureAtPosition(Coordinate coordinate) {
+        SimpleFeature foundFeature = null;
+        if (displayIndex != null) {
+            foundFeature = displayIndex.getFeatureAt(coordinate);
+        }
+
+        return foundFeature;
+    }
+
+    @Override
+    public SimpleFeature getNearestFeature(Coordinate coordinate, double maxDistance) {
+        SimpleFeature foundFeature = null;
+        if (displayIndex != null) {
+            foundFeature = displayIndex.getNearestFeature(coordinate, maxDistance);
+        }
 
         return foundFeature;
     }
@@ -74,30 +306,251 @@ public class ExploreMapDataAccessObject implements ExploreMapDataAccessInterface
     @Override
     public ReferencedEnvelope getMaxBounds() {
         ReferencedEnvelope bounds = null;
-        if (featureSource != null) {
-            try {
-                bounds = featureSource.getBounds();
-            }
-            catch (IOException ex) {
-                LOGGER.log(Level.SEVERE, "Error getting max bounds: {0}", new Object[]{ex.getMessage()});
-                LOGGER.log(Level.SEVERE, "Exception while getting max bounds", ex);
-            }
+        if (displayIndex != null) {
+            bounds = displayIndex.getStore().getBounds();
         }
         return bounds;
     }
 
     @Override
     public void setFeatureSource(SimpleFeatureSource featureSource) {
-        this.featureSource = featureSource;
+        if (featureSource != this.featureSource) {
+            if (featureSource == null) {
+                disposeDataset();
+                this.featureSource = null;
+                this.featureStore = null;
+                this.featureIndex = null;
+                this.displayIndex = null;
+                this.countryJoin = null;
+                cancelAdjacencyTask();
+                this.adjacencyGraph = null;
+                this.displayAdjacencyGraph = null;
+            }
+            else {
+                try {
+                    useStore(readStore(featureSource, MapFeatureStore.UNKNOWN_SOURCE), null);
+                }
+                catch (IOException ex) {
+                    LOGGER.log(Level.SEVERE, "Error reading feature source: {0}", new Object[]{ex.getMessage()});
+                    LOGGER.log(Level.SEVERE, "Exception while reading feature source", ex);
+                }
+            }
+        }
+    }
+
+    @Override
+    public MapFeatureIndex getFeatureIndex() {
+        return displayIndex;
+    }
+
+    @Override
+    public MapProjection getProjection() {
+        return projection;
+    }
+
+    @Override
+    public void setProjection(MapProjection newProjection) throws IOException {
+        if (featureIndex != null) {
+            displayIndex = projectedMaps.getIndex(featureIndex, newProjection);
+            featureSource = displayIndex.getStore().getFeatureSource();
+            displayAdjacencyGraph = null;
+        }
+        projection = newProjection;
+    }
+
+    @Override
+    public CountryJoinIndex getCountryJoin() {
+        return countryJoin;
+    }
+
+    @Override
+    public MapDataset getDataset() {
+        return dataset;
+    }
+
+    @Override
+    public LandAdjacencyGraph getAdjacencyGraph() {
+        if (adjacencyGraph == null && adjacencyTask != null) {
+            adjacencyGraph = awaitAdjacencyGraph();
+        }
+        if (displayAdjacencyGraph == null && adjacencyGraph != null) {
+            // Borders do not depend on the projection, and projected stores keep feature positions.
+            displayAdjacencyGraph = adjacencyGraph;
+            if (displayIndex.getStore() != featureStore) {
+                displayAdjacencyGraph = new LandAdjacencyGraph(displayIndex.getStore(),
+                        adjacencyGraph.getOffsets(), adjacencyGraph.getNeighbourPositions());
+            }
+        }
+        return displayAdjacencyGraph;
+    }
+
+    /**
+     * Waits for the adjacency build started at load, which has usually finished
+     * by the time a country is selected.
+     *
+     * @return the adjacency graph of the current store, or null if building it failed
+     */
+    private LandAdjacencyGraph awaitAdjacencyGraph() {
+        LandAdjacencyGraph graph = null;
+        try {
+            graph = adjacencyTask.get();
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException ex) {
+            LOGGER.log(Level.WARNING, "Could not build land adjacency", ex.getCause());
+        }
+        return graph;
+    }
+
+    /**
+     * Stops building the adjacency of a map that is no longer loaded.
+     */
+    private void cancelAdjacencyTask() {
+        if (adjacencyTask != null) {
+            adjacencyTask.cancel(true);
+            adjacencyTask = null;
+        }
+    }
+
+    /**
+     * Reads the adjacency graph of a shapefile from the cache when it is
+     * current, otherwise builds it from the geometries and refreshes the cache.
+     * Runs on the adjacency thread.
+     *
+     * @param index the hit-test index over the shapefile's features
+     * @param source the shapefile the features were read from, or null if they have no file
+     * @return the adjacency graph of the index's store
+     */
+    private LandAdjacencyGraph loadAdjacencyGraph(MapFeatureIndex index, File source) {
+        LandAdjacencyGraph graph = null;
+        LandAdjacencyCacheFile cache = null;
+        long checksum = 0;
+        if (cacheDirectory != null && source != null
+                && source.getName().toLowerCase().endsWith(SHAPEFILE_EXTENSION)) {
+            cache = new LandAdjacencyCacheFile(cacheFileFor(source, ADJACENCY_CACHE_EXTENSION));
+            try {
+                checksum = MapFeatureCacheFile.checksum(source);
+            }
+            catch (IOException ex) {
+                LOGGER.log(Level.WARNING, "Could not checksum shapefile; adjacency is not cached", ex);
+                cache = null;
+            }
+        }
+        if (cache != null) {
+            try {
+                graph = cache.read(checksum, index.getStore());
+            }
+            catch (IOException ex) {
+                LOGGER.log(Level.WARNING, "Ignoring unreadable adjacency cache", ex);
+            }
+        }
+        if (graph == null) {
+            graph = LandAdjacencyGraph.build(index);
+            if (cache != null) {
+                try {
+                    cache.write(graph, checksum);
+                }
+                catch (IOException ex) {
+                    LOGGER.log(Level.WARNING, "Could not write adjacency cache", ex);
+                }
+            }
+        }
+        return graph;
     }
 
     /**
      * Returns the underlying feature source.
      * Kept for consumers/tests even if not referenced directly in the codebase.
      *
-     * @return the current SimpleFeatureSource, or null if none is loaded
+     * @return the current in-memory SimpleFeatureSource, or null if none is loaded
      */
     public SimpleFeatureSource getFeatureSource() {
         return featureSource;
     }
+
+    /**
+     * Returns the in-memory store of the loaded map in its native coordinates.
+     *
+     * @return the current feature store, or null if none is loaded
+     */
+    public MapFeatureStore getFeatureStore() {
+        return featureStore;
+    }
+
+    /**
+     * Makes a freshly read store the current map, indexes it and starts
+     * building its land borders in the background.
+     *
+     * @param store the store to serve queries from
+     * @param source the shapefile the store was read from, or null if it has no file
+     */
+    private void useStore(MapFeatureStore store, File source) {
+        disposeDataset();
+        cancelAdjacencyTask();
+        this.loadedPath = null;
+        if (source != null) {
+            this.loadedPath = source.getAbsolutePath();
+            this.loadedModified = source.lastModified();
+        }
+        this.featureStore = store;
+        this.featureSource = store.getFeatureSource();
+        this.featureIndex = new MapFeatureIndex(store);
+        this.displayIndex = featureIndex;
+        this.projection = MapProjection.PLATE_CARREE;
+        this.countryJoin = joinCountries(store);
+        this.adjacencyGraph = null;
+        this.displayAdjacencyGraph = null;
+        final MapFeatureIndex index = featureIndex;
+        this.adjacencyTask = adjacencyExecutor.submit(() -> loadAdjacencyGraph(index, source));
+    }
+
+    /**
+     * Joins the features of a store to the country catalog.
+     *
+     * @param store the features to join
+     * @return the join, or null if there is no catalog or it cannot be fetched
+     */
+    private CountryJoinIndex joinCountries(MapFeatureStore store) {
+        CountryJoinIndex join = null;
+        if (countryCatalog != null) {
+            try {
+                join = new CountryJoinIndex(store.getFeatures(), countryCatalog.getCountries());
+            }
+            catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Country catalog unavailable; map selections fall back to names", ex);
+            }
+        }
+        return join;
+    }
+
+    /**
+     * Stops background loading of the previous map's finer resolutions.
+     */
+    private void disposeDataset() {
+        if (dataset != null) {
+            dataset.dispose();
+            dataset = null;
+        }
+    }
+
+    /**
+     * Decodes every feature of the source once into an in-memory store.
+     *
+     * @param source the feature source to read
+     * @param checksum checksum of the files behind the source, or {@link MapFeatureStore#UNKNOWN_SOURCE}
+     * @return the store holding all features of the source
+     * @throws IOException if the features cannot be read
+     */
+    private MapFeatureStore readStore(SimpleFeatureSource source, long checksum) throws IOException {
+        final SimpleFeatureCollection collection = source.getFeatures();
+        final List<SimpleFeature> features = new ArrayList<>();
+        try (SimpleFeatureIterator iterator = collection.features()) {
+            while (iterator.hasNext()) {
+                features.add(iterator.next());
+            }
+        }
+        return new MapFeatureStore(source.getSchema(), features, null, null, checksum);
+    }
 }
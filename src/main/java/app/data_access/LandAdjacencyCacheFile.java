@@ -0,0 +1,119 @@
+package app.data_access;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import app.use_cases.explore_map.LandAdjacencyGraph;
+import app.use_cases.explore_map.MapFeatureStore;
+
+/**
+ * Binary copy of a map's {@link LandAdjacencyGraph}, kept next to its
+ * {@link MapFeatureCacheFile}.
+ *
+ * <p>
+ * The file is the graph's two int arrays behind a small header recording the
+ * checksum of the source shapefile. It is copied into a heap buffer rather
+ * than memory-mapped, so no mapping keeps it open and a stale file can always
+ * be replaced, also on Windows. A checksum mismatch, or a feature count that
+ * does not match the store, makes {@link #read(long, MapFeatureStore)} return
+ * null so the caller rebuilds the graph. Counts are checked against the file
+ * size before anything is allocated, and arrays that do not describe a graph
+ * over the store are reported as a corrupt file.
+ */
+final class LandAdjacencyCacheFile {
+
+    private static final int MAGIC = 0x474C4147;
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Bytes of the magic number, version, source checksum, feature count and neighbour count. */
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES + Integer.BYTES * 2;
+
+    private final File file;
+
+    /**
+     * @param file location of the cache file
+     */
+    LandAdjacencyCacheFile(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the cached graph if the file exists and matches the source checksum.
+     *
+     * @param sourceChecksum checksum of the current source files
+     * @param store the features the graph's positions refer to
+     * @return the cached graph, or null if the cache is missing, stale or for a different store
+     * @throws IOException if the file exists but cannot be read or is corrupt
+     */
+    LandAdjacencyGraph read(long sourceChecksum, MapFeatureStore store) throws IOException {
+        LandAdjacencyGraph result = null;
+        if (file.isFile()) {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                final ByteBuffer header = MapFeatureCacheFile.readFully(channel, HEADER_SIZE);
+                if (header.getInt() == MAGIC && header.getInt() == VERSION
+                        && header.getLong() == sourceChecksum && header.getInt() == store.size()) {
+                    final int neighbourCount = header.getInt();
+                    final long storedInts = (channel.size() - HEADER_SIZE) / Integer.BYTES;
+                    if (neighbourCount < 0 || neighbourCount != storedInts - store.size() - 1) {
+                        throw new IllegalArgumentException("Invalid neighbour count " + neighbourCount
+                                + " in adjacency cache");
+                    }
+                    final int[] offsets = new int[store.size() + 1];
+                    final int[] neighbours = new int[neighbourCount];
+                    final IntBuffer ints = MapFeatureCacheFile.readFully(channel, channel.size() - HEADER_SIZE)
+                            .asIntBuffer();
+                    ints.get(offsets);
+                    ints.get(neighbours);
+                    result = new LandAdjacencyGraph(store, offsets, neighbours);
+                }
+            }
+            catch (RuntimeException ex) {
+                // Any decoding failure means the file is corrupt; the caller rebuilds the graph.
+                throw new IOException("Corrupt adjacency cache " + file, ex);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes a graph to the cache, replacing any previous file atomically.
+     *
+     * @param graph the adjacency graph
+     * @param sourceChecksum checksum of the source files the graph was built from
+     * @throws IOException if the file cannot be written
+     */
+    void write(LandAdjacencyGraph graph, long sourceChecksum) throws IOException {
+        final File directory = file.getAbsoluteFile().getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create cache directory " + directory);
+        }
+        final int[] offsets = graph.getOffsets();
+        final int[] neighbours = graph.getNeighbourPositions();
+        final File temporary = new File(directory, file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(temporary), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sourceChecksum);
+            out.writeInt(graph.size());
+            out.writeInt(neighbours.length);
+            for (int offset : offsets) {
+                out.writeInt(offset);
+            }
+            for (int neighbour : neighbours) {
+                out.writeInt(neighbour);
+            }
+        }
+        Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
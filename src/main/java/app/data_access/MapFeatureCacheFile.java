@@ -0,0 +1,391 @@
+package app.data_access;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.referencing.CRS;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+
+import app.use_cases.explore_map.MapFeatureStore;
+
+/**
+ * Preprocessed binary copy of a shapefile's map features.
+ *
+ * <p>
+ * The file holds, per feature, its ID, envelope, the attributes the map uses,
+ * the full geometry and every simplified detail level, all as WKB. Reading it
+ * back into memory lets map startup skip shapefile and DBF decoding as well
+ * as simplification. The file is copied into a heap buffer rather than
+ * memory-mapped, so no mapping keeps it open and a stale cache can always be
+ * replaced, also on Windows. The file records a checksum of the
+ * source {@code .shp} and {@code .dbf}; a mismatch makes {@link #read(long)}
+ * return null and a damaged file makes it throw an {@link IOException}, so
+ * either way the caller regenerates it. Counts and lengths read from the file
+ * are checked against the bytes left before anything is allocated for them.
+ */
+final class MapFeatureCacheFile {
+
+    /** Source attributes copied into the cache when present and of a supported type. */
+    static final String[] CACHED_ATTRIBUTES = {
+        MapFeatureStore.NAME_ATTRIBUTE, "ISO_A3", "ADM0_A3", "CONTINENT", "REGION_UN",
+        "SUBREGION", "POP_EST", "GDP_MD", "ECONOMY", "INCOME_GRP",
+    };
+
+    private static final int MAGIC = 0x474C4D43;
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Bytes of the magic number, version and source checksum at the start of the file. */
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final String[] CHECKSUMMED_EXTENSIONS = {".shp", ".dbf"};
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_DOUBLE = 3;
+
+    private final File file;
+
+    /**
+     * @param file location of the cache file
+     */
+    MapFeatureCacheFile(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Computes a CRC32 over the geometry and attribute files of a shapefile.
+     *
+     * @param shapefile the {@code .shp} file
+     * @return the checksum of the {@code .shp} and {@code .dbf} contents
+     * @throws IOException if a source file cannot be read
+     */
+    static long checksum(File shapefile) throws IOException {
+        final CRC32 crc = new CRC32();
+        final String path = shapefile.getPath();
+        final String base = path.substring(0, path.length() - ".shp".length());
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        for (String extension : CHECKSUMMED_EXTENSIONS) {
+            final File part = new File(base + extension);
+            if (part.isFile()) {
+                try (InputStream in = Files.newInputStream(part.toPath())) {
+                    int read = in.read(buffer);
+                    while (read > 0) {
+                        crc.update(buffer, 0, read);
+                        read = in.read(buffer);
+                    }
+                }
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Reads the cached store if the file exists and matches the source checksum.
+     *
+     * @param sourceChecksum checksum of the current source files
+     * @return the cached store, or null if the cache is missing or stale
+     * @throws IOException if the file exists but cannot be read or decoded
+     */
+    MapFeatureStore read(long sourceChecksum) throws IOException {
+        MapFeatureStore result = null;
+        if (file.isFile()) {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                // A stale cache is recognised from its header alone.
+                final ByteBuffer header = readFully(channel, HEADER_SIZE);
+                if (header.getInt() == MAGIC && header.getInt() == VERSION
+                        && header.getLong() == sourceChecksum) {
+                    result = decode(readFully(channel, channel.size() - HEADER_SIZE), sourceChecksum);
+                }
+            }
+            catch (RuntimeException | ParseException | FactoryException | ClassNotFoundException ex) {
+                // Damaged data surfaces as any of underflow, bad sizes, casts or out-of-range positions.
+                throw new IOException("Corrupt map cache " + file, ex);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the next bytes of a channel into a heap buffer.
+     *
+     * @param channel the channel, positioned at the first byte wanted
+     * @param length the number of bytes wanted
+     * @return a buffer holding them, positioned at its start
+     * @throws IOException if the channel cannot be read
+     * @throws BufferUnderflowException if the file ends first
+     * @throws IllegalArgumentException if the length does not fit in a buffer
+     */
+    static ByteBuffer readFully(FileChannel channel, long length) throws IOException {
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid cache length " + length);
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        int read = 0;
+        while (buffer.hasRemaining() && read >= 0) {
+            read = channel.read(buffer);
+        }
+        if (buffer.hasRemaining()) {
+            throw new BufferUnderflowException();
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Writes a store to the cache, replacing any previous file atomically.
+     *
+     * @param store the decoded features, simplified levels are computed if needed
+     * @param sourceChecksum checksum of the source files the store was decoded from
+     * @throws IOException if the file cannot be written
+     */
+    void write(MapFeatureStore store, long sourceChecksum) throws IOException {
+        final File directory = file.getAbsoluteFile().getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create cache directory " + directory);
+        }
+        final File temporary = new File(directory, file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(temporary), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sourceChecksum);
+            encode(store, out);
+        }
+        Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void encode(MapFeatureStore store, DataOutputStream out) throws IOException {
+        final SimpleFeatureType schema = store.getSchema();
+        final List<String> attributes = cachedAttributes(schema);
+        final WKBWriter wkbWriter = new WKBWriter();
+
+        writeString(out, schema.getTypeName());
+        final CoordinateReferenceSystem crs = schema.getCoordinateReferenceSystem();
+        writeString(out, crs == null ? "" : crs.toWKT());
+        writeString(out, schema.getGeometryDescriptor().getLocalName());
+        writeString(out, schema.getGeometryDescriptor().getType().getBinding().getName());
+
+        out.writeInt(attributes.size());
+        for (String attribute : attributes) {
+            writeString(out, attribute);
+            writeString(out, schema.getDescriptor(attribute).getType().getBinding().getName());
+        }
+
+        out.writeInt(store.getDetailLevelCount());
+        out.writeInt(store.size());
+        for (int i = 0; i < store.size(); i++) {
+            final SimpleFeature feature = store.getFeature(i);
+            writeString(out, feature.getID());
+
+            final Envelope envelope = store.getEnvelope(i);
+            out.writeBoolean(envelope.isNull());
+            out.writeDouble(envelope.getMinX());
+            out.writeDouble(envelope.getMaxX());
+            out.writeDouble(envelope.getMinY());
+            out.writeDouble(envelope.getMaxY());
+
+            for (String attribute : attributes) {
+                writeValue(out, feature.getAttribute(attribute));
+            }
+
+            writeGeometry(out, wkbWriter, store.getGeometry(i));
+            for (int level = 0; level < store.getDetailLevelCount(); level++) {
+                writeGeometry(out, wkbWriter, store.getGeometry(i, level));
+            }
+        }
+    }
+
+    private static MapFeatureStore decode(ByteBuffer in, long sourceChecksum)
+            throws ParseException, FactoryException, ClassNotFoundException {
+        final SimpleFeatureTypeBuilder typeBuilder = new SimpleFeatureTypeBuilder();
+        typeBuilder.setName(readString(in));
+        final String crsWkt = readString(in);
+        if (!crsWkt.isEmpty()) {
+            typeBuilder.setCRS(CRS.parseWKT(crsWkt));
+        }
+        final String geometryName = readString(in);
+        typeBuilder.add(geometryName, Class.forName(readString(in)));
+        typeBuilder.setDefaultGeometry(geometryName);
+
+        final int attributeCount = readCount(in);
+        final String[] attributes = new String[attributeCount];
+        for (int a = 0; a < attributeCount; a++) {
+            attributes[a] = readString(in);
+            typeBuilder.add(attributes[a], Class.forName(readString(in)));
+        }
+        final SimpleFeatureType schema = typeBuilder.buildFeatureType();
+
+        final int levelCount = in.getInt();
+        if (levelCount != MapFeatureStore.FULL_DETAIL) {
+            throw new IllegalArgumentException("Unexpected detail level count " + levelCount);
+        }
+        final int size = readCount(in);
+        final WKBReader wkbReader = new WKBReader();
+        final SimpleFeatureBuilder featureBuilder = new SimpleFeatureBuilder(schema);
+        final List<SimpleFeature> features = new ArrayList<>(size);
+        final Envelope[] envelopes = new Envelope[size];
+        final Geometry[][] levels = new Geometry[levelCount][size];
+
+        for (int i = 0; i < size; i++) {
+            final String id = readString(in);
+
+            final boolean nullEnvelope = in.get() != 0;
+            final double minX = in.getDouble();
+            final double maxX = in.getDouble();
+            final double minY = in.getDouble();
+            final double maxY = in.getDouble();
+            if (nullEnvelope) {
+                envelopes[i] = new Envelope();
+            }
+            else {
+                envelopes[i] = new Envelope(minX, maxX, minY, maxY);
+            }
+
+            final Object[] values = new Object[attributeCount];
+            for (int a = 0; a < attributeCount; a++) {
+                values[a] = readValue(in);
+            }
+
+            featureBuilder.set(geometryName, readGeometry(in, wkbReader));
+            for (int a = 0; a < attributeCount; a++) {
+                featureBuilder.set(attributes[a], values[a]);
+            }
+            features.add(featureBuilder.buildFeature(id));
+
+            for (int level = 0; level < levelCount; level++) {
+                levels[level][i] = readGeometry(in, wkbReader);
+            }
+        }
+
+        return new MapFeatureStore(schema, features, envelopes, levels, sourceChecksum);
+    }
+
+    /**
+     * Lists the cached attributes present in a schema with a type the cache can store.
+     */
+    private static List<String> cachedAttributes(SimpleFeatureType schema) {
+        final List<String> result = new ArrayList<>();
+        for (String attribute : CACHED_ATTRIBUTES) {
+            final AttributeDescriptor descriptor = schema.getDescriptor(attribute);
+            if (descriptor != null) {
+                final Class<?> binding = descriptor.getType().getBinding();
+                if (String.class.equals(binding) || Number.class.isAssignableFrom(binding)) {
+                    result.add(attribute);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, (String) value);
+        }
+        else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        }
+        else if (value instanceof Number) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(((Number) value).longValue());
+        }
+        else {
+            out.writeByte(TYPE_NULL);
+        }
+    }
+
+    /**
+     * Reads a value written by {@link #writeValue}; the feature builder converts
+     * numbers to the attribute's declared type.
+     */
+    private static Object readValue(ByteBuffer in) {
+        final byte type = in.get();
+        Object result = null;
+        if (type == TYPE_STRING) {
+            result = readString(in);
+        }
+        else if (type == TYPE_DOUBLE) {
+            result = in.getDouble();
+        }
+        else if (type == TYPE_LONG) {
+            result = in.getLong();
+        }
+        return result;
+    }
+
+    private static void writeGeometry(DataOutputStream out, WKBWriter writer, Geometry geometry)
+            throws IOException {
+        if (geometry == null) {
+            out.writeInt(-1);
+        }
+        else {
+            final byte[] wkb = writer.write(geometry);
+            out.writeInt(wkb.length);
+            out.write(wkb);
+        }
+    }
+
+    private static Geometry readGeometry(ByteBuffer in, WKBReader reader) throws ParseException {
+        final int length = in.getInt();
+        Geometry result = null;
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (length >= 0) {
+            final byte[] wkb = new byte[length];
+            in.get(wkb);
+            result = reader.read(wkb);
+        }
+        return result;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        final byte[] bytes = new byte[readCount(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a count or byte length, rejecting values the rest of the file cannot hold.
+     */
+    private static int readCount(ByteBuffer in) {
+        final int count = in.getInt();
+        if (count < 0 || count > in.remaining()) {
+            throw new IllegalArgumentException("Invalid count " + count + " in map cache");
+        }
+        return count;
+    }
+}
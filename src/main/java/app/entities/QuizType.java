@@ -11,7 +11,8 @@ public enum QuizType {
     CAPITALS("Capitals Quiz"),
     FLAGS("Flags Quiz"),
     LANGUAGES("Languages Quiz"),
-    CURRENCIES("Currencies Quiz");
+    CURRENCIES("Currencies Quiz"),
+    POPULATION("Population Quiz");
 
     private final String displayName;
 
@@ -1,7 +1,11 @@
 package app.presenters;
 
+import java.util.Collections;
+
 import app.use_cases.explore_map.ExploreMapOutputBoundary;
 import app.use_cases.explore_map.ExploreMapOutputData;
+import app.use_cases.explore_map.ExploreMapProjectionOutputData;
+import app.use_cases.explore_map.MapProjection;
 import app.views.ViewModel;
 import app.views.explore_map.ExploreMapState;
 
@@ -27,12 +31,21 @@ public class ExploreMapPresenter implements ExploreMapOutputBoundary {
     /**
      * Updates the view model when a map is successfully loaded.
      *
-     * @param outputData output data containing the loaded feature source
+     * @param outputData output data containing the loaded feature source and its index
      */
     @Override
     public void prepareMapLoadedView(final ExploreMapOutputData outputData) {
         final ExploreMapState state = viewModel.getState();
         state.setFeatureSource(outputData.getFeatureSource());
+        state.setFeatureIndex(outputData.getFeatureIndex());
+        state.setDataset(outputData.getDataset());
+        state.setCountryJoin(outputData.getCountryJoin());
+        // A freshly loaded map is in its native coordinates, with nothing selected yet.
+        state.setProjection(MapProjection.PLATE_CARREE);
+        state.setSelectedFeature(null);
+        state.setSelectedCountryName(null);
+        state.setSelectedCountryCode(null);
+        state.setNeighbourFeatures(Collections.emptyList());
         state.setMapLoaded(true);
         state.setErrorMessage(null);
         viewModel.updateState(state);
@@ -41,13 +54,37 @@ public class ExploreMapPresenter implements ExploreMapOutputBoundary {
     /**
      * Updates the view model when a feature is selected.
      *
-     * @param outputData output data containing the selected feature and name
+     * @param outputData output data containing the selected feature, name and resolved code
      */
     @Override
     public void prepareFeatureSelectedView(final ExploreMapOutputData outputData) {
         final ExploreMapState state = viewModel.getState();
         state.setSelectedFeature(outputData.getSelectedFeature());
         state.setSelectedCountryName(outputData.getSelectedCountryName());
+        state.setSelectedCountryCode(outputData.getSelectedCountryCode());
+        state.setNeighbourFeatures(outputData.getNeighbourFeatures());
+        state.setErrorMessage(null);
+        viewModel.updateState(state);
+    }
+
+    /**
+     * Updates the view model when the map has been switched to another projection.
+     * Any selection is cleared, since its geometry is in the old projection.
+     *
+     * @param outputData output data containing the projection and the reprojected map
+     */
+    @Override
+    public void prepareProjectionChangedView(final ExploreMapProjectionOutputData outputData) {
+        final ExploreMapState state = viewModel.getState();
+        state.setProjection(outputData.getProjection());
+        if (outputData.getFeatureIndex() != null) {
+            state.setFeatureSource(outputData.getFeatureSource());
+            state.setFeatureIndex(outputData.getFeatureIndex());
+        }
+        state.setSelectedFeature(null);
+        state.setSelectedCountryName(null);
+        state.setSelectedCountryCode(null);
+        state.setNeighbourFeatures(Collections.emptyList());
         state.setErrorMessage(null);
         viewModel.updateState(state);
     }
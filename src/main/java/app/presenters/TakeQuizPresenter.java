@@ -37,6 +37,7 @@ public class TakeQuizPresenter implements TakeQuizOutputBoundary {
         state.setQuestionIndex(r.getQuestionIndex());
         state.setTotalQuestions(r.getTotalQuestions());
         state.setMediaUrl(r.getMediaUrl());
+        state.setUpcomingMediaUrls(r.getUpcomingMediaUrls());
         state.setShowQuestion(true);
         state.setShowFeedback(false);
         state.setShowEnd(false);
@@ -44,6 +45,20 @@ public class TakeQuizPresenter implements TakeQuizOutputBoundary {
         viewModel.updateState(state);
     }
 
+    /**
+     * Shows why a quiz could not be started.
+     */
+    @Override
+    public void prepareFailView(String errorMessage) {
+        final QuizState state = new QuizState();
+        state.setErrorMessage(errorMessage);
+        state.setShowQuestion(false);
+        state.setShowFeedback(false);
+        state.setShowEnd(false);
+        state.setShowHistory(false);
+        viewModel.updateState(state);
+    }
+
     /**
      * Displays the next question during an ongoing quiz.
      */
@@ -55,6 +70,7 @@ public class TakeQuizPresenter implements TakeQuizOutputBoundary {
         state.setQuestionIndex(r.getQuestionIndex());
         state.setTotalQuestions(r.getTotalQuestions());
         state.setMediaUrl(r.getMediaUrl());
+        state.setUpcomingMediaUrls(r.getUpcomingMediaUrls());
         state.setShowQuestion(true);
         state.setShowFeedback(false);
         state.setShowEnd(false);
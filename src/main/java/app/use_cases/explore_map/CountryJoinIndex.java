@@ -0,0 +1,130 @@
+package app.use_cases.explore_map;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+
+import app.entities.Country;
+
+/**
+ * Join between map features and the country catalog.
+ *
+ * <p>
+ * Built once when a map is loaded: each feature is matched to a catalog
+ * ordinal through its ISO 3166 alpha-3 attributes ({@code ISO_A3}, then
+ * {@code ADM0_A3}), falling back to its normalized name. Afterwards the
+ * country behind a feature is two array/hash lookups away.
+ */
+public final class CountryJoinIndex {
+
+    /** Ordinal of a feature that matched no catalog entry. */
+    public static final int NO_COUNTRY = -1;
+
+    /** Code attributes tried in order before falling back to the name. */
+    static final String[] CODE_ATTRIBUTES = {"ISO_A3", "ADM0_A3"};
+
+    private final List<Country> catalog;
+    private final int[] ordinals;
+    private final Map<String, Integer> positionsById;
+
+    /**
+     * Joins features to catalog entries.
+     *
+     * @param features the map features, in store position order
+     * @param catalog the country catalog; ordinals are positions in this list
+     */
+    public CountryJoinIndex(List<SimpleFeature> features, List<Country> catalog) {
+        this.catalog = Collections.unmodifiableList(catalog);
+        this.ordinals = new int[features.size()];
+        this.positionsById = new HashMap<>(features.size() * 2);
+
+        final Map<String, Integer> byCode = new HashMap<>(catalog.size() * 2);
+        final Map<String, Integer> byName = new HashMap<>(catalog.size() * 2);
+        for (int i = 0; i < catalog.size(); i++) {
+            byCode.put(catalog.get(i).getCode(), i);
+            byName.put(normalizeName(catalog.get(i).getName()), i);
+        }
+
+        Arrays.fill(ordinals, NO_COUNTRY);
+        for (int position = 0; position < features.size(); position++) {
+            final SimpleFeature feature = features.get(position);
+            positionsById.put(feature.getID(), position);
+
+            for (String attribute : CODE_ATTRIBUTES) {
+                final Object code = feature.getAttribute(attribute);
+                if (ordinals[position] == NO_COUNTRY && code != null && byCode.containsKey(code.toString())) {
+                    ordinals[position] = byCode.get(code.toString());
+                }
+            }
+
+            final Object name = feature.getAttribute(MapFeatureStore.NAME_ATTRIBUTE);
+            if (ordinals[position] == NO_COUNTRY && name != null) {
+                ordinals[position] = byName.getOrDefault(normalizeName(name.toString()), NO_COUNTRY);
+            }
+        }
+    }
+
+    /**
+     * Normalizes a country name for matching: accents, case, punctuation and spacing are ignored.
+     *
+     * @param name the name to normalize
+     * @return the comparison key
+     */
+    static String normalizeName(String name) {
+        return Normalizer.normalize(name, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]", "");
+    }
+
+    /**
+     * @param position the feature position
+     * @return the catalog ordinal of the feature's country, or {@link #NO_COUNTRY}
+     */
+    public int ordinalOf(int position) {
+        return ordinals[position];
+    }
+
+    /**
+     * @return the catalog the ordinals refer to
+     */
+    public List<Country> getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Finds the country behind a feature.
+     *
+     * @param feature a feature of the joined map
+     * @return the country, or null if the feature is unknown or unmatched
+     */
+    public Country getCountry(SimpleFeature feature) {
+        Country result = null;
+        final Integer position = positionsById.get(feature.getID());
+        if (position != null && ordinals[position] != NO_COUNTRY) {
+            result = catalog.get(ordinals[position]);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the catalog code of the country behind a feature.
+     *
+     * @param feature a feature of the joined map
+     * @return the country code, or null if the feature is unknown or unmatched
+     */
+    public String getCountryCode(SimpleFeature feature) {
+        final Country country = getCountry(feature);
+        String result = null;
+        if (country != null) {
+            result = country.getCode();
+        }
+        return result;
+    }
+}
@@ -26,6 +26,14 @@ public interface ExploreMapDataAccessInterface {
      */
     SimpleFeature getFeatureAtPosition(Coordinate coordinate);
 
+    /**
+     * Get the feature closest to the given coordinate within a search distance.
+     * @param coordinate the coordinate to check
+     * @param maxDistance the largest distance to search, in map units
+     * @return the closest feature, or null if none lies within the distance
+     */
+    SimpleFeature getNearestFeature(Coordinate coordinate, double maxDistance);
+
     /**
      * Get the maximum bounds of the current map.
      * @return the maximum bounds
@@ -37,4 +45,41 @@ public interface ExploreMapDataAccessInterface {
      * @param featureSource the feature source
      */
     void setFeatureSource(SimpleFeatureSource featureSource);
+
+    /**
+     * Get the hit-test index built for the current feature source.
+     * @return the feature index, or null if no map is loaded
+     */
+    MapFeatureIndex getFeatureIndex();
+
+    /**
+     * Get the multi-resolution dataset the current map belongs to.
+     * @return the dataset, or null if the map is not a known multi-resolution dataset
+     */
+    MapDataset getDataset();
+
+    /**
+     * Get the join between the current map's features and the country catalog.
+     * @return the join, or null if no map is loaded or no catalog is available
+     */
+    CountryJoinIndex getCountryJoin();
+
+    /**
+     * Get the land borders between the current map's features, waiting for them if they are still being built.
+     * @return the adjacency graph, or null if no map is loaded
+     */
+    LandAdjacencyGraph getAdjacencyGraph();
+
+    /**
+     * Get the projection feature queries and the feature index currently use.
+     * @return the current projection
+     */
+    MapProjection getProjection();
+
+    /**
+     * Switch the current map, its index and later queries to another projection.
+     * @param projection the projection to use
+     * @throws IOException if the map cannot be reprojected
+     */
+    void setProjection(MapProjection projection) throws IOException;
 }
@@ -16,4 +16,10 @@ public interface ExploreMapInputBoundary {
      * @param inputData the input data containing the selected coordinates
      */
     void selectFeature(ExploreMapSelectInputData inputData);
+
+    /**
+     * Execute the change projection use case.
+     * @param inputData the input data containing the projection to switch to
+     */
+    void changeProjection(ExploreMapProjectionInputData inputData);
 }
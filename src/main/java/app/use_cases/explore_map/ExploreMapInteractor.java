@@ -1,6 +1,9 @@
 package app.use_cases.explore_map;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.geotools.api.data.SimpleFeatureSource;
 import org.geotools.api.feature.simple.SimpleFeature;
@@ -51,7 +54,8 @@ public class ExploreMapInteractor implements ExploreMapInputBoundary {
 
             // Notify presenter that the map has been successfully loaded
             final ExploreMapOutputData outputData =
-                    new ExploreMapOutputData(featureSource, null, null);
+                    new ExploreMapOutputData(featureSource, dataAccess.getFeatureIndex(),
+                            dataAccess.getDataset(), dataAccess.getCountryJoin(), null, null, null);
             presenter.prepareMapLoadedView(outputData);
         }
         catch (IOException ioException) {
@@ -71,11 +75,30 @@ public class ExploreMapInteractor implements ExploreMapInputBoundary {
         // Convert screen coordinates into a geospatial coordinate object
         final Coordinate coordinate = new Coordinate(inputData.getX(), inputData.getY());
 
-        // Attempt to retrieve the feature at the selected location
-        final SimpleFeature feature = dataAccess.getFeatureAtPosition(coordinate);
+        // Attempt to retrieve the feature at the selected location, in the features actually drawn
+        final MapFeatureIndex drawnIndex = inputData.getFeatureIndex();
+        SimpleFeature feature;
+        if (drawnIndex != null) {
+            feature = drawnIndex.getFeatureAt(coordinate);
+        }
+        else {
+            feature = dataAccess.getFeatureAtPosition(coordinate);
+        }
+
+        // A miss, e.g. in the sea next to a small island, selects the nearest feature within tolerance
+        if (feature == null && inputData.getTolerance() > 0) {
+            if (drawnIndex != null) {
+                feature = drawnIndex.getNearestFeature(coordinate, inputData.getTolerance());
+            }
+            else {
+                feature = dataAccess.getNearestFeature(coordinate, inputData.getTolerance());
+            }
+        }
 
-        // The displayed name defaults to null if no feature is found
+        // The displayed name and resolved code default to null if no feature is found
         String countryName = null;
+        String countryCode = null;
+        List<SimpleFeature> neighbours = Collections.emptyList();
         if (feature != null) {
             // Attempt to read the country name attribute from the feature
             final Object nameAttribute = feature.getAttribute("NAME");
@@ -83,11 +106,80 @@ public class ExploreMapInteractor implements ExploreMapInputBoundary {
                     ? nameAttribute.toString()
                     : feature.getID();
 
+            // The join and the land borders cover the loaded map; a finer resolution's
+            // feature is looked up through its counterpart there
+            SimpleFeature loadedFeature = feature;
+            final MapFeatureIndex loadedIndex = dataAccess.getFeatureIndex();
+            if (loadedIndex != null) {
+                final SimpleFeature counterpart = loadedIndex.getStore().counterpartOf(feature);
+                if (counterpart != null) {
+                    loadedFeature = counterpart;
+                }
+            }
+
+            // Resolve the catalog country through the join built at map load
+            final CountryJoinIndex countryJoin = dataAccess.getCountryJoin();
+            if (countryJoin != null) {
+                countryCode = countryJoin.getCountryCode(loadedFeature);
+            }
+
+            // Look up the countries sharing a land border with the selection
+            final LandAdjacencyGraph adjacency = dataAccess.getAdjacencyGraph();
+            if (adjacency != null) {
+                neighbours = drawnFeatures(adjacency.getNeighbours(loadedFeature), drawnIndex);
+            }
         }
 
         // Send selected feature details to the presenter for display
         final ExploreMapOutputData outputData =
-                new ExploreMapOutputData(null, feature, countryName);
+                new ExploreMapOutputData(null, null, null, null, feature, countryName, countryCode,
+                        neighbours);
         presenter.prepareFeatureSelectedView(outputData);
     }
+
+    /**
+     * Maps features of the loaded map to their counterparts among the drawn features.
+     *
+     * @param features features of the loaded map
+     * @param drawnIndex the index of the drawn features, or null if the loaded map is drawn
+     * @return the drawn features, skipping any without a counterpart
+     */
+    private static List<SimpleFeature> drawnFeatures(List<SimpleFeature> features, MapFeatureIndex drawnIndex) {
+        List<SimpleFeature> result = features;
+        if (drawnIndex != null) {
+            result = new ArrayList<>(features.size());
+            for (SimpleFeature feature : features) {
+                final SimpleFeature counterpart = drawnIndex.getStore().counterpartOf(feature);
+                if (counterpart != null) {
+                    result.add(counterpart);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Switches the map to another projection and informs the presenter of the
+     * reprojected features, or of the failure.
+     *
+     * @param inputData the projection to switch to
+     */
+    @Override
+    public void changeProjection(ExploreMapProjectionInputData inputData) {
+        try {
+            dataAccess.setProjection(inputData.getProjection());
+
+            // Report the reprojected map, if one is loaded
+            final MapFeatureIndex featureIndex = dataAccess.getFeatureIndex();
+            SimpleFeatureSource featureSource = null;
+            if (featureIndex != null) {
+                featureSource = featureIndex.getStore().getFeatureSource();
+            }
+            presenter.prepareProjectionChangedView(new ExploreMapProjectionOutputData(
+                    dataAccess.getProjection(), featureSource, featureIndex));
+        }
+        catch (IOException ioException) {
+            presenter.prepareFailView("Error changing projection: " + ioException.getMessage());
+        }
+    }
 }
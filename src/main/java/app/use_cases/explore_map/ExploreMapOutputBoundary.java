@@ -17,6 +17,12 @@ public interface ExploreMapOutputBoundary {
      */
     void prepareFeatureSelectedView(ExploreMapOutputData outputData);
 
+    /**
+     * Prepares the view after the map projection changed.
+     * @param outputData the output data
+     */
+    void prepareProjectionChangedView(ExploreMapProjectionOutputData outputData);
+
     /**
      * Prepares the failure view for the Explore Map Use Case.
      * @param errorMessage the explanation of the failure
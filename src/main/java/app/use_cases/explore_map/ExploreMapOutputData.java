@@ -1,5 +1,8 @@
 package app.use_cases.explore_map;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.geotools.api.data.SimpleFeatureSource;
 import org.geotools.api.feature.simple.SimpleFeature;
 
@@ -11,25 +14,78 @@ public class ExploreMapOutputData {
     /** The loaded map feature source, if available. */
     private final SimpleFeatureSource featureSource;
 
+    /** The hit-test index for the loaded map, if available. */
+    private final MapFeatureIndex featureIndex;
+
+    /** The finer resolutions of the loaded map, if available. */
+    private final MapDataset dataset;
+
+    /** The join between the loaded map and the country catalog, if available. */
+    private final CountryJoinIndex countryJoin;
+
     /** The feature selected by the user, if any. */
     private final SimpleFeature selectedFeature;
 
     /** The name of the selected country, if available. */
     private final String selectedCountryName;
 
+    /** The catalog code of the selected country, if it could be resolved. */
+    private final String selectedCountryCode;
+
+    /** The features sharing a land border with the selected feature. */
+    private final List<SimpleFeature> neighbourFeatures;
+
     /**
      * Constructs output data for map loading or feature selection results.
      *
      * @param featureSource the map data source, or null if unchanged
+     * @param featureIndex the hit-test index for the map, or null if unchanged
+     * @param dataset the multi-resolution dataset of the map, or null if none
+     * @param countryJoin the join from map features to catalog countries, or null if none
+     * @param selectedFeature the selected feature, or null if none
+     * @param selectedCountryName the feature's country name, or null if not applicable
+     * @param selectedCountryCode the catalog code of the selected country, or null if unresolved
+     */
+    public ExploreMapOutputData(SimpleFeatureSource featureSource,
+                                MapFeatureIndex featureIndex,
+                                MapDataset dataset,
+                                CountryJoinIndex countryJoin,
+                                SimpleFeature selectedFeature,
+                                String selectedCountryName,
+                                String selectedCountryCode) {
+        this(featureSource, featureIndex, dataset, countryJoin, selectedFeature,
+                selectedCountryName, selectedCountryCode, Collections.emptyList());
+    }
+
+    /**
+     * Constructs output data for a feature selection, including the selected
+     * feature's land neighbours.
+     *
+     * @param featureSource the map data source, or null if unchanged
+     * @param featureIndex the hit-test index for the map, or null if unchanged
+     * @param dataset the multi-resolution dataset of the map, or null if none
+     * @param countryJoin the join from map features to catalog countries, or null if none
      * @param selectedFeature the selected feature, or null if none
      * @param selectedCountryName the feature's country name, or null if not applicable
+     * @param selectedCountryCode the catalog code of the selected country, or null if unresolved
+     * @param neighbourFeatures the features bordering the selected one, never null
      */
     public ExploreMapOutputData(SimpleFeatureSource featureSource,
+                                MapFeatureIndex featureIndex,
+                                MapDataset dataset,
+                                CountryJoinIndex countryJoin,
                                 SimpleFeature selectedFeature,
-                                String selectedCountryName) {
+                                String selectedCountryName,
+                                String selectedCountryCode,
+                                List<SimpleFeature> neighbourFeatures) {
         this.featureSource = featureSource;
+        this.featureIndex = featureIndex;
+        this.dataset = dataset;
+        this.countryJoin = countryJoin;
         this.selectedFeature = selectedFeature;
         this.selectedCountryName = selectedCountryName;
+        this.selectedCountryCode = selectedCountryCode;
+        this.neighbourFeatures = neighbourFeatures;
     }
 
     /**
@@ -39,6 +95,27 @@ public class ExploreMapOutputData {
         return featureSource;
     }
 
+    /**
+     * @return the hit-test index for the loaded map
+     */
+    public MapFeatureIndex getFeatureIndex() {
+        return featureIndex;
+    }
+
+    /**
+     * @return the multi-resolution dataset of the loaded map, or null if none
+     */
+    public MapDataset getDataset() {
+        return dataset;
+    }
+
+    /**
+     * @return the join from map features to catalog countries, or null if none
+     */
+    public CountryJoinIndex getCountryJoin() {
+        return countryJoin;
+    }
+
     /**
      * @return the selected feature, or null if none
      */
@@ -52,4 +129,18 @@ public class ExploreMapOutputData {
     public String getSelectedCountryName() {
         return selectedCountryName;
     }
+
+    /**
+     * @return the catalog code of the selected country, or null if unresolved
+     */
+    public String getSelectedCountryCode() {
+        return selectedCountryCode;
+    }
+
+    /**
+     * @return the features sharing a land border with the selected feature
+     */
+    public List<SimpleFeature> getNeighbourFeatures() {
+        return neighbourFeatures;
+    }
 }
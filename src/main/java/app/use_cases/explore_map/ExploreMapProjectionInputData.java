@@ -0,0 +1,26 @@
+package app.use_cases.explore_map;
+
+/**
+ * Input data for changing the projection the map is shown in.
+ */
+public class ExploreMapProjectionInputData {
+
+    /** The projection to switch to. */
+    private final MapProjection projection;
+
+    /**
+     * Create input data with a selected projection.
+     *
+     * @param projection the projection to show the map in
+     */
+    public ExploreMapProjectionInputData(MapProjection projection) {
+        this.projection = projection;
+    }
+
+    /**
+     * @return the selected projection
+     */
+    public MapProjection getProjection() {
+        return projection;
+    }
+}
@@ -0,0 +1,54 @@
+package app.use_cases.explore_map;
+
+import org.geotools.api.data.SimpleFeatureSource;
+
+/**
+ * Output data for a change of map projection.
+ */
+public class ExploreMapProjectionOutputData {
+
+    /** The projection the map is now shown in. */
+    private final MapProjection projection;
+
+    /** The map features in the new projection, if a map is loaded. */
+    private final SimpleFeatureSource featureSource;
+
+    /** The hit-test index over the features in the new projection, if a map is loaded. */
+    private final MapFeatureIndex featureIndex;
+
+    /**
+     * Constructs output data for a projection change.
+     *
+     * @param projection the projection the map is now shown in
+     * @param featureSource the reprojected features, or null if no map is loaded
+     * @param featureIndex the index over the reprojected features, or null if no map is loaded
+     */
+    public ExploreMapProjectionOutputData(MapProjection projection,
+                                          SimpleFeatureSource featureSource,
+                                          MapFeatureIndex featureIndex) {
+        this.projection = projection;
+        this.featureSource = featureSource;
+        this.featureIndex = featureIndex;
+    }
+
+    /**
+     * @return the projection the map is now shown in
+     */
+    public MapProjection getProjection() {
+        return projection;
+    }
+
+    /**
+     * @return the reprojected features, or null if no map is loaded
+     */
+    public SimpleFeatureSource getFeatureSource() {
+        return featureSource;
+    }
+
+    /**
+     * @return the index over the reprojected features, or null if no map is loaded
+     */
+    public MapFeatureIndex getFeatureIndex() {
+        return featureIndex;
+    }
+}
@@ -11,15 +11,50 @@ public class ExploreMapSelectInputData {
     /** Screen y-coordinate of the selection point. */
     private final double y;
 
+    /** Distance around the selection point within which the nearest feature is accepted. */
+    private final double tolerance;
+
+    /** Index of the features currently drawn, or null to use the loaded map's. */
+    private final MapFeatureIndex featureIndex;
+
     /**
-     * Creates input data for a selection event.
+     * Creates input data for a selection event that only hits features
+     * containing the selection point.
      *
      * @param screenX the x-position of the selection on the screen
      * @param screenY the y-position of the selection on the screen
      */
     public ExploreMapSelectInputData(double screenX, double screenY) {
+        this(screenX, screenY, 0);
+    }
+
+    /**
+     * Creates input data for a selection event that falls back to the nearest
+     * feature within a tolerance when the point misses every feature.
+     *
+     * @param screenX the x-position of the selection on the screen
+     * @param screenY the y-position of the selection on the screen
+     * @param tolerance the search distance, in the same units as the position
+     */
+    public ExploreMapSelectInputData(double screenX, double screenY, double tolerance) {
+        this(screenX, screenY, tolerance, null);
+    }
+
+    /**
+     * Creates input data for a selection event hit-tested against the
+     * features currently drawn, such as a finer resolution of the loaded map.
+     *
+     * @param screenX the x-position of the selection on the screen
+     * @param screenY the y-position of the selection on the screen
+     * @param tolerance the search distance, in the same units as the position
+     * @param featureIndex the index of the drawn features, or null to use the loaded map's
+     */
+    public ExploreMapSelectInputData(double screenX, double screenY, double tolerance,
+                                     MapFeatureIndex featureIndex) {
         this.x = screenX;
         this.y = screenY;
+        this.tolerance = tolerance;
+        this.featureIndex = featureIndex;
     }
 
     /**
@@ -39,4 +74,22 @@ public class ExploreMapSelectInputData {
     public double getY() {
         return y;
     }
+
+    /**
+     * Returns the distance within which the nearest feature is selected.
+     *
+     * @return the tolerance, or zero to only select a containing feature
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Returns the index the selection is hit-tested against.
+     *
+     * @return the index of the drawn features, or null to use the loaded map's
+     */
+    public MapFeatureIndex getFeatureIndex() {
+        return featureIndex;
+    }
 }
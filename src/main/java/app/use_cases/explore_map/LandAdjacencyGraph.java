@@ -0,0 +1,193 @@
+package app.use_cases.explore_map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+
+/**
+ * Immutable graph of which map features share a land border, derived from
+ * their geometries rather than from the country catalog.
+ *
+ * <p>
+ * The graph is stored in compressed sparse row form: the neighbours of the
+ * feature at position {@code p} are {@code neighbours[offsets[p]]} up to,
+ * but excluding, {@code neighbours[offsets[p + 1]]}, sorted ascending. That
+ * is two int arrays for the whole map, which are also what the disk cache
+ * stores.
+ *
+ * <p>
+ * {@link #build(MapFeatureIndex)} only tests pairs whose envelopes overlap,
+ * as reported by the index's STRtree, and tests each such pair once with the
+ * index's prepared geometry. Features whose outlines merely touch intersect,
+ * so touching borders count as adjacency.
+ */
+public final class LandAdjacencyGraph {
+
+    private static final int INITIAL_EDGE_CAPACITY = 64;
+
+    private final MapFeatureStore store;
+    private final int[] offsets;
+    private final int[] neighbours;
+
+    /**
+     * Creates a graph from arrays computed earlier, for example read back from a cache.
+     *
+     * @param store the features the positions refer to
+     * @param offsets start of each feature's neighbours, with one trailing entry for the end
+     * @param neighbours the sorted neighbour positions of all features, back to back
+     * @throws IllegalArgumentException if the arrays do not describe a graph over the store
+     */
+    public LandAdjacencyGraph(MapFeatureStore store, int[] offsets, int[] neighbours) {
+        this.store = store;
+        this.offsets = offsets.clone();
+        this.neighbours = neighbours.clone();
+        if (!describesGraph(store.size(), this.offsets, this.neighbours)) {
+            throw new IllegalArgumentException("Adjacency arrays do not match a store of "
+                    + store.size() + " features");
+        }
+    }
+
+    /**
+     * Checks that the arrays form rows over {@code size} features: offsets start
+     * at zero, never decrease and end at the neighbour count, and every
+     * neighbour is a position in the store.
+     *
+     * @param size the number of features in the store
+     * @param offsets the row offsets
+     * @param neighbours the neighbour positions
+     * @return whether every lookup through the arrays stays in bounds
+     */
+    private static boolean describesGraph(int size, int[] offsets, int[] neighbours) {
+        boolean valid = offsets.length == size + 1 && offsets[0] == 0 && offsets[size] == neighbours.length;
+        for (int position = 0; position < size && valid; position++) {
+            valid = offsets[position] <= offsets[position + 1];
+        }
+        for (int index = 0; index < neighbours.length && valid; index++) {
+            valid = neighbours[index] >= 0 && neighbours[index] < size;
+        }
+        return valid;
+    }
+
+    /**
+     * Computes the adjacency of every feature in an index's store.
+     *
+     * @param index the hit-test index whose spatial index and prepared geometries are reused
+     * @return the adjacency graph
+     */
+    public static LandAdjacencyGraph build(MapFeatureIndex index) {
+        final MapFeatureStore store = index.getStore();
+        final int size = store.size();
+        final int[] degree = new int[size];
+        int[] edges = new int[INITIAL_EDGE_CAPACITY];
+        int edgeCount = 0;
+
+        for (int first = 0; first < size; first++) {
+            final PreparedGeometry prepared = index.preparedGeometry(first);
+            if (prepared != null) {
+                for (int second : index.candidatesIn(store.getEnvelope(first))) {
+                    // Each unordered pair is tested once, from its lower position.
+                    if (second > first && index.preparedGeometry(second) != null
+                            && prepared.intersects(store.getGeometry(second))) {
+                        if (edgeCount + 2 > edges.length) {
+                            edges = Arrays.copyOf(edges, edges.length * 2);
+                        }
+                        edges[edgeCount++] = first;
+                        edges[edgeCount++] = second;
+                        degree[first]++;
+                        degree[second]++;
+                    }
+                }
+            }
+        }
+
+        final int[] offsets = new int[size + 1];
+        for (int position = 0; position < size; position++) {
+            offsets[position + 1] = offsets[position] + degree[position];
+        }
+        final int[] neighbours = new int[offsets[size]];
+        final int[] cursor = Arrays.copyOf(offsets, size);
+        for (int edge = 0; edge < edgeCount; edge += 2) {
+            neighbours[cursor[edges[edge]]++] = edges[edge + 1];
+            neighbours[cursor[edges[edge + 1]]++] = edges[edge];
+        }
+        for (int position = 0; position < size; position++) {
+            Arrays.sort(neighbours, offsets[position], offsets[position + 1]);
+        }
+        return new LandAdjacencyGraph(store, offsets, neighbours);
+    }
+
+    /**
+     * @return the store whose feature positions this graph refers to
+     */
+    public MapFeatureStore getStore() {
+        return store;
+    }
+
+    /**
+     * @return the number of features in the graph
+     */
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * @param position the feature position
+     * @return the number of features sharing a border with it
+     */
+    public int degree(int position) {
+        return offsets[position + 1] - offsets[position];
+    }
+
+    /**
+     * @param position the feature position
+     * @return the positions of the features sharing a border with it, ascending
+     */
+    public int[] neighboursOf(int position) {
+        return Arrays.copyOfRange(neighbours, offsets[position], offsets[position + 1]);
+    }
+
+    /**
+     * @param first a feature position
+     * @param second another feature position
+     * @return whether the two features share a border
+     */
+    public boolean areAdjacent(int first, int second) {
+        return Arrays.binarySearch(neighbours, offsets[first], offsets[first + 1], second) >= 0;
+    }
+
+    /**
+     * Returns the features sharing a border with a feature of the graph's store.
+     *
+     * @param feature the feature to look up
+     * @return its neighbouring features, or an empty list if it is not in the store
+     */
+    public List<SimpleFeature> getNeighbours(SimpleFeature feature) {
+        final int position = store.positionOf(feature);
+        List<SimpleFeature> result = Collections.emptyList();
+        if (position != MapFeatureIndex.NO_FEATURE) {
+            result = new ArrayList<>(degree(position));
+            for (int index = offsets[position]; index < offsets[position + 1]; index++) {
+                result.add(store.getFeature(neighbours[index]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return a copy of the row offsets, one per feature plus a trailing end offset
+     */
+    public int[] getOffsets() {
+        return offsets.clone();
+    }
+
+    /**
+     * @return a copy of the neighbour positions of all features, back to back
+     */
+    public int[] getNeighbourPositions() {
+        return neighbours.clone();
+    }
+}
@@ -0,0 +1,167 @@
+package app.use_cases.explore_map;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The set of Natural Earth resolutions behind the explore map.
+ *
+ * <p>
+ * The base resolution is loaded up front and always kept. Finer resolutions
+ * are loaded on a background thread when the display asks for them, one
+ * step at a time, so a jump to deep zoom first gets the intermediate
+ * dataset and then the finest. At most {@link #MAX_LOADED} resolutions are
+ * held in memory; the least recently used finer one is dropped to make room.
+ * A dataset whose file is missing or unreadable is marked unavailable and
+ * never retried.
+ */
+public final class MapDataset {
+
+    /** Maximum number of resolutions kept in memory, including the base one. */
+    public static final int MAX_LOADED = 2;
+
+    private static final Logger LOGGER = Logger.getLogger(MapDataset.class.getName());
+
+    /**
+     * Reads the features of one resolution. Called on the loading thread.
+     */
+    public interface Loader {
+        /**
+         * @param resolution the dataset to read
+         * @return the decoded features
+         * @throws IOException if the dataset is missing or cannot be read
+         */
+        MapFeatureStore load(MapResolution resolution) throws IOException;
+    }
+
+    private final MapResolution baseResolution;
+    private final MapFeatureIndex baseIndex;
+    private final Loader loader;
+    private final Map<MapResolution, MapFeatureIndex> loaded = new LinkedHashMap<>(MAX_LOADED, 0.75f, true);
+    private final Set<MapResolution> queued = EnumSet.noneOf(MapResolution.class);
+    private final Set<MapResolution> unavailable = EnumSet.noneOf(MapResolution.class);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "map-dataset-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private boolean disposed;
+
+    /**
+     * Creates a dataset around an already loaded base resolution.
+     *
+     * @param baseResolution the resolution that is already loaded
+     * @param baseIndex the index over the base resolution's features
+     * @param loader reads finer resolutions on demand
+     */
+    public MapDataset(MapResolution baseResolution, MapFeatureIndex baseIndex, Loader loader) {
+        this.baseResolution = baseResolution;
+        this.baseIndex = baseIndex;
+        this.loader = loader;
+    }
+
+    /**
+     * @return the resolution that is always loaded
+     */
+    public MapResolution getBaseResolution() {
+        return baseResolution;
+    }
+
+    /**
+     * Returns the finest loaded resolution that is not finer than a display needs.
+     *
+     * @param worldPerPixel degrees per screen pixel of the display
+     * @return the resolution to draw with right now
+     */
+    public synchronized MapResolution bestLoaded(double worldPerPixel) {
+        final MapResolution wanted = MapResolution.forScale(worldPerPixel);
+        MapResolution result = baseResolution;
+        for (MapResolution resolution : MapResolution.values()) {
+            if (resolution.compareTo(baseResolution) > 0 && resolution.compareTo(wanted) <= 0
+                    && loaded.containsKey(resolution)) {
+                result = resolution;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of a loaded resolution and marks it as recently used.
+     *
+     * @param resolution the resolution
+     * @return its index, or null if it is not loaded
+     */
+    public synchronized MapFeatureIndex getIndex(MapResolution resolution) {
+        MapFeatureIndex result = baseIndex;
+        if (resolution != baseResolution) {
+            result = loaded.get(resolution);
+        }
+        return result;
+    }
+
+    /**
+     * Starts loading every resolution between the base one and the one a
+     * display needs, coarsest first. Already loaded, queued or unavailable
+     * resolutions are skipped, and nothing is loaded once the dataset is disposed.
+     *
+     * @param worldPerPixel degrees per screen pixel of the display
+     * @param onLoaded called on the loading thread each time a resolution becomes available
+     */
+    public synchronized void request(double worldPerPixel, Consumer<MapResolution> onLoaded) {
+        final MapResolution wanted = MapResolution.forScale(worldPerPixel);
+        for (MapResolution resolution : MapResolution.values()) {
+            if (!disposed && resolution.compareTo(baseResolution) > 0 && resolution.compareTo(wanted) <= 0
+                    && !loaded.containsKey(resolution)
+                    && !unavailable.contains(resolution)
+                    && queued.add(resolution)) {
+                executor.execute(() -> load(resolution, onLoaded));
+            }
+        }
+    }
+
+    /**
+     * Stops loading. Resolutions already loaded stay available; later requests are ignored.
+     */
+    public synchronized void dispose() {
+        disposed = true;
+        executor.shutdownNow();
+    }
+
+    private void load(MapResolution resolution, Consumer<MapResolution> onLoaded) {
+        MapFeatureIndex index = null;
+        try {
+            index = new MapFeatureIndex(loader.load(resolution));
+        }
+        catch (IOException ex) {
+            LOGGER.log(Level.INFO, "Map resolution " + resolution + " is not available: " + ex.getMessage());
+        }
+        store(resolution, index);
+        if (index != null) {
+            onLoaded.accept(resolution);
+        }
+    }
+
+    /**
+     * Records the outcome of a load, evicting the least recently used finer resolution if full.
+     */
+    private synchronized void store(MapResolution resolution, MapFeatureIndex index) {
+        queued.remove(resolution);
+        if (index == null) {
+            unavailable.add(resolution);
+        }
+        else {
+            while (loaded.size() >= MAX_LOADED - 1) {
+                loaded.remove(loaded.keySet().iterator().next());
+            }
+            loaded.put(resolution, index);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package app.use_cases.explore_map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+
+/**
+ * Simplified copies of a store's geometries at a fixed set of tolerances.
+ *
+ * <p>
+ * Level 0 is the coarsest; its tolerance is about one pixel when the whole
+ * map fits in {@link #COARSEST_WIDTH_PIXELS} pixels, and each further level
+ * is {@link #LEVEL_RATIO} times finer. {@link #FULL_DETAIL} addresses the
+ * original geometries. Levels are simplified with topology preservation on
+ * first use and then shared, so they are safe to request from render threads.
+ * Levels computed earlier can be seeded instead.
+ */
+final class MapDetailLevels {
+
+    /** Number of simplified levels below full detail. */
+    static final int LEVEL_COUNT = 4;
+
+    /** Level addressing the unsimplified geometries. */
+    static final int FULL_DETAIL = LEVEL_COUNT;
+
+    private static final double COARSEST_WIDTH_PIXELS = 1024.0;
+    private static final double LEVEL_RATIO = 4.0;
+
+    /** A level is used while its tolerance stays under this fraction of a screen pixel. */
+    private static final double PIXEL_FRACTION = 0.5;
+
+    private final SimpleFeatureType schema;
+    private final List<SimpleFeature> features;
+    private final Geometry[] geometries;
+    private final double[] tolerances = new double[LEVEL_COUNT];
+    private final Level[] levels = new Level[LEVEL_COUNT];
+
+    /**
+     * Prepares the level tolerances; no geometry is simplified yet.
+     *
+     * @param schema the feature type of the store
+     * @param features the full-detail features
+     * @param geometries the full-detail geometries, by feature position
+     * @param bounds the combined bounds of all features
+     */
+    MapDetailLevels(SimpleFeatureType schema, List<SimpleFeature> features,
+                    Geometry[] geometries, Envelope bounds) {
+        this.schema = schema;
+        this.features = features;
+        this.geometries = geometries;
+
+        double tolerance = Math.max(bounds.getWidth(), bounds.getHeight()) / COARSEST_WIDTH_PIXELS;
+        for (int level = 0; level < LEVEL_COUNT; level++) {
+            tolerances[level] = tolerance;
+            tolerance /= LEVEL_RATIO;
+        }
+    }
+
+    /**
+     * Picks the coarsest level whose simplification stays below half a pixel.
+     *
+     * @param worldPerPixel world units per screen pixel
+     * @return the detail level to draw or hit-test with
+     */
+    int levelFor(double worldPerPixel) {
+        int result = FULL_DETAIL;
+        for (int level = 0; level < LEVEL_COUNT && result == FULL_DETAIL; level++) {
+            if (tolerances[level] <= worldPerPixel * PIXEL_FRACTION) {
+                result = level;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param level the detail level
+     * @return the distance tolerance of the level, zero for full detail
+     */
+    double toleranceOf(int level) {
+        double result = 0.0;
+        if (level < LEVEL_COUNT) {
+            result = tolerances[level];
+        }
+        return result;
+    }
+
+    /**
+     * @param position the feature position
+     * @param level the detail level
+     * @return the feature geometry at that level, possibly null
+     */
+    Geometry getGeometry(int position, int level) {
+        Geometry result = geometries[position];
+        if (level < LEVEL_COUNT) {
+            result = level(level).geometries[position];
+        }
+        return result;
+    }
+
+    /**
+     * @param level a simplified detail level
+     * @return a feature source over the features of that level
+     */
+    SimpleFeatureSource getFeatureSource(int level) {
+        return level(level).featureSource;
+    }
+
+    /**
+     * Installs precomputed geometries for a level, skipping its simplification.
+     *
+     * @param level a simplified level
+     * @param simplified the level's geometries, by feature position
+     */
+    synchronized void seed(int level, Geometry[] simplified) {
+        levels[level] = buildLevel(simplified);
+    }
+
+    /**
+     * Returns a level, simplifying it on first use.
+     */
+    private synchronized Level level(int level) {
+        if (levels[level] == null) {
+            levels[level] = simplify(tolerances[level]);
+        }
+        return levels[level];
+    }
+
+    private Level simplify(double tolerance) {
+        final Geometry[] simplified = new Geometry[geometries.length];
+        for (int i = 0; i < geometries.length; i++) {
+            final Geometry geometry = geometries[i];
+            if (geometry != null && !geometry.isEmpty()) {
+                simplified[i] = TopologyPreservingSimplifier.simplify(geometry, tolerance);
+            }
+            else {
+                simplified[i] = geometry;
+            }
+        }
+        return buildLevel(simplified);
+    }
+
+    private Level buildLevel(Geometry[] simplified) {
+        final List<SimpleFeature> simplifiedFeatures = new ArrayList<>(features.size());
+        for (int i = 0; i < simplified.length; i++) {
+            // Copies keep the feature ID, so positions resolve the same at every level.
+            final SimpleFeature copy = SimpleFeatureBuilder.copy(features.get(i));
+            copy.setDefaultGeometry(simplified[i]);
+            simplifiedFeatures.add(copy);
+        }
+        return new Level(simplified,
+                DataUtilities.source(new ListFeatureCollection(schema, simplifiedFeatures)));
+    }
+
+    /**
+     * Simplified geometries of one level with a feature source over them.
+     */
+    private static final class Level {
+        private final Geometry[] geometries;
+        private final SimpleFeatureSource featureSource;
+
+        Level(Geometry[] geometries, SimpleFeatureSource featureSource) {
+            this.geometries = geometries;
+            this.featureSource = featureSource;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package app.use_cases.explore_map;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Immutable point-in-polygon index over the features of a loaded map.
+ *
+ * <p>
+ * Every feature geometry is prepared once when the index is built, so repeated
+ * hit tests against the same coastline reuse its segment index instead of
+ * re-walking every vertex. Candidates are found through an STRtree over the
+ * feature envelopes. Features are addressed by their position in the
+ * {@link MapFeatureStore} the index was built from.
+ *
+ * <p>
+ * Lookups made at a display scale test against the store's simplified detail
+ * level for that scale, so they agree with what is drawn and stay cheap when
+ * zoomed out. Prepared geometries of a level are built on first use.
+ *
+ * <p>
+ * Clicks that miss every feature can fall back to a nearest-feature query
+ * bounded by a search distance. Only features whose envelope lies within that
+ * distance are considered, in order of envelope distance, and the search stops
+ * as soon as the next envelope is farther away than the closest geometry found
+ * so far, so exact distances are computed for a handful of features at most.
+ */
+public final class MapFeatureIndex {
+
+    /** Returned by {@link #indexAt(Coordinate)} when no feature contains the point. */
+    public static final int NO_FEATURE = -1;
+
+    private final MapFeatureStore store;
+    private final PreparedGeometry[][] preparedLevels;
+    private final STRtree tree = new STRtree();
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    /**
+     * Builds the index, preparing every non-empty feature geometry of the store.
+     *
+     * @param store the in-memory features to index
+     */
+    public MapFeatureIndex(MapFeatureStore store) {
+        this.store = store;
+        this.preparedLevels = new PreparedGeometry[MapFeatureStore.FULL_DETAIL + 1][];
+        this.preparedLevels[MapFeatureStore.FULL_DETAIL] = prepare(MapFeatureStore.FULL_DETAIL);
+
+        for (int i = 0; i < store.size(); i++) {
+            if (preparedLevels[MapFeatureStore.FULL_DETAIL][i] != null) {
+                tree.insert(store.getEnvelope(i), i);
+            }
+        }
+        tree.build();
+    }
+
+    /**
+     * @return the store whose features this index covers
+     */
+    public MapFeatureStore getStore() {
+        return store;
+    }
+
+    /**
+     * @return the number of indexed features
+     */
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * Returns the feature stored at the given position.
+     *
+     * @param index the feature position
+     * @return the feature
+     */
+    public SimpleFeature getFeature(int index) {
+        return store.getFeature(index);
+    }
+
+    /**
+     * Finds the position of the feature whose geometry contains the coordinate.
+     *
+     * @param coordinate the world coordinate to test
+     * @return the feature position, or {@link #NO_FEATURE}
+     */
+    public int indexAt(Coordinate coordinate) {
+        return indexAtLevel(coordinate, MapFeatureStore.FULL_DETAIL);
+    }
+
+    /**
+     * Finds the position of the feature containing the coordinate, using the
+     * detail level drawn at the given display scale.
+     *
+     * @param coordinate the world coordinate to test
+     * @param worldPerPixel world units per screen pixel of the display
+     * @return the feature position, or {@link #NO_FEATURE}
+     */
+    public int indexAt(Coordinate coordinate, double worldPerPixel) {
+        return indexAtLevel(coordinate, store.detailLevelFor(worldPerPixel));
+    }
+
+    private int indexAtLevel(Coordinate coordinate, int level) {
+        int result = NO_FEATURE;
+        final PreparedGeometry[] prepared = preparedLevel(level);
+        final Point point = geometryFactory.createPoint(coordinate);
+        // Simplified outlines may stray from the original envelope by up to the tolerance.
+        final Envelope searchArea = new Envelope(coordinate);
+        searchArea.expandBy(store.getDetailTolerance(level));
+        final List<?> candidates = tree.query(searchArea);
+        for (Object candidate : candidates) {
+            final int index = (Integer) candidate;
+            if (prepared[index] != null && prepared[index].contains(point)) {
+                result = index;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the position of the feature closest to the coordinate, provided it
+     * lies within the given distance. A feature containing the coordinate is
+     * at distance zero.
+     *
+     * @param coordinate the world coordinate to test
+     * @param maxDistance the largest distance, in world units, to search
+     * @return the closest feature position, or {@link #NO_FEATURE}
+     */
+    public int nearestIndex(Coordinate coordinate, double maxDistance) {
+        int result = NO_FEATURE;
+        final PreparedGeometry[] prepared = preparedLevel(MapFeatureStore.FULL_DETAIL);
+        final Point point = geometryFactory.createPoint(coordinate);
+        final Envelope searchArea = new Envelope(coordinate);
+        searchArea.expandBy(maxDistance);
+
+        // Envelope distance is a lower bound on geometry distance, so visiting
+        // candidates nearest-envelope first lets the search stop early.
+        final List<Candidate> candidates = new ArrayList<>();
+        for (Object item : tree.query(searchArea)) {
+            final int index = (Integer) item;
+            final double bound = store.getEnvelope(index).distance(point.getEnvelopeInternal());
+            if (prepared[index] != null && bound <= maxDistance) {
+                candidates.add(new Candidate(index, bound));
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(Candidate::getBound));
+
+        double best = maxDistance;
+        for (Candidate candidate : candidates) {
+            if (candidate.getBound() > best) {
+                break;
+            }
+            final double distance = prepared[candidate.getIndex()].getGeometry().distance(point);
+            if (distance <= best) {
+                best = distance;
+                result = candidate.getIndex();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the feature closest to the coordinate within the given distance.
+     *
+     * @param coordinate the world coordinate to test
+     * @param maxDistance the largest distance, in world units, to search
+     * @return the closest feature, or null if none lies within the distance
+     */
+    public SimpleFeature getNearestFeature(Coordinate coordinate, double maxDistance) {
+        final int index = nearestIndex(coordinate, maxDistance);
+        SimpleFeature result = null;
+        if (index != NO_FEATURE) {
+            result = store.getFeature(index);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the feature whose geometry contains the coordinate.
+     *
+     * @param coordinate the world coordinate to test
+     * @return the feature, or null if the point is outside every feature
+     */
+    public SimpleFeature getFeatureAt(Coordinate coordinate) {
+        final int index = indexAt(coordinate);
+        SimpleFeature result = null;
+        if (index != NO_FEATURE) {
+            result = store.getFeature(index);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the feature containing the coordinate at the detail level drawn at a display scale.
+     *
+     * @param coordinate the world coordinate to test
+     * @param worldPerPixel world units per screen pixel of the display
+     * @return the feature, or null if the point is outside every feature
+     */
+    public SimpleFeature getFeatureAt(Coordinate coordinate, double worldPerPixel) {
+        final int index = indexAt(coordinate, worldPerPixel);
+        SimpleFeature result = null;
+        if (index != NO_FEATURE) {
+            result = store.getFeature(index);
+        }
+        return result;
+    }
+
+    /**
+     * Lists the features whose envelope intersects an area.
+     *
+     * @param area the world area to search
+     * @return the positions of the candidate features, in no particular order
+     */
+    int[] candidatesIn(Envelope area) {
+        final List<?> items = tree.query(area);
+        final int[] result = new int[items.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (Integer) items.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * @param position the feature position
+     * @return the prepared full-detail geometry, or null if the feature has none
+     */
+    PreparedGeometry preparedGeometry(int position) {
+        return preparedLevel(MapFeatureStore.FULL_DETAIL)[position];
+    }
+
+    /**
+     * Returns the prepared geometries of a detail level, preparing them on first use.
+     */
+    private synchronized PreparedGeometry[] preparedLevel(int level) {
+        if (preparedLevels[level] == null) {
+            preparedLevels[level] = prepare(level);
+        }
+        return preparedLevels[level];
+    }
+
+    private PreparedGeometry[] prepare(int level) {
+        final PreparedGeometry[] prepared = new PreparedGeometry[store.size()];
+        final PreparedGeometryFactory preparedFactory = new PreparedGeometryFactory();
+        for (int i = 0; i < store.size(); i++) {
+            final Geometry geometry = store.getGeometry(i, level);
+            if (geometry != null && !geometry.isEmpty()) {
+                prepared[i] = preparedFactory.create(geometry);
+            }
+        }
+        return prepared;
+    }
+
+    /**
+     * A feature considered by a nearest-feature query, with the distance to its envelope.
+     */
+    private static final class Candidate {
+        private final int index;
+        private final double bound;
+
+        Candidate(int index, double bound) {
+            this.index = index;
+            this.bound = bound;
+        }
+
+        int getIndex() {
+            return index;
+        }
+
+        double getBound() {
+            return bound;
+        }
+    }
+}
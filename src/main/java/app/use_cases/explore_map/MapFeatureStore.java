@@ -0,0 +1,322 @@
+package app.use_cases.explore_map;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Immutable in-memory copy of a loaded map layer.
+ *
+ * <p>
+ * Features are decoded once when the map is loaded; afterwards every map
+ * query (rendering, bounds, hit testing, attribute lookups) is served from
+ * the arrays held here instead of going back through the shapefile reader.
+ * Features are addressed by their position, which is stable for the
+ * lifetime of the store.
+ *
+ * <p>
+ * Geometries are also available simplified at several detail levels; callers
+ * pick one with {@link #detailLevelFor(double)} so the number of vertices drawn
+ * or tested stays roughly constant at any zoom.
+ */
+public final class MapFeatureStore {
+
+    /** Attribute holding the display name of a country feature. */
+    public static final String NAME_ATTRIBUTE = "NAME";
+
+    /** Detail level addressing the original, unsimplified geometries. */
+    public static final int FULL_DETAIL = MapDetailLevels.FULL_DETAIL;
+
+    /** Source checksum of stores whose source files were not checksummed. */
+    public static final long UNKNOWN_SOURCE = -1L;
+
+    private final SimpleFeatureType schema;
+    private final List<SimpleFeature> features;
+    private final Geometry[] geometries;
+    private final Envelope[] envelopes;
+    private final String[] names;
+    private final Map<String, Integer> positionsById;
+    private final ReferencedEnvelope bounds;
+    private final SimpleFeatureSource featureSource;
+    private final MapDetailLevels detailLevels;
+    private final long sourceChecksum;
+
+    /**
+     * Creates a store over already-decoded features.
+     *
+     * @param schema the feature type shared by all features
+     * @param features the features, in the order they should be addressed
+     */
+    public MapFeatureStore(SimpleFeatureType schema, List<SimpleFeature> features) {
+        this(schema, features, null, null);
+    }
+
+    /**
+     * Creates a store over already-decoded features whose envelopes and
+     * simplified detail levels were computed earlier, for example read back
+     * from a preprocessed cache.
+     *
+     * @param schema the feature type shared by all features
+     * @param features the features, in the order they should be addressed
+     * @param knownEnvelopes the envelope of each feature, or null to compute them
+     * @param detailGeometries simplified geometries indexed by detail level and then
+     *                         feature position, or null to simplify on demand
+     */
+    public MapFeatureStore(SimpleFeatureType schema, List<SimpleFeature> features,
+                           Envelope[] knownEnvelopes, Geometry[][] detailGeometries) {
+        this(schema, features, knownEnvelopes, detailGeometries, UNKNOWN_SOURCE);
+    }
+
+    /**
+     * Creates a store over already-decoded features, recording a checksum of
+     * the files they were read from so derived caches can tell when the
+     * source changes.
+     *
+     * @param schema the feature type shared by all features
+     * @param features the features, in the order they should be addressed
+     * @param knownEnvelopes the envelope of each feature, or null to compute them
+     * @param detailGeometries simplified geometries indexed by detail level and then
+     *                         feature position, or null to simplify on demand
+     * @param sourceChecksum checksum of the source files, or {@link #UNKNOWN_SOURCE}
+     */
+    public MapFeatureStore(SimpleFeatureType schema, List<SimpleFeature> features,
+                           Envelope[] knownEnvelopes, Geometry[][] detailGeometries, long sourceChecksum) {
+        this.schema = schema;
+        this.sourceChecksum = sourceChecksum;
+        this.features = Collections.unmodifiableList(new ArrayList<>(features));
+
+        final int size = this.features.size();
+        this.geometries = new Geometry[size];
+        this.envelopes = new Envelope[size];
+        this.names = new String[size];
+        this.positionsById = new HashMap<>(size * 2);
+        this.bounds = new ReferencedEnvelope(schema.getCoordinateReferenceSystem());
+
+        for (int i = 0; i < size; i++) {
+            final SimpleFeature feature = this.features.get(i);
+            final Geometry geometry = (Geometry) feature.getDefaultGeometry();
+            geometries[i] = geometry;
+            if (knownEnvelopes != null) {
+                envelopes[i] = knownEnvelopes[i];
+                bounds.expandToInclude(envelopes[i]);
+            }
+            else if (geometry != null && !geometry.isEmpty()) {
+                envelopes[i] = geometry.getEnvelopeInternal();
+                bounds.expandToInclude(envelopes[i]);
+            }
+            else {
+                envelopes[i] = new Envelope();
+            }
+
+            final Object name = feature.getAttribute(NAME_ATTRIBUTE);
+            if (name != null) {
+                names[i] = name.toString();
+            }
+            else {
+                names[i] = feature.getID();
+            }
+            positionsById.put(feature.getID(), i);
+        }
+
+        this.featureSource = DataUtilities.source(new ListFeatureCollection(schema, this.features));
+        this.detailLevels = new MapDetailLevels(schema, this.features, geometries, bounds);
+        if (detailGeometries != null) {
+            for (int level = 0; level < detailGeometries.length; level++) {
+                detailLevels.seed(level, detailGeometries[level]);
+            }
+        }
+    }
+
+    /**
+     * @return the number of features in the store
+     */
+    public int size() {
+        return features.size();
+    }
+
+    /**
+     * @return checksum of the files the features were read from, or {@link #UNKNOWN_SOURCE}
+     */
+    public long getSourceChecksum() {
+        return sourceChecksum;
+    }
+
+    /**
+     * @return the feature type shared by all features
+     */
+    public SimpleFeatureType getSchema() {
+        return schema;
+    }
+
+    /**
+     * @return an unmodifiable view of all features, in position order
+     */
+    public List<SimpleFeature> getFeatures() {
+        return features;
+    }
+
+    /**
+     * @param position the feature position
+     * @return the feature at that position
+     */
+    public SimpleFeature getFeature(int position) {
+        return features.get(position);
+    }
+
+    /**
+     * @param position the feature position
+     * @return the decoded geometry of the feature, possibly null
+     */
+    public Geometry getGeometry(int position) {
+        return geometries[position];
+    }
+
+    /**
+     * @param position the feature position
+     * @return the envelope of the feature geometry (null envelope if it has none)
+     */
+    public Envelope getEnvelope(int position) {
+        return envelopes[position];
+    }
+
+    /**
+     * @param position the feature position
+     * @return the display name of the feature, or its ID if it has no name
+     */
+    public String getName(int position) {
+        return names[position];
+    }
+
+    /**
+     * Finds the position of a feature in this store by its feature ID.
+     *
+     * @param feature the feature to look up
+     * @return the position, or {@link MapFeatureIndex#NO_FEATURE} if it is not stored here
+     */
+    public int positionOf(SimpleFeature feature) {
+        final Integer position = positionsById.get(feature.getID());
+        int result = MapFeatureIndex.NO_FEATURE;
+        if (position != null) {
+            result = position;
+        }
+        return result;
+    }
+
+    /**
+     * Finds the feature of this store that stands for the same country as a
+     * feature of another store, such as another resolution of the same map.
+     * Features are matched by ID, then by country code attribute, then by name.
+     *
+     * @param feature a feature of this or another store
+     * @return the matching feature of this store, or null if none matches
+     */
+    public SimpleFeature counterpartOf(SimpleFeature feature) {
+        final int position = positionOf(feature);
+        SimpleFeature result = null;
+        if (position != MapFeatureIndex.NO_FEATURE) {
+            result = features.get(position);
+        }
+        for (String attribute : CountryJoinIndex.CODE_ATTRIBUTES) {
+            final Object code = feature.getAttribute(attribute);
+            // Natural Earth marks a missing code with a negative placeholder such as -99.
+            if (result == null && code != null && !code.toString().startsWith("-")) {
+                result = findByAttribute(attribute, code.toString());
+            }
+        }
+        final Object name = feature.getAttribute(NAME_ATTRIBUTE);
+        if (result == null && name != null) {
+            result = findByAttribute(NAME_ATTRIBUTE, name.toString());
+        }
+        return result;
+    }
+
+    /**
+     * @return the first feature whose attribute has the given value, or null
+     */
+    private SimpleFeature findByAttribute(String attribute, String value) {
+        SimpleFeature result = null;
+        for (int position = 0; position < features.size() && result == null; position++) {
+            final Object candidate = features.get(position).getAttribute(attribute);
+            if (candidate != null && value.equals(candidate.toString())) {
+                result = features.get(position);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the combined bounds of all features
+     */
+    public ReferencedEnvelope getBounds() {
+        return new ReferencedEnvelope(bounds);
+    }
+
+    /**
+     * Returns a feature source backed by this store's in-memory features,
+     * suitable for map layers.
+     *
+     * @return the in-memory feature source
+     */
+    public SimpleFeatureSource getFeatureSource() {
+        return featureSource;
+    }
+
+    /**
+     * Picks the detail level matching a display scale.
+     *
+     * @param worldPerPixel world units per screen pixel
+     * @return the detail level, {@link #FULL_DETAIL} when zoomed in beyond every simplified level
+     */
+    public int detailLevelFor(double worldPerPixel) {
+        return detailLevels.levelFor(worldPerPixel);
+    }
+
+    /**
+     * @return the number of simplified detail levels below {@link #FULL_DETAIL}
+     */
+    public int getDetailLevelCount() {
+        return MapDetailLevels.LEVEL_COUNT;
+    }
+
+    /**
+     * @param level a detail level
+     * @return the simplification tolerance of the level in world units, zero at full detail
+     */
+    public double getDetailTolerance(int level) {
+        return detailLevels.toleranceOf(level);
+    }
+
+    /**
+     * @param position the feature position
+     * @param level the detail level
+     * @return the feature geometry simplified for that level, possibly null
+     */
+    public Geometry getGeometry(int position, int level) {
+        return detailLevels.getGeometry(position, level);
+    }
+
+    /**
+     * Returns a feature source whose geometries are simplified for a detail level.
+     *
+     * @param level the detail level
+     * @return the in-memory feature source for that level
+     */
+    public SimpleFeatureSource getFeatureSource(int level) {
+        SimpleFeatureSource result = featureSource;
+        if (level != FULL_DETAIL) {
+            result = detailLevels.getFeatureSource(level);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package app.use_cases.explore_map;
+
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+
+import lombok.Getter;
+
+/**
+ * World map projections the explore map can be drawn in.
+ *
+ * <p>
+ * Projections are defined by WKT so they do not need an EPSG database.
+ * {@link #PLATE_CARREE} is the native longitude/latitude of the Natural
+ * Earth shapefiles and needs no reprojection.
+ */
+@Getter
+public enum MapProjection {
+    PLATE_CARREE("Plate carrée", null, 90.0),
+    WEB_MERCATOR("Web Mercator", "PROJCS[\"WGS 84 / Pseudo-Mercator\","
+            + MapProjection.WGS84_WKT + ","
+            + "PROJECTION[\"Popular Visualisation Pseudo Mercator\"],"
+            + "PARAMETER[\"latitude_of_origin\",0],PARAMETER[\"central_meridian\",0],"
+            + "PARAMETER[\"scale_factor\",1],PARAMETER[\"false_easting\",0],"
+            + "PARAMETER[\"false_northing\",0],UNIT[\"metre\",1]]", 85.05),
+    ROBINSON("Robinson", "PROJCS[\"World_Robinson\","
+            + MapProjection.WGS84_WKT + ","
+            + "PROJECTION[\"Robinson\"],PARAMETER[\"central_meridian\",0],"
+            + "PARAMETER[\"false_easting\",0],PARAMETER[\"false_northing\",0],"
+            + "UNIT[\"metre\",1]]", 90.0),
+    EQUAL_EARTH("Equal Earth", "PROJCS[\"WGS 84 / Equal Earth Greenwich\","
+            + MapProjection.WGS84_WKT + ","
+            + "PROJECTION[\"Equal Earth\"],PARAMETER[\"central_meridian\",0],"
+            + "PARAMETER[\"false_easting\",0],PARAMETER[\"false_northing\",0],"
+            + "UNIT[\"metre\",1]]", 90.0);
+
+    private static final String WGS84_WKT = "GEOGCS[\"WGS 84\","
+            + "DATUM[\"WGS_1984\",SPHEROID[\"WGS 84\",6378137,298.257223563]],"
+            + "PRIMEM[\"Greenwich\",0],UNIT[\"degree\",0.0174532925199433]]";
+
+    private final String displayName;
+    private final String wkt;
+
+    /** Largest absolute latitude the projection can show; geometry beyond it is clipped. */
+    private final double latitudeLimit;
+
+    /**
+     * Constructs a MapProjection.
+     *
+     * @param displayName name shown in the map toolbar
+     * @param wkt definition of the projected CRS, or null for the native longitude/latitude
+     * @param latitudeLimit largest absolute latitude the projection can show
+     */
+    MapProjection(String displayName, String wkt, double latitudeLimit) {
+        this.displayName = displayName;
+        this.wkt = wkt;
+        this.latitudeLimit = latitudeLimit;
+    }
+
+    /**
+     * @return whether maps are shown in their native coordinates without reprojection
+     */
+    public boolean isNative() {
+        return wkt == null;
+    }
+
+    /**
+     * Creates the coordinate reference system of the projection.
+     *
+     * @return the projected CRS, or WGS 84 longitude/latitude for the native projection
+     * @throws FactoryException if the projection is not supported by the referencing module
+     */
+    public CoordinateReferenceSystem createCrs() throws FactoryException {
+        CoordinateReferenceSystem result = DefaultGeographicCRS.WGS84;
+        if (wkt != null) {
+            result = CRS.parseWKT(wkt);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,70 @@
+package app.use_cases.explore_map;
+
+import lombok.Getter;
+
+/**
+ * Natural Earth country datasets the map can switch between, coarsest first.
+ * Each resolution is meant for displays at or above its minimum scale,
+ * measured in degrees per screen pixel.
+ */
+@Getter
+public enum MapResolution {
+    COARSE("110m", "ne_110m_admin_0_countries.shp", 0.25),
+    MEDIUM("50m", "ne_50m_admin_0_countries.shp", 0.1),
+    FINE("10m", "ne_10m_admin_0_countries.shp", 0.0);
+
+    private final String scaleName;
+    private final String fileName;
+    private final double minWorldPerPixel;
+
+    /**
+     * Constructs a MapResolution.
+     *
+     * @param scaleName the Natural Earth scale label
+     * @param fileName the shapefile name of the dataset
+     * @param minWorldPerPixel the finest display scale the dataset is meant for
+     */
+    MapResolution(String scaleName, String fileName, double minWorldPerPixel) {
+        this.scaleName = scaleName;
+        this.fileName = fileName;
+        this.minWorldPerPixel = minWorldPerPixel;
+    }
+
+    /**
+     * Picks the coarsest resolution that is detailed enough for a display scale.
+     *
+     * @param worldPerPixel degrees per screen pixel of the display
+     * @return the matching resolution
+     */
+    public static MapResolution forScale(double worldPerPixel) {
+        MapResolution result = FINE;
+        for (MapResolution resolution : values()) {
+            if (worldPerPixel >= resolution.minWorldPerPixel) {
+                result = resolution;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the resolution a shapefile belongs to.
+     *
+     * @param fileName the shapefile name, without directories
+     * @return the resolution, or null if the file is not a known dataset
+     */
+    public static MapResolution forFileName(String fileName) {
+        MapResolution result = null;
+        for (MapResolution resolution : values()) {
+            if (resolution.fileName.equalsIgnoreCase(fileName)) {
+                result = resolution;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return scaleName;
+    }
+}
@@ -0,0 +1,203 @@
+package app.use_cases.explore_map;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.geometry.jts.JTS;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.locationtech.jts.densify.Densifier;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Reprojected copies of map feature stores, computed once per store and projection.
+ *
+ * <p>
+ * Reprojecting a store transforms every feature geometry in parallel and
+ * builds a {@link MapFeatureIndex} over the result, so hit testing and
+ * rendering in a projection work on plain projected coordinates and never
+ * run a {@code MathTransform} per frame. Feature order and IDs are kept, so
+ * positions in a projected store match the source store.
+ *
+ * <p>
+ * Entries are keyed weakly by the source store and disappear with it. A
+ * projection requested by several threads at once is computed by the first
+ * and awaited by the others.
+ */
+public final class ProjectedMapCache {
+    private static final Logger LOGGER = Logger.getLogger(ProjectedMapCache.class.getName());
+
+    /** Longest edge, in degrees, left undivided before projecting; keeps long edges curved. */
+    private static final double DENSIFY_DEGREES = 1.0;
+    private static final double WORLD_LONGITUDE = 180.0;
+
+    private final Map<MapFeatureStore, Map<MapProjection, FutureTask<MapFeatureIndex>>> entries =
+            new WeakHashMap<>();
+
+    /**
+     * Returns the index of a store in a projection, reprojecting it on first request.
+     * May take a while on first request and should not be called on the EDT.
+     *
+     * @param nativeIndex the index over the store in its native coordinates
+     * @param projection the projection to show the store in
+     * @return the index over the projected store, or the native index for the native projection
+     * @throws IOException if the store cannot be reprojected
+     */
+    public MapFeatureIndex getIndex(MapFeatureIndex nativeIndex, MapProjection projection) throws IOException {
+        MapFeatureIndex result = nativeIndex;
+        if (!projection.isNative()) {
+            final MapFeatureStore store = nativeIndex.getStore();
+            FutureTask<MapFeatureIndex> task;
+            boolean owner = false;
+            synchronized (entries) {
+                final Map<MapProjection, FutureTask<MapFeatureIndex>> projections =
+                        entries.computeIfAbsent(store, key -> new EnumMap<>(MapProjection.class));
+                task = projections.get(projection);
+                if (task == null) {
+                    task = new FutureTask<>(() -> new MapFeatureIndex(project(store, projection)));
+                    projections.put(projection, task);
+                    owner = true;
+                }
+            }
+            if (owner) {
+                task.run();
+            }
+            result = await(store, projection, task);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of a store in a projection only if it has already been computed.
+     *
+     * @param nativeIndex the index over the store in its native coordinates
+     * @param projection the projection to show the store in
+     * @return the projected index, the native index for the native projection, or null if not ready
+     */
+    public MapFeatureIndex getIfReady(MapFeatureIndex nativeIndex, MapProjection projection) {
+        MapFeatureIndex result = nativeIndex;
+        if (!projection.isNative()) {
+            result = null;
+            final FutureTask<MapFeatureIndex> task;
+            synchronized (entries) {
+                final Map<MapProjection, FutureTask<MapFeatureIndex>> projections =
+                        entries.get(nativeIndex.getStore());
+                task = projections == null ? null : projections.get(projection);
+            }
+            if (task != null && task.isDone()) {
+                try {
+                    result = task.get();
+                }
+                catch (ExecutionException ex) {
+                    result = null;
+                }
+                catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Waits for a projection task, forgetting it if it failed so a later request retries.
+     */
+    private MapFeatureIndex await(MapFeatureStore store, MapProjection projection,
+                                  FutureTask<MapFeatureIndex> task) throws IOException {
+        try {
+            return task.get();
+        }
+        catch (ExecutionException ex) {
+            synchronized (entries) {
+                final Map<MapProjection, FutureTask<MapFeatureIndex>> projections = entries.get(store);
+                if (projections != null) {
+                    projections.remove(projection, task);
+                }
+            }
+            throw new IOException("Could not project map to " + projection.getDisplayName(), ex.getCause());
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while projecting map", ex);
+        }
+    }
+
+    /**
+     * Copies a store with every geometry transformed into a projection.
+     *
+     * @param store the store in its native coordinates
+     * @param projection the target projection
+     * @return a store with the same features, in the same order, in projected coordinates
+     * @throws FactoryException if the projection or the transform to it cannot be created
+     */
+    static MapFeatureStore project(MapFeatureStore store, MapProjection projection) throws FactoryException {
+        final SimpleFeatureType schema = store.getSchema();
+        CoordinateReferenceSystem source = schema.getCoordinateReferenceSystem();
+        if (source == null) {
+            source = DefaultGeographicCRS.WGS84;
+        }
+        final CoordinateReferenceSystem target = projection.createCrs();
+        final MathTransform transform = CRS.findMathTransform(source, target, true);
+        final Envelope limits = new Envelope(-WORLD_LONGITUDE, WORLD_LONGITUDE,
+                -projection.getLatitudeLimit(), projection.getLatitudeLimit());
+
+        final Geometry[] projected = new Geometry[store.size()];
+        IntStream.range(0, store.size()).parallel().forEach(position ->
+                projected[position] = projectGeometry(store.getGeometry(position), transform, limits));
+
+        final SimpleFeatureType projectedSchema = SimpleFeatureTypeBuilder.retype(schema, target);
+        final String geometryName = projectedSchema.getGeometryDescriptor().getLocalName();
+        final SimpleFeatureBuilder builder = new SimpleFeatureBuilder(projectedSchema);
+        final List<SimpleFeature> features = new ArrayList<>(store.size());
+        for (int position = 0; position < store.size(); position++) {
+            final SimpleFeature feature = store.getFeature(position);
+            builder.init(feature);
+            builder.set(geometryName, projected[position]);
+            features.add(builder.buildFeature(feature.getID()));
+        }
+        // The projection is derived from the same source, so caches keyed by its checksum stay valid.
+        return new MapFeatureStore(projectedSchema, features, null, null, store.getSourceChecksum());
+    }
+
+    /**
+     * Clips a geometry to the latitudes a projection can show, densifies it and transforms it.
+     *
+     * @return the projected geometry, or null if the source is empty or cannot be projected
+     */
+    private static Geometry projectGeometry(Geometry geometry, MathTransform transform, Envelope limits) {
+        Geometry result = null;
+        if (geometry != null && !geometry.isEmpty()) {
+            try {
+                Geometry clipped = geometry;
+                if (!limits.contains(geometry.getEnvelopeInternal())) {
+                    clipped = geometry.intersection(geometry.getFactory().toGeometry(limits));
+                }
+                if (!clipped.isEmpty()) {
+                    result = JTS.transform(Densifier.densify(clipped, DENSIFY_DEGREES), transform);
+                }
+            }
+            catch (TransformException | RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Could not project a map feature; it will be hidden", ex);
+            }
+        }
+        return result;
+    }
+}
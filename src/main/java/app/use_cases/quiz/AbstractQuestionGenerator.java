@@ -0,0 +1,158 @@
+package app.use_cases.quiz;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import app.entities.AnswerChecker;
+import app.entities.Country;
+import app.entities.Question;
+import app.entities.QuestionType;
+import app.entities.QuizType;
+
+/**
+ * Shared plumbing for question generators: eligibility filtering and drawing
+ * wrong answers through a {@link DistractorSampler}.
+ */
+abstract class AbstractQuestionGenerator implements QuestionGenerator {
+    /** Number of wrong options shown next to the correct one in an MCQ. */
+    static final int NUM_WRONG_CHOICES = 3;
+
+    /** Mostly wrong answers from the subject's region, so they are plausible, with some from anywhere. */
+    static final Map<DistractorStrategy, Integer> MOSTLY_REGIONAL =
+            Map.of(DistractorStrategy.SAME_REGION, 2, DistractorStrategy.UNIFORM, 1);
+
+    /** Batches of distractors drawn before settling for fewer wrong answers. */
+    private static final int MAX_ROUNDS = 4;
+
+    private final QuizType quizType;
+
+    /**
+     * @param quizType the quiz category the generated questions belong to
+     */
+    AbstractQuestionGenerator(QuizType quizType) {
+        this.quizType = quizType;
+    }
+
+    @Override
+    public QuizType getQuizType() {
+        return quizType;
+    }
+
+    @Override
+    public List<Country> eligibleSubjects(List<Country> catalog, QuestionType questionType) {
+        final List<Country> subjects = new ArrayList<>();
+        if (questionType != QuestionType.MCQ || catalog.size() > NUM_WRONG_CHOICES) {
+            for (Country country : catalog) {
+                if (canAsk(country)) {
+                    subjects.add(country);
+                }
+            }
+        }
+        return subjects;
+    }
+
+    /**
+     * @param country a catalog entry
+     * @return whether the catalog has the data needed to ask about the country
+     */
+    abstract boolean canAsk(Country country);
+
+    /**
+     * Builds a question, adding wrong options only for multiple choice.
+     *
+     * @param questionType the question format
+     * @param prompt       the question text
+     * @param correct      the correct answer
+     * @param wrongChoices wrong options, ignored for type-in questions
+     * @param aliases      other accepted spellings of the correct answer
+     * @param explanation  text shown after answering
+     * @param mediaUrl     image shown with the question, or null
+     * @return the question
+     */
+    Question question(QuestionType questionType, String prompt, String correct, List<String> wrongChoices,
+                      List<String> aliases, String explanation, String mediaUrl) {
+        List<String> options = List.of();
+        if (questionType == QuestionType.MCQ) {
+            options = new ArrayList<>(wrongChoices.size() + 1);
+            options.add(correct);
+            options.addAll(wrongChoices);
+        }
+        return new Question(quizType, questionType, prompt, options, correct, aliases, explanation, mediaUrl);
+    }
+
+    /**
+     * Draws distinct wrong answers from the countries a distractor sampler picks.
+     *
+     * @param subject     the country the question is about, never drawn
+     * @param excluded    answers that must not be offered, such as the correct one
+     * @param distractors the catalog, grouped for drawing wrong answers
+     * @param weights     how often each distractor strategy is used
+     * @param value       the answer a country stands for, or null if it has none
+     * @param random      source of randomness
+     * @return up to {@link #NUM_WRONG_CHOICES} distinct answers
+     */
+    static List<String> wrongAnswers(Country subject, Collection<String> excluded, DistractorSampler distractors,
+                                     Map<DistractorStrategy, Integer> weights, Function<Country, String> value,
+                                     SplittableRandom random) {
+        final Set<String> seen = new HashSet<>();
+        for (String answer : excluded) {
+            seen.add(AnswerChecker.normalize(answer));
+        }
+        final List<String> result = new ArrayList<>(NUM_WRONG_CHOICES);
+        final int correct = distractors.ordinalOf(subject);
+        // Countries can share an answer or lack one, so redraw a few times before settling for fewer.
+        for (int round = 0; round < MAX_ROUNDS && result.size() < NUM_WRONG_CHOICES; round++) {
+            for (int ordinal : distractors.sample(correct, NUM_WRONG_CHOICES, weights, random)) {
+                final String answer = value.apply(distractors.get(ordinal));
+                if (result.size() < NUM_WRONG_CHOICES && answer != null && !answer.isBlank()
+                        && seen.add(AnswerChecker.normalize(answer))) {
+                    result.add(answer);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Draws distinct countries other than the subject with one distractor strategy.
+     *
+     * @param subject     the country the question is about, never drawn
+     * @param count       number of countries wanted
+     * @param distractors the catalog, grouped for drawing wrong answers
+     * @param strategy    where to draw the countries from
+     * @param accept      which countries may be drawn
+     * @param random      source of randomness
+     * @return up to {@code count} distinct countries
+     */
+    static List<Country> otherCountries(Country subject, int count, DistractorSampler distractors,
+                                        DistractorStrategy strategy, Predicate<Country> accept,
+                                        SplittableRandom random) {
+        final Set<Integer> seen = new HashSet<>();
+        final List<Country> result = new ArrayList<>(count);
+        final int correct = distractors.ordinalOf(subject);
+        for (int round = 0; round < MAX_ROUNDS && result.size() < count; round++) {
+            for (int ordinal : distractors.sample(correct, count, strategy, random)) {
+                final Country country = distractors.get(ordinal);
+                if (result.size() < count && accept.test(country) && seen.add(ordinal)) {
+                    result.add(country);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param text a catalog value
+     * @return whether the value is present and not blank
+     */
+    static boolean hasText(String text) {
+        return text != null && !text.isBlank();
+    }
+}
@@ -0,0 +1,43 @@
+package app.use_cases.quiz;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import app.entities.Country;
+import app.entities.Question;
+import app.entities.QuestionType;
+import app.entities.QuizType;
+
+/**
+ * Asks for the capital city of a country.
+ */
+public final class CapitalQuestionGenerator extends AbstractQuestionGenerator {
+
+    /**
+     * Creates a generator of capital city questions.
+     */
+    public CapitalQuestionGenerator() {
+        super(QuizType.CAPITALS);
+    }
+
+    @Override
+    boolean canAsk(Country country) {
+        return hasText(country.getCapital().orElse(null));
+    }
+
+    @Override
+    public Question generate(Country subject, DistractorSampler distractors, QuestionType questionType,
+                             SplittableRandom random) {
+        final String capital = subject.getCapital().orElseThrow();
+        return question(
+                questionType,
+                "What is the capital of " + subject.getName() + "?",
+                capital,
+                wrongAnswers(subject, List.of(capital), distractors, MOSTLY_REGIONAL,
+                        country -> country.getCapital().orElse(null), random),
+                List.of(),
+                subject.getName() + "'s capital city is " + capital + ".",
+                null
+        );
+    }
+}
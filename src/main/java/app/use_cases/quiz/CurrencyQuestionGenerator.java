@@ -0,0 +1,57 @@
+package app.use_cases.quiz;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import app.entities.Country;
+import app.entities.Question;
+import app.entities.QuestionType;
+import app.entities.QuizType;
+
+/**
+ * Asks for the currency of a country. Type-in answers accept any of the
+ * country's currencies; multiple-choice options never offer another of them
+ * as a wrong answer.
+ */
+public final class CurrencyQuestionGenerator extends AbstractQuestionGenerator {
+
+    /**
+     * Creates a generator of currency questions.
+     */
+    public CurrencyQuestionGenerator() {
+        super(QuizType.CURRENCIES);
+    }
+
+    @Override
+    boolean canAsk(Country country) {
+        return !country.getCurrencies().isEmpty() && hasText(country.getCurrencies().get(0));
+    }
+
+    @Override
+    public Question generate(Country subject, DistractorSampler distractors, QuestionType questionType,
+                             SplittableRandom random) {
+        final List<String> currencies = subject.getCurrencies();
+        return question(
+                questionType,
+                "What is the currency of " + subject.getName() + "?",
+                currencies.get(0),
+                wrongAnswers(subject, currencies, distractors, MOSTLY_REGIONAL,
+                        CurrencyQuestionGenerator::firstCurrency, random),
+                currencies,
+                subject.getName() + " uses the " + String.join(" and the ", currencies) + ".",
+                null
+        );
+    }
+
+    /**
+     * @param country a catalog entry
+     * @return the country's main currency, or null if it has none
+     */
+    static String firstCurrency(Country country) {
+        String result = null;
+        if (!country.getCurrencies().isEmpty()) {
+            result = country.getCurrencies().get(0);
+        }
+        return result;
+    }
+}
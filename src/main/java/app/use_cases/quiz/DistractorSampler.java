@@ -0,0 +1,204 @@
+package app.use_cases.quiz;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import app.entities.Country;
+
+/**
+ * Draws the countries that multiple-choice wrong answers are taken from.
+ *
+ * <p>
+ * Countries are addressed by their ordinal, their position in the catalog.
+ * The groupings a {@link DistractorStrategy} draws from are computed once
+ * when the sampler is built:
+ * <ul>
+ *   <li>the ordinals of each region</li>
+ *   <li>all ordinals in population order</li>
+ * </ul>
+ * Each draw then runs {@link IndexSampler} over a group, or over a window of
+ * the population order. So drawing {@code k} distinct ordinals, excluding
+ * the correct one, costs O(k) whatever the size of the catalog. A group too
+ * small to supply enough countries is topped up from the whole catalog.
+ */
+public final class DistractorSampler {
+    /** Countries on each side of the subject, in population order, that count as similar. */
+    private static final int POPULATION_WINDOW = 8;
+
+    private final List<Country> countries;
+    private final Map<Country, Integer> ordinals = new IdentityHashMap<>();
+    private final int[] all;
+    private final int[][] regionGroups;
+    private final int[] regionOf;
+    private final int[] byPopulation;
+    private final int[] populationRank;
+
+    /**
+     * Precomputes the groupings of a catalog.
+     *
+     * @param countries the country catalog
+     */
+    public DistractorSampler(List<Country> countries) {
+        this.countries = List.copyOf(countries);
+        final int size = this.countries.size();
+        all = new int[size];
+        regionOf = new int[size];
+        final Map<String, List<Integer>> regions = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            final Country country = this.countries.get(ordinal);
+            all[ordinal] = ordinal;
+            ordinals.put(country, ordinal);
+            regions.computeIfAbsent(country.getRegion(), region -> new ArrayList<>()).add(ordinal);
+        }
+
+        regionGroups = new int[regions.size()][];
+        int group = 0;
+        for (List<Integer> members : regions.values()) {
+            regionGroups[group] = members.stream().mapToInt(Integer::intValue).toArray();
+            for (int ordinal : regionGroups[group]) {
+                regionOf[ordinal] = group;
+            }
+            group++;
+        }
+
+        byPopulation = Arrays.stream(all).boxed()
+                .sorted(Comparator.comparingLong(ordinal -> this.countries.get(ordinal).getPopulation()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        populationRank = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            populationRank[byPopulation[rank]] = rank;
+        }
+    }
+
+    /**
+     * @return the catalog the ordinals refer to
+     */
+    public List<Country> getCountries() {
+        return countries;
+    }
+
+    /**
+     * @param ordinal a position in the catalog
+     * @return the country at that position
+     */
+    public Country get(int ordinal) {
+        return countries.get(ordinal);
+    }
+
+    /**
+     * @param country a country of the catalog
+     * @return its ordinal, or -1 if it is not in the catalog
+     */
+    public int ordinalOf(Country country) {
+        return ordinals.getOrDefault(country, -1);
+    }
+
+    /**
+     * Draws distinct ordinals with one strategy.
+     *
+     * @param correct  ordinal of the correct answer, never drawn; -1 for none
+     * @param count    number of ordinals wanted
+     * @param strategy where to draw from
+     * @param random   source of randomness
+     * @return up to {@code count} distinct ordinals, fewer only if the catalog is too small
+     */
+    public int[] sample(int correct, int count, DistractorStrategy strategy, SplittableRandom random) {
+        final int[] result = new int[count];
+        int size = drawWith(strategy, correct, count, result, 0, random);
+        size = drawFrom(all, 0, all.length, correct, count, result, size, random);
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Draws distinct ordinals, picking the strategy of each one at random in
+     * proportion to its weight.
+     *
+     * @param correct ordinal of the correct answer, never drawn; -1 for none
+     * @param count   number of ordinals wanted
+     * @param weights relative weight of each strategy; strategies left out are not used
+     * @param random  source of randomness
+     * @return up to {@code count} distinct ordinals, fewer only if the catalog is too small
+     */
+    public int[] sample(int correct, int count, Map<DistractorStrategy, Integer> weights,
+                        SplittableRandom random) {
+        int total = 0;
+        for (int weight : weights.values()) {
+            total += weight;
+        }
+        final int[] result = new int[count];
+        int size = 0;
+        for (int slot = 0; slot < count && total > 0; slot++) {
+            int pick = random.nextInt(total);
+            DistractorStrategy chosen = DistractorStrategy.UNIFORM;
+            for (DistractorStrategy strategy : DistractorStrategy.values()) {
+                final int weight = weights.getOrDefault(strategy, 0);
+                if (pick >= 0 && pick < weight) {
+                    chosen = strategy;
+                }
+                pick -= weight;
+            }
+            size = drawWith(chosen, correct, size + 1, result, size, random);
+        }
+        size = drawFrom(all, 0, all.length, correct, count, result, size, random);
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Fills the result up to a target size from the group a strategy draws from.
+     */
+    private int drawWith(DistractorStrategy strategy, int correct, int target, int[] result, int size,
+                         SplittableRandom random) {
+        int filled = size;
+        if (correct < 0 || strategy == DistractorStrategy.UNIFORM) {
+            filled = drawFrom(all, 0, all.length, correct, target, result, size, random);
+        }
+        else if (strategy == DistractorStrategy.SAME_REGION) {
+            final int[] group = regionGroups[regionOf[correct]];
+            filled = drawFrom(group, 0, group.length, correct, target, result, size, random);
+        }
+        else {
+            final int rank = populationRank[correct];
+            final int from = Math.max(0, rank - POPULATION_WINDOW);
+            final int to = Math.min(byPopulation.length, rank + POPULATION_WINDOW + 1);
+            filled = drawFrom(byPopulation, from, to - from, correct, target, result, size, random);
+        }
+        return filled;
+    }
+
+    /**
+     * Fills the result up to a target size with random members of a slice of a
+     * group, skipping the correct ordinal and ordinals already drawn.
+     *
+     * @return the new number of ordinals in the result
+     */
+    private static int drawFrom(int[] group, int from, int length, int correct, int target, int[] result,
+                                int size, SplittableRandom random) {
+        int filled = size;
+        if (filled < target) {
+            // At most size + 1 of the drawn positions can be skipped, so this many always suffice.
+            final int[] positions = IndexSampler.sample(length, target + 1, random);
+            for (int index = 0; index < positions.length && filled < target; index++) {
+                final int ordinal = group[from + positions[index]];
+                if (ordinal != correct && !contains(result, filled, ordinal)) {
+                    result[filled++] = ordinal;
+                }
+            }
+        }
+        return filled;
+    }
+
+    private static boolean contains(int[] values, int size, int value) {
+        boolean found = false;
+        for (int index = 0; index < size && !found; index++) {
+            found = values[index] == value;
+        }
+        return found;
+    }
+}
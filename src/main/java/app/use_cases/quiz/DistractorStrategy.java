@@ -0,0 +1,13 @@
+package app.use_cases.quiz;
+
+/**
+ * Ways of choosing the countries that wrong answers are taken from.
+ */
+public enum DistractorStrategy {
+    /** Any other country in the catalog. */
+    UNIFORM,
+    /** Countries in the same region as the subject. */
+    SAME_REGION,
+    /** Countries ranked close to the subject by population. */
+    SIMILAR_POPULATION
+}
@@ -0,0 +1,45 @@
+package app.use_cases.quiz;
+
+import java.util.List;
+
+import app.entities.Country;
+
+/**
+ * A small built-in catalog used when the country catalog cannot be fetched,
+ * so capital, language and currency quizzes still work offline.
+ *
+ * <p>
+ * Entries have no flag URL or population, so flag and population quizzes
+ * need the full catalog. Several countries share each region, which keeps
+ * regional wrong answers available.
+ */
+final class FallbackCountries {
+    /** The built-in countries, always the same list instance. */
+    static final List<Country> COUNTRIES = List.of(
+            country("FRA", "France", "Paris", "Europe", "French", "Euro"),
+            country("DEU", "Germany", "Berlin", "Europe", "German", "Euro"),
+            country("ESP", "Spain", "Madrid", "Europe", "Spanish", "Euro"),
+            country("GBR", "United Kingdom", "London", "Europe", "English", "British pound"),
+            country("JPN", "Japan", "Tokyo", "Asia", "Japanese", "Japanese yen"),
+            country("CHN", "China", "Beijing", "Asia", "Chinese", "Chinese yuan"),
+            country("IND", "India", "New Delhi", "Asia", "Hindi", "Indian rupee"),
+            country("KOR", "South Korea", "Seoul", "Asia", "Korean", "South Korean won"),
+            country("CAN", "Canada", "Ottawa", "Americas", "English", "Canadian dollar"),
+            country("BRA", "Brazil", "Brasília", "Americas", "Portuguese", "Brazilian real"),
+            country("MEX", "Mexico", "Mexico City", "Americas", "Spanish", "Mexican peso"),
+            country("ARG", "Argentina", "Buenos Aires", "Americas", "Spanish", "Argentine peso"),
+            country("EGY", "Egypt", "Cairo", "Africa", "Arabic", "Egyptian pound"),
+            country("KEN", "Kenya", "Nairobi", "Africa", "Swahili", "Kenyan shilling"),
+            country("NGA", "Nigeria", "Abuja", "Africa", "English", "Nigerian naira"),
+            country("AUS", "Australia", "Canberra", "Oceania", "English", "Australian dollar")
+    );
+
+    private FallbackCountries() {
+    }
+
+    private static Country country(String code, String name, String capital, String region,
+                                   String language, String currency) {
+        return new Country(code, name, capital, region, null, 0L, 0.0, null, "",
+                List.of(language), List.of(currency), null);
+    }
+}
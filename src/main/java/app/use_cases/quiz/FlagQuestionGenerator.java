@@ -0,0 +1,46 @@
+package app.use_cases.quiz;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import app.entities.Country;
+import app.entities.Question;
+import app.entities.QuestionType;
+import app.entities.QuizType;
+
+/**
+ * Shows a country's flag and asks which country it belongs to.
+ */
+public final class FlagQuestionGenerator extends AbstractQuestionGenerator {
+
+    /**
+     * Creates a generator of flag questions.
+     */
+    public FlagQuestionGenerator() {
+        super(QuizType.FLAGS);
+    }
+
+    @Override
+    boolean canAsk(Country country) {
+        return hasText(country.getFlagUrl());
+    }
+
+    @Override
+    public Question generate(Country subject, DistractorSampler distractors, QuestionType questionType,
+                             SplittableRandom random) {
+        String prompt = "What country does this flag belong to?";
+        if (questionType == QuestionType.MCQ) {
+            prompt = "Which country's flag is shown?";
+        }
+        return question(
+                questionType,
+                prompt,
+                subject.getName(),
+                wrongAnswers(subject, List.of(subject.getName()), distractors, MOSTLY_REGIONAL,
+                        Country::getName, random),
+                List.of(subject.getName()),
+                "This is the flag of " + subject.getName(),
+                subject.getFlagUrl()
+        );
+    }
+}
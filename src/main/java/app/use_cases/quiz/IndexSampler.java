@@ -0,0 +1,42 @@
+package app.use_cases.quiz;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Draws distinct positions from {@code 0..n-1} uniformly at random without
+ * replacement.
+ *
+ * <p>
+ * This is a partial Fisher–Yates shuffle of the virtual array
+ * {@code [0, 1, ..., n-1]}. Only the slots the shuffle has swapped are
+ * stored, in a map, so drawing {@code k} positions costs O(k) time and
+ * memory however large {@code n} is.
+ */
+final class IndexSampler {
+
+    private IndexSampler() {
+    }
+
+    /**
+     * Draws up to {@code count} distinct positions below {@code size}.
+     *
+     * @param size   number of positions to draw from
+     * @param count  number of positions wanted
+     * @param random source of randomness
+     * @return {@code min(count, size)} distinct positions in random order
+     */
+    static int[] sample(int size, int count, SplittableRandom random) {
+        final int drawn = Math.max(0, Math.min(count, size));
+        final int[] result = new int[drawn];
+        final Map<Integer, Integer> swapped = new HashMap<>(drawn * 2);
+        for (int slot = 0; slot < drawn; slot++) {
+            final int pick = slot + random.nextInt(size - slot);
+            result[slot] = swapped.getOrDefault(pick, pick);
+            // The value left in this slot moves to where the pick came from.
+            swapped.put(pick, swapped.getOrDefault(slot, slot));
+        }
+        return result;
+    }
+}
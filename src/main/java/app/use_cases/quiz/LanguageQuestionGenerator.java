@@ -0,0 +1,57 @@
+package app.use_cases.quiz;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import app.entities.Country;
+import app.entities.Question;
+import app.entities.QuestionType;
+import app.entities.QuizType;
+
+/**
+ * Asks for a language spoken in a country. Type-in answers accept any of the
+ * country's languages; multiple-choice options never offer another of them
+ * as a wrong answer.
+ */
+public final class LanguageQuestionGenerator extends AbstractQuestionGenerator {
+
+    /**
+     * Creates a generator of language questions.
+     */
+    public LanguageQuestionGenerator() {
+        super(QuizType.LANGUAGES);
+    }
+
+    @Override
+    boolean canAsk(Country country) {
+        return !country.getLanguages().isEmpty() && hasText(country.getLanguages().get(0));
+    }
+
+    @Override
+    public Question generate(Country subject, DistractorSampler distractors, QuestionType questionType,
+                             SplittableRandom random) {
+        final List<String> languages = subject.getLanguages();
+        String prompt = "Name a language spoken in " + subject.getName() + ".";
+        if (questionType == QuestionType.MCQ) {
+            prompt = "Which of these languages is spoken in " + subject.getName() + "?";
+        }
+        return question(
+                questionType,
+                prompt,
+                languages.get(0),
+                wrongAnswers(subject, languages, distractors, MOSTLY_REGIONAL,
+                        LanguageQuestionGenerator::firstLanguage, random),
+                languages,
+                "Languages spoken in " + subject.getName() + ": " + String.join(", ", languages) + ".",
+                null
+        );
+    }
+
+    private static String firstLanguage(Country country) {
+        String result = null;
+        if (!country.getLanguages().isEmpty()) {
+            result = country.getLanguages().get(0);
+        }
+        return result;
+    }
+}
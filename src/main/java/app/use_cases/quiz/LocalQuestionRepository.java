@@ -1,9 +1,12 @@
 package app.use_cases.quiz;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import app.entities.Country;
 import app.entities.Question;
@@ -12,1441 +15,78 @@ import app.entities.QuizType;
 import app.use_cases.country.CountryDataAccessInterface;
 
 /**
- * A concrete implementation of QuestionRepository that provides all quiz
- * questions available in the application. This repository loads:
+ * A concrete implementation of QuestionRepository that generates quiz
+ * questions on demand from the country catalog.
+ *
+ * <p>
+ * Questions come from pluggable {@link QuestionGenerator}s, grouped by the
+ * quiz type they serve. By default these cover:
  * <ul>
- *   <li>Manually written static questions (capitals, flags, languages, currencies)</li>
- *   <li>API-generated flag MCQ questions (using country flag URLs)</li>
- *   <li>API-generated flag type-in questions</li>
+ *   <li>capitals and reverse capitals</li>
+ *   <li>flags</li>
+ *   <li>languages</li>
+ *   <li>currencies and reverse currencies</li>
+ *   <li>population comparisons</li>
  * </ul>
+ * Nothing is generated up front: each call draws distinct subject countries
+ * from every generator of the quiz type and builds exactly one question per
+ * drawn subject, so the question pool grows with the catalog.
+ *
+ * <p>
+ * The subjects of each quiz type and question type are collected once per
+ * catalog into an immutable array, kept in an {@link EnumMap}. A quiz then
+ * draws its subjects with {@link IndexSampler}, so drawing {@code k}
+ * questions costs O(k) however many subjects the bucket holds. Wrong answers
+ * come from a {@link DistractorSampler} built once per catalog.
+ *
+ * <p>
+ * When the catalog cannot be fetched, or comes back empty, questions are
+ * generated from the built-in {@link FallbackCountries} instead, so the
+ * quizzes they support keep working offline.
  */
 public final class LocalQuestionRepository implements QuestionRepository {
-    private static final int MIN_COUNTRIES_FOR_MCQ = 4;
-    private static final int NUM_API_QUESTIONS = 20;
-    private static final int NUM_WRONG_CHOICES = 3;
+    private static final Logger LOGGER = Logger.getLogger(LocalQuestionRepository.class.getName());
 
-    private final List<Question> allQuestions = new ArrayList<>();
-    private final Random random = new Random();
+    private final Map<QuizType, List<QuestionGenerator>> generators = new EnumMap<>(QuizType.class);
+    private final Map<QuizType, Map<QuestionType, Subject[]>> buckets = new EnumMap<>(QuizType.class);
+    private final SplittableRandom random = new SplittableRandom();
     private final CountryDataAccessInterface countryDataAccess;
 
+    /** The catalog the buckets were collected from; a different catalog empties them. */
+    private List<Country> bucketCatalog;
+
+    /** The catalog the distractor sampler was built from; a different catalog rebuilds it. */
+    private List<Country> distractorCatalog;
+    private DistractorSampler distractors;
+
     /**
-     * Creates a LocalQuestionRepository, loads all manual questions,
-     * and loads flag questions using live API data.
+     * Creates a LocalQuestionRepository with the default question generators.
      *
-     * @param countryDataAccess a data-access object used for fetching country names and flag URLs
+     * @param countryDataAccess a data-access object used for fetching the country catalog
      */
     public LocalQuestionRepository(CountryDataAccessInterface countryDataAccess) {
-        this.countryDataAccess = countryDataAccess;
-        loadManualQuestions();
-        loadFlagQuestionsFromApi();
-        loadFlagTypeInQuestionsFromApi();
+        this(countryDataAccess, List.of(
+                new CapitalQuestionGenerator(),
+                new ReverseCapitalQuestionGenerator(),
+                new FlagQuestionGenerator(),
+                new LanguageQuestionGenerator(),
+                new CurrencyQuestionGenerator(),
+                new ReverseCurrencyQuestionGenerator(),
+                new PopulationQuestionGenerator()
+        ));
     }
 
     /**
-     * Loads all manually written questions into memory.
-     * These include capitals, reverse-capitals, flags, languages, currencies, etc.
+     * Creates a LocalQuestionRepository with the given question generators.
+     *
+     * @param countryDataAccess  a data-access object used for fetching the country catalog
+     * @param questionGenerators the generators to draw questions from
      */
-    private void loadManualQuestions() {
-        // ---- CAPITALS - MCQ ----
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "What is the capital of France?",
-                List.of("Paris", "Rome", "Berlin", "Madrid"),
-                "Paris",
-                List.of(),
-                "France's capital city is Paris.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "What is the capital of Japan?",
-                List.of("Tokyo", "Osaka", "Kyoto", "Nagoya"),
-                "Tokyo",
-                List.of(),
-                "Tokyo has been Japan's capital since 1869.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "What is the capital of Canada?",
-                List.of("Ottawa", "Toronto", "Vancouver", "Montreal"),
-                "Ottawa",
-                List.of(),
-                "Ottawa is the political capital of Canada.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "What is the capital of Australia?",
-                List.of("Canberra", "Sydney", "Melbourne", "Brisbane"),
-                "Canberra",
-                List.of(),
-                "Canberra was chosen as a compromise between Sydney and Melbourne.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "What is the capital of Brazil?",
-                List.of("Brasília", "Rio de Janeiro", "São Paulo", "Salvador"),
-                "Brasília",
-                List.of("brasilia"),
-                "Brasília became Brazil's capital in 1960.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "What is the capital of China?",
-                List.of("Beijing", "Shanghai", "Guangzhou", "Shenzhen"),
-                "Beijing",
-                List.of(),
-                "Beijing is China's capital and a major cultural center.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "What is the capital of Egypt?",
-                List.of("Cairo", "Alexandria", "Giza", "Luxor"),
-                "Cairo",
-                List.of(),
-                "Cairo is the largest city in the Arab world.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "What is the capital of Germany?",
-                List.of("Berlin", "Munich", "Hamburg", "Frankfurt"),
-                "Berlin",
-                List.of(),
-                "Berlin is Germany's capital and cultural hub.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "What is the capital of India?",
-                List.of("New Delhi", "Mumbai", "Bangalore", "Kolkata"),
-                "New Delhi",
-                List.of("delhi"),
-                "New Delhi is the official capital of India.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "What is the capital of South Korea?",
-                List.of("Seoul", "Busan", "Incheon", "Daegu"),
-                "Seoul",
-                List.of(),
-                "Seoul is the largest city in South Korea.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "What is the capital of the United Kingdom?",
-                List.of("London", "Manchester", "Birmingham", "Edinburgh"),
-                "London",
-                List.of(),
-                "London has been the capital of the UK since 1707.",
-                null
-        ));
-
-        // ---- CAPITALS (reverse) - MCQ ----
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "Which country has Tokyo as its capital?",
-                List.of("Japan", "China", "South Korea", "Thailand"),
-                "Japan",
-                List.of(),
-                "Tokyo is the capital city of Japan.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "Which country has Ottawa as its capital?",
-                List.of("Canada", "United States", "Australia", "United Kingdom"),
-                "Canada",
-                List.of(),
-                "Ottawa is the political capital of Canada.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "Which country has Cairo as its capital?",
-                List.of("Egypt", "Morocco", "Saudi Arabia", "Sudan"),
-                "Egypt",
-                List.of(),
-                "Cairo is the capital and largest city of Egypt.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "Which country has Berlin as its capital?",
-                List.of("Germany", "Austria", "Belgium", "Switzerland"),
-                "Germany",
-                List.of(),
-                "Berlin is the capital of Germany.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "Which country has Beijing as its capital?",
-                List.of("China", "Japan", "Vietnam", "Singapore"),
-                "China",
-                List.of(),
-                "Beijing is the capital of China.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "Which country has Brasília as its capital?",
-                List.of("Brazil", "Argentina", "Colombia", "Chile"),
-                "Brazil",
-                List.of("brasilia"),
-                "Brasília became Brazil's capital in 1960.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "Which country has Canberra as its capital?",
-                List.of("Australia", "New Zealand", "United Kingdom", "South Africa"),
-                "Australia",
-                List.of(),
-                "Canberra is the capital of Australia.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "Which country has New Delhi as its capital?",
-                List.of("India", "Pakistan", "Bangladesh", "Sri Lanka"),
-                "India",
-                List.of("delhi"),
-                "New Delhi is the official capital of India.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "Which country has Seoul as its capital?",
-                List.of("South Korea", "Japan", "North Korea", "China"),
-                "South Korea",
-                List.of(),
-                "Seoul is the capital of South Korea.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.MCQ,
-                "Which country has London as its capital?",
-                List.of("United Kingdom", "Ireland", "France", "Belgium"),
-                "United Kingdom",
-                List.of("uk", "britain", "england", "great britain"),
-                "London has been the capital of the United Kingdom since 1707.",
-                null
-        ));
-
-        // ---- LANGUAGES - MCQ ----
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Spain?",
-                List.of("Spanish", "Portuguese", "Catalan", "French"),
-                "Spanish",
-                List.of("spanish"),
-                "Spanish (Castilian) is the official national language of Spain.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Egypt?",
-                List.of("Arabic", "Hebrew", "Turkish", "Persian"),
-                "Arabic",
-                List.of("arabic"),
-                "Egypt's official language is Arabic.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Russia?",
-                List.of("Russian", "Ukrainian", "Polish", "Belarusian"),
-                "Russian",
-                List.of("russian"),
-                "Russian is the official language of the Russian Federation.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Turkey?",
-                List.of("Turkish", "Arabic", "Greek", "Kurdish"),
-                "Turkish",
-                List.of("turkish"),
-                "Turkish is the official language of Turkey.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in South Korea?",
-                List.of("Korean", "Mandarin", "Japanese", "Cantonese"),
-                "Korean",
-                List.of("korean"),
-                "Korean is the official language of South Korea.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Mexico?",
-                List.of("Spanish", "Portuguese", "Mayan", "English"),
-                "Spanish",
-                List.of("spanish"),
-                "Spanish is spoken by the vast majority of Mexico's population.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Iran?",
-                List.of("Persian", "Arabic", "Turkish", "Pashto"),
-                "Persian",
-                List.of("persian", "farsi"),
-                "Iran's official language is Persian (Farsi).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Brazil?",
-                List.of("Portuguese", "Spanish", "French", "Italian"),
-                "Portuguese",
-                List.of("portuguese"),
-                "Brazil is the largest Portuguese-speaking country in the world.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in the Netherlands?",
-                List.of("Dutch", "German", "Danish", "English"),
-                "Dutch",
-                List.of("dutch"),
-                "Dutch is the official language of the Netherlands.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Kenya?",
-                List.of("Swahili", "English", "Amharic", "Zulu"),
-                "Swahili",
-                List.of("swahili"),
-                "Kenya's national languages are Swahili and English.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Italy?",
-                List.of("Italian", "Spanish", "French", "Portuguese"),
-                "Italian",
-                List.of("italian"),
-                "Italian is the official language of Italy.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in China?",
-                List.of("Mandarin Chinese", "Cantonese", "Japanese", "Korean"),
-                "Mandarin Chinese",
-                List.of("mandarin", "chinese", "mandarin chinese"),
-                "Mandarin Chinese is the official language of China.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Saudi Arabia?",
-                List.of("Arabic", "Persian", "Turkish", "Urdu"),
-                "Arabic",
-                List.of("arabic"),
-                "Arabic is the official language of Saudi Arabia.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Greece?",
-                List.of("Greek", "Turkish", "Italian", "Bulgarian"),
-                "Greek",
-                List.of("greek"),
-                "Greek is the official language of Greece.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Thailand?",
-                List.of("Thai", "Lao", "Khmer", "Vietnamese"),
-                "Thai",
-                List.of("thai"),
-                "Thai is the official language of Thailand.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Vietnam?",
-                List.of("Vietnamese", "Thai", "Khmer", "Mandarin Chinese"),
-                "Vietnamese",
-                List.of("vietnamese"),
-                "Vietnamese is the official language of Vietnam.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Indonesia?",
-                List.of("Indonesian", "Malay", "Javanese", "Tagalog"),
-                "Indonesian",
-                List.of("indonesian", "bahasa indonesia"),
-                "Indonesian (Bahasa Indonesia) is the official language of Indonesia.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Pakistan?",
-                List.of("Urdu", "Hindi", "Punjabi", "Persian"),
-                "Urdu",
-                List.of("urdu"),
-                "Urdu is the national language of Pakistan.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Ethiopia?",
-                List.of("Amharic", "Tigrinya", "Somali", "Oromo"),
-                "Amharic",
-                List.of("amharic"),
-                "Amharic is the official working language of Ethiopia.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.MCQ,
-                "Which language is primarily spoken in Nigeria?",
-                List.of("English", "Hausa", "Yoruba", "Igbo"),
-                "English",
-                List.of("english"),
-                "English is the official language of Nigeria, used in government and education.",
-                null
-        ));
-
-        // ---- CURRENCIES - MCQ ----
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "What is the currency of Japan?",
-                List.of("Yen", "Won", "Yuan", "Ringgit"),
-                "Yen",
-                List.of("yen", "japanese yen", "jpy"),
-                "Japan's currency is the Japanese yen (JPY).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "What is the currency of the United Kingdom?",
-                List.of("Pound sterling", "Euro", "Dollar", "Krone"),
-                "Pound sterling",
-                List.of("pound", "pound sterling", "gbp"),
-                "The UK's currency is the pound sterling (GBP).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "What is the currency of the United States?",
-                List.of("US Dollar", "Canadian Dollar", "Euro", "Peso"),
-                "US Dollar",
-                List.of("usd", "us dollar", "dollar"),
-                "The United States uses the US Dollar (USD).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "What is the currency of India?",
-                List.of("Rupee", "Yen", "Rupiah", "Lira"),
-                "Rupee",
-                List.of("indian rupee", "inr", "rupee"),
-                "India's currency is the Indian rupee (INR).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "What is the currency of China?",
-                List.of("Yuan", "Yen", "Won", "Baht"),
-                "Yuan",
-                List.of("yuan", "renminbi", "cny"),
-                "China's currency is the renminbi (yuan), abbreviated as CNY.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "What is the currency of Brazil?",
-                List.of("Real", "Peso", "Escudo", "Cruzeiro"),
-                "Real",
-                List.of("real", "brazilian real", "brl"),
-                "Brazil's currency is the Brazilian real (BRL).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "What is the currency of South Korea?",
-                List.of("Won", "Yen", "Yuan", "Dollar"),
-                "Won",
-                List.of("won", "south korean won", "krw"),
-                "South Korea uses the South Korean won (KRW).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "What is the currency of Switzerland?",
-                List.of("Swiss Franc", "Euro", "Krone", "Pound"),
-                "Swiss Franc",
-                List.of("swiss franc", "chf"),
-                "Switzerland uses the Swiss franc (CHF).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "What is the currency of Australia?",
-                List.of("Australian Dollar", "New Zealand Dollar", "Pound", "Rand"),
-                "Australian Dollar",
-                List.of("aud", "australian dollar"),
-                "Australia uses the Australian dollar (AUD).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "What is the currency of Mexico?",
-                List.of("Mexican Peso", "Brazilian Real", "Lira", "Dollar"),
-                "Mexican Peso",
-                List.of("peso", "mexican peso", "mxn"),
-                "Mexico uses the Mexican peso (MXN).",
-                null
-        ));
-
-        // ---- CURRENCIES (reverse) - MCQ ----
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "Which country uses the Euro as its currency?",
-                List.of("Germany", "Denmark", "Sweden", "Poland"),
-                "Germany",
-                List.of("germany"),
-                "Germany is one of the countries that use the Euro (EUR).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "Which country uses the Canadian dollar as its currency?",
-                List.of("Canada", "United States", "Australia", "New Zealand"),
-                "Canada",
-                List.of("canada"),
-                "Canada uses the Canadian dollar (CAD).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "Which country uses the New Zealand dollar as its currency?",
-                List.of("New Zealand", "Australia", "South Africa", "United Kingdom"),
-                "New Zealand",
-                List.of("new zealand"),
-                "New Zealand uses the New Zealand dollar (NZD).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "Which country uses the Russian ruble as its currency?",
-                List.of("Russia", "Ukraine", "Belarus", "Kazakhstan"),
-                "Russia",
-                List.of("russia", "russian federation"),
-                "Russia uses the Russian ruble (RUB).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "Which country uses the Turkish lira as its currency?",
-                List.of("Turkey", "Egypt", "Saudi Arabia", "Iran"),
-                "Turkey",
-                List.of("turkey", "türkiye"),
-                "Turkey uses the Turkish lira (TRY).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "Which country uses the Swiss franc as its currency?",
-                List.of("Switzerland", "Austria", "Germany", "France"),
-                "Switzerland",
-                List.of("switzerland"),
-                "Switzerland uses the Swiss franc (CHF).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "Which country uses the South African rand as its currency?",
-                List.of("South Africa", "Nigeria", "Kenya", "Ghana"),
-                "South Africa",
-                List.of("south africa"),
-                "South Africa uses the South African rand (ZAR).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "Which country uses the Singapore dollar as its currency?",
-                List.of("Singapore", "Malaysia", "Indonesia", "Philippines"),
-                "Singapore",
-                List.of("singapore"),
-                "Singapore uses the Singapore dollar (SGD).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "Which country uses the Egyptian pound as its currency?",
-                List.of("Egypt", "Morocco", "Algeria", "Tunisia"),
-                "Egypt",
-                List.of("egypt"),
-                "Egypt uses the Egyptian pound (EGP).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.MCQ,
-                "Which country uses the Norwegian krone as its currency?",
-                List.of("Norway", "Sweden", "Denmark", "Finland"),
-                "Norway",
-                List.of("norway"),
-                "Norway uses the Norwegian krone (NOK).",
-                null
-        ));
-
-        // ---- CAPITALS - TYPE-IN ----
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "What is the capital of Italy?",
-                List.of(),
-                "Rome",
-                List.of("roma"),
-                "Rome has been Italy's capital since 1871.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "What is the capital of South Africa? (app.Main administrative capital)",
-                List.of(),
-                "Pretoria",
-                List.of("city of tshwane", "tshwane"),
-                "Pretoria is the administrative capital; Cape Town and Bloemfontein are also capitals.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "What is the capital of Argentina?",
-                List.of(),
-                "Buenos Aires",
-                List.of("buenosaires", "buenos aires"),
-                "Buenos Aires is the capital and largest city of Argentina.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "What is the capital of Saudi Arabia?",
-                List.of(),
-                "Riyadh",
-                List.of("riyad", "riyadh"),
-                "Riyadh is the political and administrative capital of Saudi Arabia.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "What is the capital of Norway?",
-                List.of(),
-                "Oslo",
-                List.of(),
-                "Oslo is Norway's capital and largest city.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "What is the capital of Thailand?",
-                List.of(),
-                "Bangkok",
-                List.of("krung thep", "krungthep", "bangkok"),
-                "The local name is Krung Thep Maha Nakhon, but Bangkok is internationally used.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "What is the capital of Kenya?",
-                List.of(),
-                "Nairobi",
-                List.of(),
-                "Nairobi is the capital and largest city of Kenya.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "What is the capital of Sweden?",
-                List.of(),
-                "Stockholm",
-                List.of(),
-                "Stockholm is Sweden's capital, located across 14 islands.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "What is the capital of Chile?",
-                List.of(),
-                "Santiago",
-                List.of(),
-                "Santiago is Chile’s capital and largest city.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "What is the capital of Indonesia?",
-                List.of(),
-                "Jakarta",
-                List.of("dki jakarta", "jakarta"),
-                "Jakarta is the capital of Indonesia, though a future capital (Nusantara) is planned.",
-                null
-        ));
-
-        // ---- CAPITALS (reverse) - TYPE-IN ----
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "Which country has Rome as its capital?",
-                List.of(),
-                "Italy",
-                List.of("italy"),
-                "Rome is the capital of Italy.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "Which country has Madrid as its capital?",
-                List.of(),
-                "Spain",
-                List.of("spain"),
-                "Madrid is the capital of Spain.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "Which country has Buenos Aires as its capital?",
-                List.of(),
-                "Argentina",
-                List.of("argentina"),
-                "Buenos Aires is the capital and largest city of Argentina.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "Which country has Bangkok as its capital?",
-                List.of(),
-                "Thailand",
-                List.of("thailand"),
-                "Bangkok is the capital of Thailand.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "Which country has Nairobi as its capital?",
-                List.of(),
-                "Kenya",
-                List.of("kenya"),
-                "Nairobi is the capital of Kenya.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "Which country has Stockholm as its capital?",
-                List.of(),
-                "Sweden",
-                List.of("sweden"),
-                "Stockholm is the capital of Sweden.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "Which country has Jakarta as its capital?",
-                List.of(),
-                "Indonesia",
-                List.of("indonesia"),
-                "Jakarta is the capital of Indonesia.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "Which country has Ankara as its capital?",
-                List.of(),
-                "Turkey",
-                List.of("turkey", "türkiye"),
-                "Ankara is the capital of Turkey.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "Which country has Bern as its capital?",
-                List.of(),
-                "Switzerland",
-                List.of("switzerland"),
-                "Bern is the de facto capital of Switzerland.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CAPITALS,
-                QuestionType.TYPE_IN,
-                "Which country has Lisbon as its capital?",
-                List.of(),
-                "Portugal",
-                List.of("portugal"),
-                "Lisbon is the capital and largest city of Portugal.",
-                null
-        ));
-
-        // ---- LANGUAGES - TYPE-IN ----
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in France?",
-                List.of(),
-                "French",
-                List.of("french"),
-                "French is the official language of France.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Japan?",
-                List.of(),
-                "Japanese",
-                List.of("japanese"),
-                "Japanese is the national language of Japan.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Brazil?",
-                List.of(),
-                "Portuguese",
-                List.of("portuguese"),
-                "Brazil is the largest Portuguese-speaking country in the world.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Russia?",
-                List.of(),
-                "Russian",
-                List.of("russian"),
-                "Russian is the official language of Russia.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Egypt?",
-                List.of(),
-                "Arabic",
-                List.of("arabic"),
-                "Arabic is the official language of Egypt.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Germany?",
-                List.of(),
-                "German",
-                List.of("german"),
-                "German is the official language of Germany.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Mexico?",
-                List.of(),
-                "Spanish",
-                List.of("spanish"),
-                "Spanish is spoken by the majority of the Mexican population.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in South Korea?",
-                List.of(),
-                "Korean",
-                List.of("korean"),
-                "Korean is the official language of South Korea.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in the Netherlands?",
-                List.of(),
-                "Dutch",
-                List.of("dutch"),
-                "Dutch is the official language of the Netherlands.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Iran?",
-                List.of(),
-                "Persian",
-                List.of("persian", "farsi"),
-                "Persian (Farsi) is the official language of Iran.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Italy?",
-                List.of(),
-                "Italian",
-                List.of("italian"),
-                "Italian is the official language of Italy.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in China?",
-                List.of(),
-                "Mandarin Chinese",
-                List.of("mandarin", "chinese", "mandarin chinese"),
-                "Mandarin Chinese is the official language of China.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Saudi Arabia?",
-                List.of(),
-                "Arabic",
-                List.of("arabic"),
-                "Arabic is the official language of Saudi Arabia.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Greece?",
-                List.of(),
-                "Greek",
-                List.of("greek"),
-                "Greek is the official language of Greece.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Thailand?",
-                List.of(),
-                "Thai",
-                List.of("thai"),
-                "Thai is the official language of Thailand.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Vietnam?",
-                List.of(),
-                "Vietnamese",
-                List.of("vietnamese"),
-                "Vietnamese is the official language of Vietnam.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Indonesia?",
-                List.of(),
-                "Indonesian",
-                List.of("indonesian", "bahasa indonesia"),
-                "Indonesian (Bahasa Indonesia) is the official language of Indonesia.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Pakistan?",
-                List.of(),
-                "Urdu",
-                List.of("urdu"),
-                "Urdu is the national language of Pakistan.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Ethiopia?",
-                List.of(),
-                "Amharic",
-                List.of("amharic"),
-                "Amharic is a major official language of Ethiopia.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.LANGUAGES,
-                QuestionType.TYPE_IN,
-                "What language is primarily spoken in Nigeria?",
-                List.of(),
-                "English",
-                List.of("english"),
-                "English is the official language of Nigeria.",
-                null
-        ));
-
-        // ---- CURRENCIES - TYPE-IN ----
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "What is the currency of Japan?",
-                List.of(),
-                "Yen",
-                List.of("yen", "jpy", "japanese yen"),
-                "Japan uses the Japanese yen (JPY).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "What is the currency of the United Kingdom?",
-                List.of(),
-                "Pound sterling",
-                List.of("gbp", "pound", "pound sterling"),
-                "The UK uses the pound sterling (GBP).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "What is the currency of China?",
-                List.of(),
-                "Yuan",
-                List.of("yuan", "cny", "renminbi", "rmb"),
-                "China's currency is the renminbi (yuan), abbreviated as CNY.",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "What is the currency of India?",
-                List.of(),
-                "Rupee",
-                List.of("rupee", "inr", "indian rupee"),
-                "India uses the Indian rupee (INR).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "What is the currency of Brazil?",
-                List.of(),
-                "Real",
-                List.of("real", "brl", "brazilian real"),
-                "Brazil uses the Brazilian real (BRL).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "What is the currency of South Korea?",
-                List.of(),
-                "Won",
-                List.of("won", "krw", "south korean won"),
-                "South Korea uses the South Korean won (KRW).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "What is the currency of Switzerland?",
-                List.of(),
-                "Swiss franc",
-                List.of("chf", "swiss franc"),
-                "Switzerland uses the Swiss franc (CHF).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "What is the currency of Australia?",
-                List.of(),
-                "Australian dollar",
-                List.of("aud", "australian dollar"),
-                "Australia uses the Australian dollar (AUD).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "What is the currency of Mexico?",
-                List.of(),
-                "Mexican peso",
-                List.of("peso", "mexican peso", "mxn"),
-                "Mexico uses the Mexican peso (MXN).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "What is the currency of Turkey?",
-                List.of(),
-                "Turkish lira",
-                List.of("lira", "try", "turkish lira"),
-                "Turkey uses the Turkish lira (TRY).",
-                null
-        ));
-
-        // ---- CURRENCIES (reverse) - TYPE-IN ----
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "Which country uses the Euro as its currency?",
-                List.of(),
-                "Germany",
-                List.of("germany"),
-                "Germany is one of the countries that use the Euro (EUR).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "Which country uses the Canadian dollar as its currency?",
-                List.of(),
-                "Canada",
-                List.of("canada"),
-                "Canada uses the Canadian dollar (CAD).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "Which country uses the New Zealand dollar as its currency?",
-                List.of(),
-                "New Zealand",
-                List.of("new zealand"),
-                "New Zealand uses the New Zealand dollar (NZD).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "Which country uses the Russian ruble as its currency?",
-                List.of(),
-                "Russia",
-                List.of("russia", "russian federation"),
-                "Russia uses the Russian ruble (RUB).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "Which country uses the Turkish lira as its currency?",
-                List.of(),
-                "Turkey",
-                List.of("turkey", "türkiye"),
-                "Turkey uses the Turkish lira (TRY).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "Which country uses the Swiss franc as its currency?",
-                List.of(),
-                "Switzerland",
-                List.of("switzerland"),
-                "Switzerland uses the Swiss franc (CHF).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "Which country uses the South African rand as its currency?",
-                List.of(),
-                "South Africa",
-                List.of("south africa"),
-                "South Africa uses the South African rand (ZAR).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "Which country uses the Singapore dollar as its currency?",
-                List.of(),
-                "Singapore",
-                List.of("singapore"),
-                "Singapore uses the Singapore dollar (SGD).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "Which country uses the Egyptian pound as its currency?",
-                List.of(),
-                "Egypt",
-                List.of("egypt"),
-                "Egypt uses the Egyptian pound (EGP).",
-                null
-        ));
-
-        allQuestions.add(new Question(
-                QuizType.CURRENCIES,
-                QuestionType.TYPE_IN,
-                "Which country uses the Norwegian krone as its currency?",
-                List.of(),
-                "Norway",
-                List.of("norway"),
-                "Norway uses the Norwegian krone (NOK).",
-                null
-        ));
-    }
-
-    private void loadFlagQuestionsFromApi() {
-        final List<Country> countries = countryDataAccess.getCountries();
-        if (countries.size() < MIN_COUNTRIES_FOR_MCQ) {
-            return;
-        }
-
-        final int numQuestions = NUM_API_QUESTIONS;
-
-        for (int i = 0; i < numQuestions; i++) {
-            final Country correct = countries.get(random.nextInt(countries.size()));
-
-            final List<Country> pool = new ArrayList<>(countries);
-            pool.remove(correct);
-            Collections.shuffle(pool);
-            final List<Country> wrongChoices = pool.subList(0, NUM_WRONG_CHOICES);
-
-            final List<String> options = new ArrayList<>();
-            options.add(correct.getName());
-            for (Country country : wrongChoices) {
-                options.add(country.getName());
-            }
-            Collections.shuffle(options);
-
-            allQuestions.add(new Question(
-                    QuizType.FLAGS,
-                    QuestionType.MCQ,
-                    "Which country's flag is shown?",
-                    options,
-                    correct.getName(),
-                    List.of(correct.getName()),
-                    "This is the flag of " + correct.getName(),
-                    correct.getFlagUrl()
-            ));
-        }
-    }
-
-    private void loadFlagTypeInQuestionsFromApi() {
-        final List<Country> countries = countryDataAccess.getCountries();
-        final int numQuestions = NUM_API_QUESTIONS;
-        for (int i = 0; i < numQuestions && i < countries.size(); i++) {
-            final Country country = countries.get(i);
-
-            // No MCQ options for type-in questions
-            allQuestions.add(new Question(
-                    QuizType.FLAGS,
-                    QuestionType.TYPE_IN,
-                    "What country does this flag belong to?",
-                    List.of(),
-                    country.getName(),
-                    List.of(country.getName()),
-                    "This is the flag of " + country.getName(),
-                    country.getFlagUrl()
-            ));
+    public LocalQuestionRepository(CountryDataAccessInterface countryDataAccess,
+                                   List<QuestionGenerator> questionGenerators) {
+        this.countryDataAccess = countryDataAccess;
+        for (QuestionGenerator generator : questionGenerators) {
+            generators.computeIfAbsent(generator.getQuizType(), type -> new ArrayList<>()).add(generator);
         }
     }
 
@@ -1454,34 +94,97 @@ public final class LocalQuestionRepository implements QuestionRepository {
     public List<Question> getQuestionsForQuiz(QuizType quizType,
                                               QuestionType questionType,
                                               int limit) {
-        final List<Question> filtered = filterQuestionsByType(quizType, questionType);
+        final List<Country> catalog = fetchCatalog();
+        final Subject[] subjects = bucketFor(catalog, quizType, questionType);
+        final int[] drawn = IndexSampler.sample(subjects.length, limit, random);
+
+        final List<Question> questions = new ArrayList<>(drawn.length);
+        if (drawn.length > 0) {
+            final DistractorSampler sampler = distractorsFor(catalog);
+            for (int position : drawn) {
+                final Subject subject = subjects[position];
+                questions.add(subject.generator.generate(subject.country, sampler, questionType, random));
+            }
+        }
+        return questions;
+    }
 
-        if (filtered.size() <= limit) {
-            return filtered;
+    /**
+     * Fetches the country catalog, falling back to the built-in countries
+     * when the fetch fails or returns nothing.
+     *
+     * @return the catalog to generate questions from, never empty
+     */
+    private List<Country> fetchCatalog() {
+        List<Country> catalog;
+        try {
+            catalog = countryDataAccess.getCountries();
+        }
+        catch (RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Country catalog unavailable, using the built-in countries", ex);
+            catalog = null;
+        }
+        if (catalog == null || catalog.isEmpty()) {
+            catalog = FallbackCountries.COUNTRIES;
         }
+        return catalog;
+    }
 
-        return selectRandomQuestions(filtered, limit);
+    /**
+     * Returns the distractor sampler of a catalog, building it again when the
+     * catalog differs from the one the current sampler was built from.
+     *
+     * @param catalog the current country catalog
+     * @return the sampler wrong answers are drawn from
+     */
+    private DistractorSampler distractorsFor(List<Country> catalog) {
+        if (distractors == null || catalog != distractorCatalog) {
+            distractors = new DistractorSampler(catalog);
+            distractorCatalog = catalog;
+        }
+        return distractors;
     }
 
-    private List<Question> filterQuestionsByType(QuizType quizType, QuestionType questionType) {
-        final List<Question> filtered = new ArrayList<>();
-        for (Question question : allQuestions) {
-            if (question.getQuizType() == quizType && question.getQuestionType() == questionType) {
-                filtered.add(question);
+    /**
+     * Returns the subjects of a quiz type and question type, collecting them
+     * from the generators the first time they are asked for.
+     *
+     * @param catalog      the current country catalog
+     * @param quizType     the quiz category
+     * @param questionType the question format
+     * @return every (generator, country) pair that can produce a question
+     */
+    private Subject[] bucketFor(List<Country> catalog, QuizType quizType, QuestionType questionType) {
+        if (catalog != bucketCatalog) {
+            buckets.clear();
+            bucketCatalog = catalog;
+        }
+        final Map<QuestionType, Subject[]> byQuestionType =
+                buckets.computeIfAbsent(quizType, type -> new EnumMap<>(QuestionType.class));
+        Subject[] bucket = byQuestionType.get(questionType);
+        if (bucket == null) {
+            final List<Subject> subjects = new ArrayList<>();
+            for (QuestionGenerator generator : generators.getOrDefault(quizType, List.of())) {
+                for (Country country : generator.eligibleSubjects(catalog, questionType)) {
+                    subjects.add(new Subject(generator, country));
+                }
             }
+            bucket = subjects.toArray(new Subject[0]);
+            byQuestionType.put(questionType, bucket);
         }
-        return filtered;
+        return bucket;
     }
 
-    private List<Question> selectRandomQuestions(List<Question> filtered, int limit) {
-        final List<Question> result = new ArrayList<>(limit);
-        final List<Question> pool = new ArrayList<>(filtered);
+    /**
+     * A country a generator can ask about.
+     */
+    private static final class Subject {
+        private final QuestionGenerator generator;
+        private final Country country;
 
-        for (int i = 0; i < limit; i++) {
-            final int index = random.nextInt(pool.size());
-            result.add(pool.remove(index));
+        Subject(QuestionGenerator generator, Country country) {
+            this.generator = generator;
+            this.country = country;
         }
-
-        return result;
     }
 }
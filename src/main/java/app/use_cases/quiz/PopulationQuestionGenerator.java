@@ -0,0 +1,119 @@
+package app.use_cases.quiz;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.Predicate;
+
+import app.entities.Country;
+import app.entities.Question;
+import app.entities.QuestionType;
+import app.entities.QuizType;
+
+/**
+ * Compares the populations of countries. Multiple choice asks which of four
+ * countries is the most populous; type-in asks which of two is larger.
+ */
+public final class PopulationQuestionGenerator extends AbstractQuestionGenerator {
+
+    /**
+     * Creates a generator of population comparison questions.
+     */
+    public PopulationQuestionGenerator() {
+        super(QuizType.POPULATION);
+    }
+
+    @Override
+    boolean canAsk(Country country) {
+        return country.getPopulation() > 0;
+    }
+
+    /**
+     * Only offers subjects if the catalog has another country to compare them
+     * with, that is, at least two countries with different populations.
+     */
+    @Override
+    public List<Country> eligibleSubjects(List<Country> catalog, QuestionType questionType) {
+        List<Country> subjects = super.eligibleSubjects(catalog, questionType);
+        boolean comparable = false;
+        for (int i = 1; i < subjects.size() && !comparable; i++) {
+            comparable = subjects.get(i).getPopulation() != subjects.get(0).getPopulation();
+        }
+        if (!comparable) {
+            subjects = List.of();
+        }
+        return subjects;
+    }
+
+    @Override
+    public Question generate(Country subject, DistractorSampler distractors, QuestionType questionType,
+                             SplittableRandom random) {
+        int others = 1;
+        if (questionType == QuestionType.MCQ) {
+            others = NUM_WRONG_CHOICES;
+        }
+        final List<Country> compared = new ArrayList<>(others + 1);
+        compared.add(subject);
+        final Predicate<Country> comparable =
+                country -> canAsk(country) && country.getPopulation() != subject.getPopulation();
+        compared.addAll(otherCountries(subject, others, distractors, DistractorStrategy.SIMILAR_POPULATION,
+                comparable, random));
+        if (compared.size() == 1) {
+            // Random draws can all miss in a small catalog; never compare a country with itself.
+            compared.add(firstMatch(distractors, comparable));
+        }
+
+        Country largest = subject;
+        final List<String> wrongChoices = new ArrayList<>();
+        final StringBuilder explanation = new StringBuilder("Populations:");
+        for (Country country : compared) {
+            if (country.getPopulation() > largest.getPopulation()) {
+                largest = country;
+            }
+            explanation.append(String.format(Locale.ROOT, " %s %,d;", country.getName(), country.getPopulation()));
+        }
+        for (Country country : compared) {
+            if (country != largest) {
+                wrongChoices.add(country.getName());
+            }
+        }
+
+        String prompt = "Which of these countries has the largest population?";
+        if (questionType == QuestionType.TYPE_IN) {
+            prompt = "Which has the larger population: " + subject.getName() + " or "
+                    + compared.get(compared.size() - 1).getName() + "?";
+        }
+        explanation.setLength(explanation.length() - 1);
+        return question(
+                questionType,
+                prompt,
+                largest.getName(),
+                wrongChoices,
+                List.of(),
+                explanation.append('.').toString(),
+                null
+        );
+    }
+
+    /**
+     * Scans the catalog for a country to compare with.
+     *
+     * @param distractors the catalog
+     * @param accept      which countries may be compared
+     * @return the first accepted country
+     * @throws IllegalStateException if the catalog has none, which eligible subjects rule out
+     */
+    private static Country firstMatch(DistractorSampler distractors, Predicate<Country> accept) {
+        Country result = null;
+        for (Country country : distractors.getCountries()) {
+            if (result == null && accept.test(country)) {
+                result = country;
+            }
+        }
+        if (result == null) {
+            throw new IllegalStateException("No country to compare population with");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,45 @@
+package app.use_cases.quiz;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import app.entities.Country;
+import app.entities.Question;
+import app.entities.QuestionType;
+import app.entities.QuizType;
+
+/**
+ * Synthesizes quiz questions of one kind from the country catalog.
+ *
+ * <p>
+ * A generator asks about one subject country at a time. The repository first
+ * asks which countries a generator can ask about, draws the subjects for a
+ * quiz among them, and only then generates a question for each drawn subject.
+ */
+public interface QuestionGenerator {
+    /**
+     * @return the quiz category the generated questions belong to
+     */
+    QuizType getQuizType();
+
+    /**
+     * Lists the countries this generator can build a question about.
+     *
+     * @param catalog      all countries available
+     * @param questionType the question format wanted
+     * @return the countries usable as subjects, empty if the format is not supported
+     */
+    List<Country> eligibleSubjects(List<Country> catalog, QuestionType questionType);
+
+    /**
+     * Builds one question about a subject country.
+     *
+     * @param subject      a country returned by {@link #eligibleSubjects}
+     * @param distractors  the catalog, grouped for drawing wrong answers
+     * @param questionType the question format wanted
+     * @param random       source of randomness for wrong answers
+     * @return the generated question
+     */
+    Question generate(Country subject, DistractorSampler distractors, QuestionType questionType,
+                      SplittableRandom random);
+}
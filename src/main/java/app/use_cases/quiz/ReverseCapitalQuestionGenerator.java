@@ -0,0 +1,43 @@
+package app.use_cases.quiz;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import app.entities.Country;
+import app.entities.Question;
+import app.entities.QuestionType;
+import app.entities.QuizType;
+
+/**
+ * Names a capital city and asks which country it belongs to.
+ */
+public final class ReverseCapitalQuestionGenerator extends AbstractQuestionGenerator {
+
+    /**
+     * Creates a generator of reverse capital city questions.
+     */
+    public ReverseCapitalQuestionGenerator() {
+        super(QuizType.CAPITALS);
+    }
+
+    @Override
+    boolean canAsk(Country country) {
+        return hasText(country.getCapital().orElse(null));
+    }
+
+    @Override
+    public Question generate(Country subject, DistractorSampler distractors, QuestionType questionType,
+                             SplittableRandom random) {
+        final String capital = subject.getCapital().orElseThrow();
+        return question(
+                questionType,
+                capital + " is the capital of which country?",
+                subject.getName(),
+                wrongAnswers(subject, List.of(subject.getName()), distractors, MOSTLY_REGIONAL,
+                        Country::getName, random),
+                List.of(),
+                capital + " is the capital of " + subject.getName() + ".",
+                null
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package app.use_cases.quiz;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import app.entities.AnswerChecker;
+import app.entities.Country;
+import app.entities.Question;
+import app.entities.QuestionType;
+import app.entities.QuizType;
+
+/**
+ * Names a currency and asks which country uses it. Only currencies used by a
+ * single country in the catalog are asked about, so the answer is unambiguous.
+ */
+public final class ReverseCurrencyQuestionGenerator extends AbstractQuestionGenerator {
+
+    /**
+     * Creates a generator of reverse currency questions.
+     */
+    public ReverseCurrencyQuestionGenerator() {
+        super(QuizType.CURRENCIES);
+    }
+
+    @Override
+    boolean canAsk(Country country) {
+        return hasText(CurrencyQuestionGenerator.firstCurrency(country));
+    }
+
+    @Override
+    public List<Country> eligibleSubjects(List<Country> catalog, QuestionType questionType) {
+        final Map<String, Integer> users = new HashMap<>();
+        for (Country country : catalog) {
+            for (String currency : country.getCurrencies()) {
+                users.merge(AnswerChecker.normalize(currency), 1, Integer::sum);
+            }
+        }
+        final List<Country> subjects = new ArrayList<>();
+        for (Country country : super.eligibleSubjects(catalog, questionType)) {
+            final String currency = AnswerChecker.normalize(CurrencyQuestionGenerator.firstCurrency(country));
+            if (users.get(currency) == 1) {
+                subjects.add(country);
+            }
+        }
+        return subjects;
+    }
+
+    @Override
+    public Question generate(Country subject, DistractorSampler distractors, QuestionType questionType,
+                             SplittableRandom random) {
+        final String currency = subject.getCurrencies().get(0);
+        return question(
+                questionType,
+                "Which country uses the " + currency + " as its currency?",
+                subject.getName(),
+                wrongAnswers(subject, List.of(subject.getName()), distractors, MOSTLY_REGIONAL,
+                        Country::getName, random),
+                List.of(),
+                subject.getName() + " uses the " + currency + ".",
+                null
+        );
+    }
+}
@@ -20,6 +20,9 @@ import app.entities.QuizHistoryEntry;
  * </ul>
  */
 public class TakeQuizInteractor implements TakeQuizInputBoundary {
+    /** Number of questions after the current one whose media the view is told to load ahead. */
+    static final int MEDIA_LOOKAHEAD = 3;
+
     private final QuestionRepository questionRepo;
     private final TakeQuizOutputBoundary presenter;
     private final QuizHistoryDataAccessInterface historyGateway;
@@ -45,7 +48,8 @@ public class TakeQuizInteractor implements TakeQuizInputBoundary {
     }
 
     /**
-     * Starts a quiz session using the parameters in the request model.
+     * Starts a quiz session using the parameters in the request model, or
+     * reports a failure if no questions are available for it.
      */
     @Override
     public void startQuiz(TakeQuizStartRequestModel requestModel) {
@@ -57,20 +61,28 @@ public class TakeQuizInteractor implements TakeQuizInputBoundary {
                 requestModel.getNumberOfQuestions()
         );
 
-        currentQuiz = new Quiz(requestModel.getQuizType(), questions);
+        if (questions.isEmpty()) {
+            currentQuiz = null;
+            presenter.prepareFailView("No questions are available for the "
+                    + requestModel.getQuizType().getDisplayName() + " right now.");
+        }
+        else {
+            currentQuiz = new Quiz(requestModel.getQuizType(), questions);
 
-        final Question first = currentQuiz.getQuestions().get(0);
+            final Question first = currentQuiz.getQuestions().get(0);
 
-        final TakeQuizStartResponseModel response = new TakeQuizStartResponseModel(
-                requestModel.getQuizType().getDisplayName(),
-                first.getPrompt(),
-                shuffledOptions(first),
-                currentQuiz.getCurrentIndex(),
-                currentQuiz.getTotalQuestions(),
-                first.getMediaUrl()
-        );
+            final TakeQuizStartResponseModel response = new TakeQuizStartResponseModel(
+                    requestModel.getQuizType().getDisplayName(),
+                    first.getPrompt(),
+                    shuffledOptions(first),
+                    currentQuiz.getCurrentIndex(),
+                    currentQuiz.getTotalQuestions(),
+                    first.getMediaUrl(),
+                    upcomingMediaUrls()
+            );
 
-        presenter.prepareQuizStart(response);
+            presenter.prepareQuizStart(response);
+        }
     }
 
     /**
@@ -148,7 +160,8 @@ public class TakeQuizInteractor implements TakeQuizInputBoundary {
                     shuffledOptions(q),
                     currentQuiz.getCurrentIndex(),
                     currentQuiz.getTotalQuestions(),
-                    q.getMediaUrl()
+                    q.getMediaUrl(),
+                    upcomingMediaUrls()
             );
 
             presenter.presentQuestion(response);
@@ -193,6 +206,24 @@ public class TakeQuizInteractor implements TakeQuizInputBoundary {
         presenter.presentQuizHistory(response);
     }
 
+    /**
+     * Lists the media of the next few questions after the current one.
+     *
+     * @return the non-empty media URLs of up to {@link #MEDIA_LOOKAHEAD} following questions, in order
+     */
+    private List<String> upcomingMediaUrls() {
+        final List<Question> questions = currentQuiz.getQuestions();
+        final int end = Math.min(questions.size(), currentQuiz.getCurrentIndex() + 1 + MEDIA_LOOKAHEAD);
+        final List<String> urls = new ArrayList<>(MEDIA_LOOKAHEAD);
+        for (int index = currentQuiz.getCurrentIndex() + 1; index < end; index++) {
+            final String mediaUrl = questions.get(index).getMediaUrl();
+            if (mediaUrl != null && !mediaUrl.isEmpty()) {
+                urls.add(mediaUrl);
+            }
+        }
+        return urls;
+    }
+
     /**
      * Shuffles the multiple-choice options of the given question and returns the shuffled list.
      *
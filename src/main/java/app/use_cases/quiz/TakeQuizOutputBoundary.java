@@ -14,6 +14,14 @@ public interface TakeQuizOutputBoundary {
      */
     void prepareQuizStart(TakeQuizStartResponseModel responseModel);
 
+    /**
+     * Reports that a quiz could not be started, for example because no
+     * questions are available for it.
+     *
+     * @param errorMessage the message to show to the user
+     */
+    void prepareFailView(String errorMessage);
+
     /**
      * Presents the current quiz question to the user.
      *
@@ -18,6 +18,7 @@ public class TakeQuizQuestionResponseModel {
     private final int questionIndex;
     private final int totalQuestions;
     private final String mediaUrl;
+    private final List<String> upcomingMediaUrls;
 
     /**
      * Constructs the response model for a quiz question.
@@ -34,11 +35,33 @@ public class TakeQuizQuestionResponseModel {
                                          int questionIndex,
                                          int totalQuestions,
                                          String mediaUrl) {
+        this(prompt, options, questionIndex, totalQuestions, mediaUrl, List.of());
+    }
+
+    /**
+     * Constructs the response model for a quiz question, listing the media of
+     * the questions that follow so the view can load it ahead of time.
+     *
+     * @param prompt the text prompt to display
+     * @param options answer choices (MCQ) or an empty list for type-in questions
+     * @param questionIndex zero-based index of the current question
+     * @param totalQuestions total questions in the quiz
+     * @param mediaUrl URL to an image or other media associated with the question;
+     *                 may be null if not applicable
+     * @param upcomingMediaUrls media URLs of the next questions, in order
+     */
+    public TakeQuizQuestionResponseModel(String prompt,
+                                         List<String> options,
+                                         int questionIndex,
+                                         int totalQuestions,
+                                         String mediaUrl,
+                                         List<String> upcomingMediaUrls) {
         this.prompt = prompt;
         this.options = options;
         this.questionIndex = questionIndex;
         this.totalQuestions = totalQuestions;
         this.mediaUrl = mediaUrl;
+        this.upcomingMediaUrls = upcomingMediaUrls;
     }
 
     public String getPrompt() {
@@ -60,4 +83,8 @@ public class TakeQuizQuestionResponseModel {
     public String getMediaUrl() {
         return mediaUrl;
     }
+
+    public List<String> getUpcomingMediaUrls() {
+        return upcomingMediaUrls;
+    }
 }
@@ -12,6 +12,7 @@ public class TakeQuizStartResponseModel {
     private final int questionIndex;
     private final int totalQuestions;
     private final String mediaUrl;
+    private final List<String> upcomingMediaUrls;
 
     /**
      * Constructor.
@@ -28,12 +29,33 @@ public class TakeQuizStartResponseModel {
                                       int questionIndex,
                                       int totalQuestions,
                                       String mediaUrl) {
+        this(quizTitle, prompt, options, questionIndex, totalQuestions, mediaUrl, List.of());
+    }
+
+    /**
+     * Constructor.
+     * @param quizTitle title shown to the user
+     * @param prompt text of the first question
+     * @param options MCQ options (empty for type-in)
+     * @param questionIndex index of the first question (0-based)
+     * @param totalQuestions total number of questions in the quiz
+     * @param mediaUrl optional image/flag URL
+     * @param upcomingMediaUrls image URLs of the next questions, in order, for prefetching
+     */
+    public TakeQuizStartResponseModel(String quizTitle,
+                                      String prompt,
+                                      List<String> options,
+                                      int questionIndex,
+                                      int totalQuestions,
+                                      String mediaUrl,
+                                      List<String> upcomingMediaUrls) {
         this.quizTitle = quizTitle;
         this.prompt = prompt;
         this.options = options;
         this.questionIndex = questionIndex;
         this.totalQuestions = totalQuestions;
         this.mediaUrl = mediaUrl;
+        this.upcomingMediaUrls = upcomingMediaUrls;
     }
 
     public String getQuizTitle() {
@@ -59,4 +81,8 @@ public class TakeQuizStartResponseModel {
     public String getMediaUrl() {
         return mediaUrl;
     }
+
+    public List<String> getUpcomingMediaUrls() {
+        return upcomingMediaUrls;
+    }
 }
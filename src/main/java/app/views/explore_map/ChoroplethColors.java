@@ -0,0 +1,140 @@
+package app.views.explore_map;
+
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import app.entities.Country;
+import app.use_cases.explore_map.CountryJoinIndex;
+
+/**
+ * Per-feature fill colours of the explore map's choropleth modes.
+ *
+ * <p>
+ * Colours are computed once per (mode, palette) combination from the
+ * feature-to-country join and cached, so switching back to a mode is a map
+ * lookup. Numeric modes use quantile class breaks over the joined
+ * countries; the region mode gives each region its own colour. Features
+ * without a joined country or value get {@link #NO_DATA}.
+ */
+final class ChoroplethColors {
+    /** Fill of features with no catalog match or no value. */
+    static final Color NO_DATA = new Color(220, 220, 220);
+
+    private static final Color[] REGION_COLORS = {
+        new Color(0x8DD3C7), new Color(0xFFFFB3), new Color(0xBEBADA), new Color(0xFB8072),
+        new Color(0x80B1D3), new Color(0xFDB462), new Color(0xB3DE69), new Color(0xFCCDE5),
+    };
+
+    private final CountryJoinIndex join;
+    private final int featureCount;
+    private final Map<String, Color[]> cache = new HashMap<>();
+
+    /**
+     * @param join join from feature positions to countries
+     * @param featureCount number of features in the joined store
+     */
+    ChoroplethColors(CountryJoinIndex join, int featureCount) {
+        this.join = join;
+        this.featureCount = featureCount;
+    }
+
+    /**
+     * Returns the fill colour of every feature for a mode, computing it on first use.
+     *
+     * @param mode the attribute to colour by, not {@link ChoroplethMode#NONE}
+     * @param palette the ramp for numeric modes
+     * @return fill colours indexed by feature position
+     */
+    Color[] colorsFor(ChoroplethMode mode, ChoroplethPalette palette) {
+        return cache.computeIfAbsent(mode.name() + "/" + palette.name(), key -> compute(mode, palette));
+    }
+
+    private Color[] compute(ChoroplethMode mode, ChoroplethPalette palette) {
+        final Color[] colors = new Color[featureCount];
+        Arrays.fill(colors, NO_DATA);
+        if (mode.isNumeric()) {
+            fillNumeric(colors, mode, palette);
+        }
+        else if (mode == ChoroplethMode.REGION) {
+            fillRegions(colors);
+        }
+        return colors;
+    }
+
+    private void fillNumeric(Color[] colors, ChoroplethMode mode, ChoroplethPalette palette) {
+        final List<Country> catalog = join.getCatalog();
+        final double[] values = new double[featureCount];
+        final double[] known = new double[featureCount];
+        int knownCount = 0;
+        for (int i = 0; i < featureCount; i++) {
+            values[i] = Double.NaN;
+            final int ordinal = join.ordinalOf(i);
+            if (ordinal != CountryJoinIndex.NO_COUNTRY) {
+                values[i] = mode.valueOf(catalog.get(ordinal));
+                if (!Double.isNaN(values[i])) {
+                    known[knownCount] = values[i];
+                    knownCount++;
+                }
+            }
+        }
+
+        final double[] breaks = quantileBreaks(Arrays.copyOf(known, knownCount), palette.classCount());
+        for (int i = 0; i < featureCount; i++) {
+            if (!Double.isNaN(values[i])) {
+                colors[i] = palette.colorOf(classOf(values[i], breaks));
+            }
+        }
+    }
+
+    private void fillRegions(Color[] colors) {
+        final List<Country> catalog = join.getCatalog();
+        final TreeSet<String> regions = new TreeSet<>();
+        for (Country country : catalog) {
+            regions.add(country.getRegion());
+        }
+        final Map<String, Color> regionColors = new HashMap<>();
+        int next = 0;
+        for (String region : regions) {
+            regionColors.put(region, REGION_COLORS[next % REGION_COLORS.length]);
+            next++;
+        }
+
+        for (int i = 0; i < featureCount; i++) {
+            final int ordinal = join.ordinalOf(i);
+            if (ordinal != CountryJoinIndex.NO_COUNTRY) {
+                colors[i] = regionColors.get(catalog.get(ordinal).getRegion());
+            }
+        }
+    }
+
+    /**
+     * Computes the upper bounds of all but the last class so each class holds
+     * about the same number of values.
+     *
+     * @param values the known values, in any order
+     * @param classCount number of classes
+     * @return ascending class breaks, {@code classCount - 1} of them
+     */
+    static double[] quantileBreaks(double[] values, int classCount) {
+        Arrays.sort(values);
+        final double[] breaks = new double[classCount - 1];
+        for (int k = 1; k < classCount; k++) {
+            if (values.length > 0) {
+                breaks[k - 1] = values[Math.min(values.length - 1, k * values.length / classCount)];
+            }
+        }
+        return breaks;
+    }
+
+    private static int classOf(double value, double[] breaks) {
+        int result = 0;
+        while (result < breaks.length && value >= breaks[result]) {
+            result++;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,55 @@
+package app.views.explore_map;
+
+import app.entities.Country;
+import lombok.Getter;
+
+/**
+ * Country attributes the explore map can be coloured by.
+ */
+@Getter
+public enum ChoroplethMode {
+    NONE("Plain", false),
+    POPULATION("Population", true),
+    AREA("Area", true),
+    DENSITY("Population density", true),
+    REGION("Region", false);
+
+    private final String displayName;
+    private final boolean numeric;
+
+    /**
+     * Constructs a ChoroplethMode.
+     *
+     * @param displayName name shown in the map toolbar
+     * @param numeric whether the mode classifies a numeric value rather than a category
+     */
+    ChoroplethMode(String displayName, boolean numeric) {
+        this.displayName = displayName;
+        this.numeric = numeric;
+    }
+
+    /**
+     * Reads the numeric value a mode classifies.
+     *
+     * @param country the country to read
+     * @return the value, or NaN if the mode is not numeric or the value is unknown
+     */
+    double valueOf(Country country) {
+        double result = Double.NaN;
+        if (this == POPULATION && country.getPopulation() > 0) {
+            result = country.getPopulation();
+        }
+        else if (this == AREA && country.getAreaKm2() > 0) {
+            result = country.getAreaKm2();
+        }
+        else if (this == DENSITY && country.getPopulation() > 0 && country.getAreaKm2() > 0) {
+            result = country.getPopulation() / country.getAreaKm2();
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
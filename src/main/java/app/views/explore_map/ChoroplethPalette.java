@@ -0,0 +1,60 @@
+package app.views.explore_map;
+
+import java.awt.Color;
+
+import lombok.Getter;
+
+/**
+ * Sequential colour ramps for numeric choropleth classes, lightest first.
+ * The ramps are shared, so their colours are only read one at a time and
+ * the arrays never leave the enum.
+ */
+public enum ChoroplethPalette {
+    BLUES("Blues", new Color[] {
+        new Color(0xEFF3FF), new Color(0xBDD7E7), new Color(0x6BAED6),
+        new Color(0x3182BD), new Color(0x08519C),
+    }),
+    GREENS("Greens", new Color[] {
+        new Color(0xEDF8E9), new Color(0xBAE4B3), new Color(0x74C476),
+        new Color(0x31A354), new Color(0x006D2C),
+    }),
+    ORANGES("Oranges", new Color[] {
+        new Color(0xFEEDDE), new Color(0xFDBE85), new Color(0xFD8D3C),
+        new Color(0xE6550D), new Color(0xA63603),
+    });
+
+    @Getter
+    private final String displayName;
+    private final Color[] colors;
+
+    /**
+     * Constructs a ChoroplethPalette.
+     *
+     * @param displayName name shown in the map toolbar
+     * @param colors one colour per class, lightest first
+     */
+    ChoroplethPalette(String displayName, Color[] colors) {
+        this.displayName = displayName;
+        this.colors = colors.clone();
+    }
+
+    /**
+     * @return the number of classes the palette can show
+     */
+    int classCount() {
+        return colors.length;
+    }
+
+    /**
+     * @param index a class index
+     * @return the colour of that class
+     */
+    Color colorOf(int index) {
+        return colors[index];
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,416 @@
+package app.views.explore_map;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.map.MapContent;
+import org.geotools.swing.JMapPane;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Map pane that paints hover, selection and neighbour highlights as an overlay.
+ *
+ * <p>
+ * When a {@link MapTileLayer} is attached, the base map is composed from its
+ * cached tiles instead of the single image rendered by {@link JMapPane};
+ * otherwise the pane falls back to the inherited rendering. Highlights are
+ * painted on top of it after every repaint instead of being added to the
+ * {@link MapContent} as extra layers, so a hover change never triggers a
+ * re-render of the map. Screen-space highlight shapes are computed once per
+ * feature and display transform, and a change only repaints the region
+ * covered by the old and new highlight. Country labels from a
+ * {@link MapLabelLayer} are drawn last.
+ *
+ * <p>
+ * While a {@link ZoomAnimator} runs, the pane instead paints a snapshot of an
+ * earlier frame through the transform the animator supplies, and records how
+ * long each paint took so the animator can stay within its frame budget.
+ */
+final class ExploreMapPane extends JMapPane {
+    private static final float HIGHLIGHT_STROKE_WIDTH = 3.0f;
+    private static final int REPAINT_MARGIN = 4;
+
+    private static final Color HOVER_FILL = new Color(255, 200, 200, 150);
+    private static final Color HOVER_OUTLINE = Color.RED;
+    private static final Color SELECTED_FILL = new Color(100, 149, 237, 180);
+    private static final Color SELECTED_OUTLINE = Color.BLACK;
+    private static final Color NEIGHBOUR_FILL = new Color(255, 215, 0, 120);
+    private static final Color NEIGHBOUR_OUTLINE = new Color(184, 134, 11);
+
+    private final Stroke highlightStroke = new BasicStroke(HIGHLIGHT_STROKE_WIDTH);
+
+    private final Highlight hover = new Highlight(HOVER_FILL, HOVER_OUTLINE);
+    private final Highlight selection = new Highlight(SELECTED_FILL, SELECTED_OUTLINE);
+    private List<Highlight> neighbours = Collections.emptyList();
+
+    private MapTileLayer tileLayer;
+    private MapLabelLayer labelLayer;
+
+    private BufferedImage animationFrame;
+    private AffineTransform animationTransform;
+    private boolean smoothAnimation;
+    private long lastPaintNanos;
+
+    /**
+     * Creates a map pane displaying the given content.
+     *
+     * @param content the map content to render as the base map
+     */
+    ExploreMapPane(MapContent content) {
+        super(content);
+    }
+
+    /**
+     * Sets the feature highlighted under the cursor.
+     *
+     * @param feature the hovered feature, or null to clear
+     */
+    void setHoverFeature(SimpleFeature feature) {
+        updateHighlight(hover, feature);
+    }
+
+    /**
+     * Sets the feature highlighted as the current selection.
+     *
+     * @param feature the selected feature, or null to clear
+     */
+    void setSelectedFeature(SimpleFeature feature) {
+        updateHighlight(selection, feature);
+    }
+
+    /**
+     * Sets the features highlighted as bordering the current selection.
+     *
+     * @param features the neighbouring features, or an empty list to clear
+     */
+    void setNeighbourFeatures(List<SimpleFeature> features) {
+        final AffineTransform worldToScreen = getWorldToScreenTransform();
+        final Rectangle dirty = neighbourBounds(worldToScreen);
+        final List<Highlight> updated = new ArrayList<>(features.size());
+        for (SimpleFeature feature : features) {
+            final Highlight highlight = new Highlight(NEIGHBOUR_FILL, NEIGHBOUR_OUTLINE);
+            highlight.setFeature(feature);
+            updated.add(highlight);
+        }
+        neighbours = updated;
+        repaintRegion(union(dirty, neighbourBounds(worldToScreen)));
+    }
+
+    /**
+     * Attaches the tile layer the base map is composed from.
+     *
+     * @param layer the tile layer, or null to use the inherited single-image rendering
+     */
+    void setTileLayer(MapTileLayer layer) {
+        tileLayer = layer;
+        repaint();
+    }
+
+    /**
+     * Attaches the country label layer drawn above the map and highlights.
+     *
+     * @param layer the label layer, or null to draw no labels
+     */
+    void setLabelLayer(MapLabelLayer layer) {
+        labelLayer = layer;
+        repaint();
+    }
+
+    /**
+     * Shows a previously captured frame instead of the live map.
+     *
+     * @param frame the captured frame, as returned by {@link #snapshot()}
+     * @param frameToScreen transform from frame pixels to pane pixels
+     * @param smooth whether to filter the frame bilinearly rather than by nearest neighbour
+     */
+    void setAnimationFrame(BufferedImage frame, AffineTransform frameToScreen, boolean smooth) {
+        animationFrame = frame;
+        animationTransform = frameToScreen;
+        smoothAnimation = smooth;
+        repaint();
+    }
+
+    /**
+     * Returns to painting the live map.
+     */
+    void clearAnimationFrame() {
+        if (animationFrame != null) {
+            animationFrame = null;
+            animationTransform = null;
+            repaint();
+        }
+    }
+
+    /**
+     * Captures what the pane currently shows, including an animation frame in progress.
+     *
+     * @return an image the size of the pane
+     */
+    BufferedImage snapshot() {
+        final BufferedImage image = new BufferedImage(
+                Math.max(1, getWidth()), Math.max(1, getHeight()), BufferedImage.TYPE_INT_RGB);
+        final Graphics2D g2d = image.createGraphics();
+        try {
+            paintComponent(g2d);
+        }
+        finally {
+            g2d.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Asks the tile layer to start rendering the tiles of the current display area.
+     */
+    void prefetchTiles() {
+        final AffineTransform worldToScreen = getWorldToScreenTransform();
+        if (tileLayer != null && worldToScreen != null) {
+            tileLayer.prefetch(worldToScreen, visibleArea());
+        }
+    }
+
+    /**
+     * @return whether every tile of the current display area is ready to paint
+     */
+    boolean isRenderComplete() {
+        final AffineTransform worldToScreen = getWorldToScreenTransform();
+        return tileLayer == null || worldToScreen == null
+                || tileLayer.isComplete(worldToScreen, visibleArea());
+    }
+
+    /**
+     * @return how long the most recent paint of the pane took, in nanoseconds
+     */
+    long getLastPaintNanos() {
+        return lastPaintNanos;
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        final long start = System.nanoTime();
+        if (animationFrame != null) {
+            paintAnimationFrame(graphics);
+        }
+        else {
+            paintMap(graphics);
+        }
+        lastPaintNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Paints the captured animation frame through the animation transform.
+     *
+     * @param graphics graphics of this pane
+     */
+    private void paintAnimationFrame(Graphics graphics) {
+        final Graphics2D g2d = (Graphics2D) graphics.create();
+        try {
+            g2d.setColor(getBackground());
+            g2d.fillRect(0, 0, getWidth(), getHeight());
+            final Object interpolation;
+            if (smoothAnimation) {
+                interpolation = RenderingHints.VALUE_INTERPOLATION_BILINEAR;
+            }
+            else {
+                interpolation = RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR;
+            }
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            g2d.drawImage(animationFrame, animationTransform, null);
+        }
+        finally {
+            g2d.dispose();
+        }
+    }
+
+    /**
+     * Paints the live map with its highlights and labels.
+     *
+     * @param graphics graphics of this pane
+     */
+    private void paintMap(Graphics graphics) {
+        final AffineTransform worldToScreen = getWorldToScreenTransform();
+        if (tileLayer == null || worldToScreen == null) {
+            super.paintComponent(graphics);
+        }
+        else {
+            paintTiles(graphics, worldToScreen);
+        }
+
+        if (worldToScreen != null) {
+            final Graphics2D g2d = (Graphics2D) graphics.create();
+            try {
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g2d.setStroke(highlightStroke);
+                for (Highlight neighbour : neighbours) {
+                    neighbour.paint(g2d, worldToScreen);
+                }
+                selection.paint(g2d, worldToScreen);
+                hover.paint(g2d, worldToScreen);
+                if (labelLayer != null) {
+                    labelLayer.paint(g2d, worldToScreen, visibleArea());
+                }
+            }
+            finally {
+                g2d.dispose();
+            }
+        }
+    }
+
+    /**
+     * Clears the pane and paints the base map tiles covering the visible area.
+     *
+     * @param graphics graphics of this pane
+     * @param worldToScreen the current world-to-screen transform
+     */
+    private void paintTiles(Graphics graphics, AffineTransform worldToScreen) {
+        final Graphics2D g2d = (Graphics2D) graphics.create();
+        try {
+            g2d.setColor(getBackground());
+            g2d.fillRect(0, 0, getWidth(), getHeight());
+
+            tileLayer.paint(g2d, worldToScreen, visibleArea());
+        }
+        finally {
+            g2d.dispose();
+        }
+    }
+
+    /**
+     * @return the world area currently covered by the pane
+     */
+    private Envelope visibleArea() {
+        final Rectangle2D visible = getScreenToWorldTransform()
+                .createTransformedShape(new Rectangle(0, 0, getWidth(), getHeight()))
+                .getBounds2D();
+        return new Envelope(visible.getMinX(), visible.getMaxX(), visible.getMinY(), visible.getMaxY());
+    }
+
+    /**
+     * Swaps the feature of a highlight and repaints the area both versions cover.
+     *
+     * @param highlight the highlight to update
+     * @param feature the new feature, or null to clear
+     */
+    private void updateHighlight(Highlight highlight, SimpleFeature feature) {
+        if (highlight.feature != feature) {
+            final AffineTransform worldToScreen = getWorldToScreenTransform();
+            final Rectangle dirty = highlight.screenBounds(worldToScreen);
+            highlight.setFeature(feature);
+            final Rectangle updated = highlight.screenBounds(worldToScreen);
+            repaintRegion(union(dirty, updated));
+        }
+    }
+
+    /**
+     * @return the screen area covered by the neighbour highlights, or null if none is visible
+     */
+    private Rectangle neighbourBounds(AffineTransform worldToScreen) {
+        Rectangle result = null;
+        for (Highlight neighbour : neighbours) {
+            result = union(result, neighbour.screenBounds(worldToScreen));
+        }
+        return result;
+    }
+
+    /**
+     * Combines two screen regions, either of which may be null.
+     */
+    private static Rectangle union(Rectangle first, Rectangle second) {
+        Rectangle result = first;
+        if (first == null) {
+            result = second;
+        }
+        else if (second != null) {
+            result = first.union(second);
+        }
+        return result;
+    }
+
+    /**
+     * Repaints a screen region, padded to cover the highlight stroke.
+     *
+     * @param region the region to repaint, or null if nothing is visible
+     */
+    private void repaintRegion(Rectangle region) {
+        if (region != null) {
+            final Rectangle padded = new Rectangle(region);
+            padded.grow(REPAINT_MARGIN, REPAINT_MARGIN);
+            repaint(padded);
+        }
+    }
+
+    /**
+     * A highlighted feature together with its cached screen-space shape.
+     */
+    private static final class Highlight {
+        private final Color fill;
+        private final Color outline;
+
+        private SimpleFeature feature;
+        private Shape screenShape;
+        private AffineTransform shapeTransform;
+
+        Highlight(Color fill, Color outline) {
+            this.fill = fill;
+            this.outline = outline;
+        }
+
+        void setFeature(SimpleFeature newFeature) {
+            feature = newFeature;
+            screenShape = null;
+            shapeTransform = null;
+        }
+
+        /**
+         * Returns the screen shape of the feature, recomputing it only when
+         * the display transform has changed since it was last built.
+         */
+        Shape shape(AffineTransform worldToScreen) {
+            Shape result = null;
+            if (feature != null && worldToScreen != null) {
+                if (screenShape == null || !worldToScreen.equals(shapeTransform)) {
+                    final Geometry geometry = (Geometry) feature.getDefaultGeometry();
+                    if (geometry != null) {
+                        screenShape = ScreenShapes.writer(worldToScreen).toShape(geometry);
+                        shapeTransform = new AffineTransform(worldToScreen);
+                    }
+                }
+                result = screenShape;
+            }
+            return result;
+        }
+
+        Rectangle screenBounds(AffineTransform worldToScreen) {
+            final Shape shape = shape(worldToScreen);
+            Rectangle result = null;
+            if (shape != null) {
+                result = shape.getBounds();
+            }
+            return result;
+        }
+
+        void paint(Graphics2D g2d, AffineTransform worldToScreen) {
+            final Shape shape = shape(worldToScreen);
+            if (shape != null) {
+                g2d.setColor(fill);
+                g2d.fill(shape);
+                g2d.setColor(outline);
+                g2d.draw(shape);
+            }
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package app.views.explore_map;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.geotools.api.data.SimpleFeatureSource;
 import org.geotools.api.feature.simple.SimpleFeature;
 
+import app.use_cases.explore_map.CountryJoinIndex;
+import app.use_cases.explore_map.MapDataset;
+import app.use_cases.explore_map.MapFeatureIndex;
+import app.use_cases.explore_map.MapProjection;
+
 /**
  * State object for the Explore Map view.
  */
@@ -11,12 +19,30 @@ public class ExploreMapState {
     /** The currently loaded map data. */
     private SimpleFeatureSource featureSource;
 
+    /** The hit-test index over the loaded map data. */
+    private MapFeatureIndex featureIndex;
+
+    /** The multi-resolution dataset of the loaded map, if any. */
+    private MapDataset dataset;
+
+    /** The join between the loaded map and the country catalog, if any. */
+    private CountryJoinIndex countryJoin;
+
     /** The selected feature on the map, if any. */
     private SimpleFeature selectedFeature;
 
     /** The name of the selected country, if available. */
     private String selectedCountryName;
 
+    /** The catalog code of the selected country, if it was resolved. */
+    private String selectedCountryCode;
+
+    /** The features sharing a land border with the selected feature. */
+    private List<SimpleFeature> neighbourFeatures = Collections.emptyList();
+
+    /** The projection the map is shown in. */
+    private MapProjection projection = MapProjection.PLATE_CARREE;
+
     /** The current error message to display. */
     private String errorMessage;
 
@@ -66,6 +92,30 @@ public class ExploreMapState {
         this.featureSource = featureSource;
     }
 
+    public MapFeatureIndex getFeatureIndex() {
+        return featureIndex;
+    }
+
+    public void setFeatureIndex(MapFeatureIndex featureIndex) {
+        this.featureIndex = featureIndex;
+    }
+
+    public MapDataset getDataset() {
+        return dataset;
+    }
+
+    public void setDataset(MapDataset dataset) {
+        this.dataset = dataset;
+    }
+
+    public CountryJoinIndex getCountryJoin() {
+        return countryJoin;
+    }
+
+    public void setCountryJoin(CountryJoinIndex countryJoin) {
+        this.countryJoin = countryJoin;
+    }
+
     public SimpleFeature getSelectedFeature() {
         return selectedFeature;
     }
@@ -82,6 +132,30 @@ public class ExploreMapState {
         this.selectedCountryName = selectedCountryName;
     }
 
+    public String getSelectedCountryCode() {
+        return selectedCountryCode;
+    }
+
+    public void setSelectedCountryCode(String selectedCountryCode) {
+        this.selectedCountryCode = selectedCountryCode;
+    }
+
+    public List<SimpleFeature> getNeighbourFeatures() {
+        return neighbourFeatures;
+    }
+
+    public void setNeighbourFeatures(List<SimpleFeature> neighbourFeatures) {
+        this.neighbourFeatures = neighbourFeatures;
+    }
+
+    public MapProjection getProjection() {
+        return projection;
+    }
+
+    public void setProjection(MapProjection projection) {
+        this.projection = projection;
+    }
+
     public String getErrorMessage() {
         return errorMessage;
     }
@@ -10,49 +10,52 @@ import java.awt.RenderingHints;
 import java.awt.Toolkit;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import javax.swing.JButton;
+import javax.swing.JComboBox;
 import javax.swing.JFileChooser;
+import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JSeparator;
 import javax.swing.SwingConstants;
 import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import javax.swing.filechooser.FileFilter;
 
 import app.NavigationService;
 import org.geotools.api.data.SimpleFeatureSource;
 import org.geotools.api.feature.simple.SimpleFeature;
-import org.geotools.api.filter.FilterFactory;
-import org.geotools.api.style.FeatureTypeStyle;
-import org.geotools.api.style.Fill;
-import org.geotools.api.style.LineSymbolizer;
-import org.geotools.api.style.PolygonSymbolizer;
-import org.geotools.api.style.Rule;
 import org.geotools.api.style.Style;
-import org.geotools.api.style.StyleFactory;
-import org.geotools.data.memory.MemoryFeatureCollection;
-import org.geotools.data.simple.SimpleFeatureIterator;
-import org.geotools.factory.CommonFactoryFinder;
-import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.map.FeatureLayer;
 import org.geotools.map.MapContent;
-import org.geotools.renderer.GTRenderer;
-import org.geotools.renderer.lite.StreamingRenderer;
-import org.geotools.swing.JMapPane;
 import org.geotools.swing.event.MapMouseEvent;
 import org.geotools.swing.event.MapMouseListener;
+import org.geotools.swing.event.MapPaneAdapter;
+import org.geotools.swing.event.MapPaneEvent;
 import org.locationtech.jts.geom.Coordinate;
-import org.locationtech.jts.geom.Geometry;
-import org.locationtech.jts.geom.Point;
 
 import app.controllers.ExploreMapController;
+import app.use_cases.explore_map.CountryJoinIndex;
+import app.use_cases.explore_map.MapDataset;
+import app.use_cases.explore_map.MapFeatureIndex;
+import app.use_cases.explore_map.MapFeatureStore;
+import app.use_cases.explore_map.MapProjection;
+import app.use_cases.explore_map.MapResolution;
+import app.use_cases.explore_map.ProjectedMapCache;
 import app.views.AbstractView;
 import app.views.ViewModel;
 import lombok.Getter;
@@ -64,10 +67,16 @@ import lombok.Setter;
  * Uses generic ViewModel instead of custom ExploreMapViewModel.
  */
 public class ExploreMapView extends AbstractView {
+    private static final Logger LOGGER = Logger.getLogger(ExploreMapView.class.getName());
+
     // Zoom configuration
     private static final double MIN_ZOOM_SCALE = 0.1;
     private static final double MAX_ZOOM_SCALE = 50.0;
     private static final int MAX_ZOOM_IN_LEVELS = 5;
+    private static final double ZOOM_IN_FACTOR = 0.8;
+    private static final double ZOOM_OUT_FACTOR = 1.25;
+    private static final double ZOOM_WHEEL_IN_FACTOR = 0.8;
+    private static final double ZOOM_WHEEL_OUT_FACTOR = 1.2;
 
     // Cursor drawing sizes
     private static final int CURSOR_SIZE = 32;
@@ -83,29 +92,15 @@ public class ExploreMapView extends AbstractView {
     private static final float STROKE_WIDTH_THIN = 1.0f;
     private static final float STROKE_WIDTH_MEDIUM = 1.5f;
     private static final float STROKE_WIDTH_THICK = 2.0f;
-    private static final float STROKE_WIDTH_EXTRA_THICK = 3.0f;
-    private static final double FALLBACK_STROKE_WIDTH = 0.5;
 
-    // Interaction timing and zoom factors
-    private static final int HOVER_DELAY_MS = 50;
-    private static final double ZOOM_IN_FACTOR = 0.8;
-    private static final double ZOOM_OUT_FACTOR = 1.25;
-    private static final double ZOOM_WHEEL_IN_FACTOR = 0.8;
-    private static final double ZOOM_WHEEL_OUT_FACTOR = 1.2;
+    // Selection tolerance
+    private static final double SELECT_TOLERANCE_PIXELS = 8.0;
+
+    // Tile cache configuration
+    private static final String TILE_STYLE_VERSION = "v2";
 
     // Color components for fills
     private static final int GREEN_COMPONENT = 120;
-    private static final int LIGHT_BLUE_R = 200;
-    private static final int LIGHT_BLUE_G = 220;
-    private static final int LIGHT_BLUE_B = 240;
-    private static final int HOVER_RED = 255;
-    private static final int HOVER_GREEN = 200;
-    private static final int HOVER_BLUE = 200;
-    private static final int HOVER_ALPHA = 150;
-    private static final int SELECTED_RED = 100;
-    private static final int SELECTED_GREEN = 149;
-    private static final int SELECTED_BLUE = 237;
-    private static final int SELECTED_ALPHA = 180;
 
     // Selection cursor geometry
     private static final int ARROW_BASE_Y = 24;
@@ -140,16 +135,64 @@ public class ExploreMapView extends AbstractView {
     @Setter
     private ExploreMapController controller;
 
+    /**
+     * -- SETTER --
+     * Sets how long a loaded map session is kept after the view closes.
+     *
+     * @param newPolicy the eviction policy
+     */
+    @Setter
+    private MapSessionEvictionPolicy sessionEvictionPolicy = MapSessionEvictionPolicy.defaultPolicy();
+    private javax.swing.Timer sessionEvictionTimer;
+
+    /**
+     * -- SETTER --
+     * Sets the directory rendered map tiles are persisted in between sessions.
+     *
+     * @param newDirectory the tile cache directory, or null to keep tiles in memory only
+     */
+    @Setter
+    private File tileCacheDirectory;
+
+    /**
+     * -- SETTER --
+     * Sets the cache of reprojected maps shared with the data access object,
+     * so a projection is computed once in the background before switching to it.
+     *
+     * @param newProjectedMaps the shared cache, or null to let the switch compute it
+     */
+    @Setter
+    private ProjectedMapCache projectedMaps;
+
     // Map components
-    private JMapPane mapPane;
+    private ExploreMapPane mapPane;
+    private ZoomAnimator zoomAnimator;
     private MapContent mapContent;
     private FeatureLayer featureLayer;
-    private FeatureLayer hoverLayer;
-    private FeatureLayer selectedLayer;
     private SimpleFeatureSource featureSource;
-    private StyleFactory styleFactory;
-    private FilterFactory filterFactory;
+    private MapFeatureIndex featureIndex;
+    private MapDataset dataset;
+    private MapResolution currentResolution;
+
+    // Projection: the loaded base map in native coordinates and the store drawn in its place
+    private MapProjection projection = MapProjection.PLATE_CARREE;
+    private MapFeatureIndex nativeBaseIndex;
+    private MapFeatureStore baseStore;
+    private SwingWorker<Void, Void> projectionWorker;
+    private SwingWorker<MapFeatureIndex, Void> resolutionProjectionWorker;
+    private JComboBox<MapProjection> projectionBox;
+
+    // Bumped on eviction so background work queued for an evicted session discards its result
+    private int sessionGeneration;
+
+    // Choropleth colouring: join to the catalog and cached colours per drawn store
+    private CountryJoinIndex countryJoin;
+    private final Map<MapFeatureStore, ChoroplethColors> choroplethColors = new IdentityHashMap<>();
+    private ChoroplethMode choroplethMode = ChoroplethMode.NONE;
+    private ChoroplethPalette choroplethPalette = ChoroplethPalette.BLUES;
     private Style defaultStyle;
+    private MapTileLayer tileLayer;
+    private MapLabelLayer labelLayer;
 
     // UI components
     private JButton panButton;
@@ -163,9 +206,12 @@ public class ExploreMapView extends AbstractView {
     private int currentZoomLevel;
     private SimpleFeature hoveredFeature;
 
-    // Thread safety for rendering
-    private boolean isUpdatingStyle;
-    private javax.swing.Timer hoverUpdateTimer;
+    // Coalesces cursor samples and resolves them off the EDT
+    private HoverPipeline hoverPipeline;
+
+    // Hover ID buffer mirroring the current viewport, rebuilt off the EDT
+    private FeatureIdRaster idRaster;
+    private SwingWorker<FeatureIdRaster, Void> idRasterWorker;
 
     /**
      * Creates a new ExploreMapView.
@@ -182,13 +228,15 @@ public class ExploreMapView extends AbstractView {
             this.exploreMapViewModel.updateState(new ExploreMapState());
         }
 
-        initializeFactories();
         createCustomCursors();
         setUpUi();
     }
 
     @Override
     public void onViewOpened(String param) {
+        // Reuse a retained session if it has not been evicted yet.
+        cancelSessionEviction();
+
         // Automatically load the default world map shapefile on startup
         if (controller != null && (mapPane == null || mapContent == null)) {
             // Load the default shapefile from the resources folder
@@ -203,19 +251,67 @@ public class ExploreMapView extends AbstractView {
 
     @Override
     public void onViewClosed() {
-        // Dispose map content when view is closed.
+        clearHover();
+
+        // Keep the loaded session around until the eviction policy releases it.
+        if (sessionEvictionPolicy.isImmediate()) {
+            evictSession();
+        }
+        else if (!sessionEvictionPolicy.isRetainedForever()) {
+            cancelSessionEviction();
+            sessionEvictionTimer = new javax.swing.Timer(
+                    sessionEvictionPolicy.getIdleTimeoutMillis(),
+                    event -> evictSession()
+            );
+            sessionEvictionTimer.setRepeats(false);
+            sessionEvictionTimer.start();
+        }
+    }
+
+    /**
+     * Stops a pending session eviction, if any.
+     */
+    private void cancelSessionEviction() {
+        if (sessionEvictionTimer != null) {
+            sessionEvictionTimer.stop();
+            sessionEvictionTimer = null;
+        }
+    }
+
+    /**
+     * Releases the map session: map content, pane, cached images and indexes.
+     */
+    private void evictSession() {
+        sessionEvictionTimer = null;
+        sessionGeneration++;
+        cancelProjectionWork();
         if (mapContent != null) {
             mapContent.dispose();
             mapContent = null;
         }
+        if (zoomAnimator != null) {
+            zoomAnimator.stop();
+            zoomAnimator = null;
+        }
         if (mapPane != null) {
             remove(mapPane);
             mapPane = null;
         }
+        disposeTileLayer();
+        disposeLabelLayer();
+        if (hoverPipeline != null) {
+            hoverPipeline.dispose();
+            hoverPipeline = null;
+        }
         featureLayer = null;
-        hoverLayer = null;
-        selectedLayer = null;
         featureSource = null;
+        featureIndex = null;
+        dataset = null;
+        currentResolution = null;
+        countryJoin = null;
+        choroplethColors.clear();
+        cancelIdRasterUpdate();
+        idRaster = null;
     }
 
     @Override
@@ -233,13 +329,25 @@ public class ExploreMapView extends AbstractView {
                 );
             }
             else {
-                // Lazily initialize map when data becomes available.
-                if (state.isMapLoaded() && mapPane == null) {
+                // Lazily initialize map when data becomes available, and rebuild it when another is loaded.
+                if (state.isMapLoaded() && (mapPane == null || isOtherMapLoaded(state))) {
                     final SimpleFeatureSource source = state.getFeatureSource();
                     if (source != null) {
-                        initializeMap(source);
+                        clearHover();
+                        currentZoomLevel = 0;
+                        projection = state.getProjection();
+                        nativeBaseIndex = state.getFeatureIndex();
+                        initializeMap(source, state.getFeatureIndex(), state.getDataset(),
+                                state.getCountryJoin());
                     }
                 }
+                else if (mapPane != null && state.getProjection() != projection) {
+                    // Rebuild the map around the features the interactor reprojected.
+                    projection = state.getProjection();
+                    clearHover();
+                    initializeMap(state.getFeatureSource(), state.getFeatureIndex(), dataset, countryJoin);
+                }
+                syncProjectionBox();
 
                 // Refresh selection highlight if needed.
                 if (mapPane != null && featureSource != null) {
@@ -250,11 +358,16 @@ public class ExploreMapView extends AbstractView {
     }
 
     /**
-     * Initializes GeoTools factories used for styles and filters.
+     * Checks whether the state holds a different map than the one shown, as
+     * after loading another shapefile. A projection change keeps the dataset,
+     * and switching back to native coordinates restores the loaded base index.
+     *
+     * @param state the latest state
+     * @return whether the map has to be rebuilt from the state
      */
-    private void initializeFactories() {
-        styleFactory = CommonFactoryFinder.getStyleFactory();
-        filterFactory = CommonFactoryFinder.getFilterFactory();
+    private boolean isOtherMapLoaded(final ExploreMapState state) {
+        return state.getDataset() != dataset
+                || state.getProjection().isNative() && state.getFeatureIndex() != nativeBaseIndex;
     }
 
     /**
@@ -417,6 +530,24 @@ public class ExploreMapView extends AbstractView {
         panel.add(zoomButton);
         panel.add(selectButton);
 
+        final JComboBox<ChoroplethMode> modeBox = new JComboBox<>(ChoroplethMode.values());
+        final JComboBox<ChoroplethPalette> paletteBox = new JComboBox<>(ChoroplethPalette.values());
+        modeBox.addActionListener(event -> setChoropleth(
+                (ChoroplethMode) modeBox.getSelectedItem(), (ChoroplethPalette) paletteBox.getSelectedItem()));
+        paletteBox.addActionListener(event -> setChoropleth(
+                (ChoroplethMode) modeBox.getSelectedItem(), (ChoroplethPalette) paletteBox.getSelectedItem()));
+
+        panel.add(new JSeparator(SwingConstants.VERTICAL));
+        panel.add(new JLabel("Colour by:"));
+        panel.add(modeBox);
+        panel.add(paletteBox);
+
+        projectionBox = new JComboBox<>(MapProjection.values());
+        projectionBox.addActionListener(event -> requestProjection((MapProjection) projectionBox.getSelectedItem()));
+        panel.add(new JSeparator(SwingConstants.VERTICAL));
+        panel.add(new JLabel("Projection:"));
+        panel.add(projectionBox);
+
         return panel;
     }
 
@@ -464,7 +595,7 @@ public class ExploreMapView extends AbstractView {
             if (bounds != null) {
                 currentZoomLevel = 0;
                 SwingUtilities.invokeLater(
-                        () -> mapPane.setDisplayArea(bounds)
+                        () -> zoomAnimator.animateTo(bounds)
                 );
             }
         }
@@ -482,14 +613,14 @@ public class ExploreMapView extends AbstractView {
 
         // Clear hover on modes that do not need it.
         if (!MODE_PAN.equals(mode) && !MODE_SELECT.equals(mode)) {
-            hoveredFeature = null;
-            updateHoverDisplay();
+            clearHover();
         }
 
         // Clear selection when leaving select mode.
         if (!MODE_SELECT.equals(mode)) {
             state.setSelectedFeature(null);
             state.setSelectedCountryName(null);
+            state.setNeighbourFeatures(Collections.emptyList());
             exploreMapViewModel.updateState(state);
             updateSelectedDisplay();
         }
@@ -502,10 +633,32 @@ public class ExploreMapView extends AbstractView {
      * Builds the map content and hooks listeners once data is ready.
      *
      * @param source feature source for the world layer
+     * @param index hit-test index built over the same features
+     * @param mapDataset finer resolutions of the same map, or null if there are none
+     * @param join join from the map's features to the country catalog, or null if there is none
      */
-    private void initializeMap(final SimpleFeatureSource source) {
+    private void initializeMap(final SimpleFeatureSource source,
+                               final MapFeatureIndex index,
+                               final MapDataset mapDataset,
+                               final CountryJoinIndex join) {
         featureSource = source;
-        defaultStyle = createDefaultStyle();
+        featureIndex = index;
+        dataset = mapDataset;
+        countryJoin = join;
+        baseStore = null;
+        if (index != null) {
+            baseStore = index.getStore();
+        }
+        choroplethColors.clear();
+        if (join != null && index != null) {
+            // The loaded join already covers the base store.
+            choroplethColors.put(index.getStore(), new ChoroplethColors(join, index.getStore().size()));
+        }
+        currentResolution = null;
+        if (mapDataset != null) {
+            currentResolution = mapDataset.getBaseResolution();
+        }
+        defaultStyle = MapStyles.createBaseStyle();
 
         if (mapContent != null) {
             mapContent.dispose();
@@ -514,22 +667,34 @@ public class ExploreMapView extends AbstractView {
         mapContent = new MapContent();
         mapContent.setTitle("World Map");
 
+        // The layer keeps bounds and CRS available to the pane; the pixels come from the tile layer.
         featureLayer = new FeatureLayer(featureSource, defaultStyle);
+        featureLayer.setVisible(false);
         mapContent.addLayer(featureLayer);
 
         // Replace any existing map pane.
+        if (zoomAnimator != null) {
+            zoomAnimator.stop();
+        }
         if (mapPane != null) {
             remove(mapPane);
         }
+        disposeLabelLayer();
 
-        mapPane = new JMapPane(mapContent);
+        mapPane = new ExploreMapPane(mapContent);
         mapPane.setBackground(Color.WHITE);
         mapPane.setDoubleBuffered(true);
+        zoomAnimator = new ZoomAnimator(mapPane);
 
-        configureRenderer();
+        createTileLayer();
 
+        if (hoverPipeline == null) {
+            hoverPipeline = new HoverPipeline(this::applyHoverResult);
+        }
         mapPane.addMouseListener(new ExploreMapMouseListener());
         mapPane.addComponentListener(new MapResizeListener());
+        mapPane.addMapPaneListener(new IdRasterRefreshListener());
+        mapPane.addMapPaneListener(new ResolutionSwitchListener());
 
         add(mapPane, BorderLayout.CENTER);
         updateCursor();
@@ -539,15 +704,287 @@ public class ExploreMapView extends AbstractView {
     }
 
     /**
-     * Configures renderer hints to render on a single thread.
+     * Creates the tile layer the base map is painted from and attaches it to the pane.
+     */
+    private void createTileLayer() {
+        disposeTileLayer();
+
+        final ReferencedEnvelope bounds;
+        if (featureIndex != null) {
+            bounds = featureIndex.getStore().getBounds();
+        }
+        else {
+            bounds = mapContent.getMaxBounds();
+        }
+
+        final MapTileGrid grid = new MapTileGrid(bounds);
+        final Color[] fills = choroplethFills();
+        final MapTileCache cache = new MapTileCache(
+                MapTileLayer.memoryTilesFor(mapPane.getWidth(), mapPane.getHeight()),
+                tileDiskDirectory(bounds, fills));
+        tileLayer = new MapTileLayer(
+                grid,
+                createTileRenderer(fills),
+                cache,
+                mapPane::repaint
+        );
+        mapPane.setTileLayer(tileLayer);
+        updateLabelLayer(grid);
+    }
+
+    /**
+     * Creates the country label layer for the drawn store, keeping the existing
+     * one (and its cached placements) if the store has not changed.
+     *
+     * @param grid the tile pyramid labels are placed for
+     */
+    private void updateLabelLayer(final MapTileGrid grid) {
+        if (featureIndex != null
+                && (labelLayer == null || labelLayer.getStore() != featureIndex.getStore())) {
+            disposeLabelLayer();
+            labelLayer = new MapLabelLayer(featureIndex.getStore(), grid, mapPane::repaint);
+            mapPane.setLabelLayer(labelLayer);
+        }
+    }
+
+    /**
+     * Stops the label layer's placement thread, if any.
+     */
+    private void disposeLabelLayer() {
+        if (labelLayer != null) {
+            labelLayer.dispose();
+            labelLayer = null;
+        }
+    }
+
+    /**
+     * Returns the choropleth fill of every drawn feature in the current mode.
+     *
+     * @return fill colours indexed by feature position, or null to draw the plain style
      */
-    private void configureRenderer() {
-        final GTRenderer renderer = mapPane.getRenderer();
-        if (renderer instanceof StreamingRenderer) {
-            final StreamingRenderer streamingRenderer = (StreamingRenderer) renderer;
-            final Map<Object, Object> hints = new HashMap<>();
-            hints.put("renderingThreads", Integer.valueOf(1));
-            streamingRenderer.setRendererHints(hints);
+    private Color[] choroplethFills() {
+        final ChoroplethColors colors = choroplethColorsForCurrentStore();
+        Color[] fills = null;
+        if (choroplethMode != ChoroplethMode.NONE && colors != null) {
+            fills = colors.colorsFor(choroplethMode, choroplethPalette);
+        }
+        return fills;
+    }
+
+    /**
+     * Creates the tile renderer, drawing simplified geometry when a feature store is available.
+     *
+     * @param fills choropleth fill colours by feature position, or null for the plain style
+     * @return the tile renderer
+     */
+    private MapTileRenderer createTileRenderer(final Color[] fills) {
+        final MapTileRenderer renderer;
+        if (fills != null) {
+            renderer = new MapTileRenderer(featureIndex.getStore(), fills);
+        }
+        else if (featureIndex != null) {
+            renderer = new MapTileRenderer(featureIndex.getStore(), defaultStyle);
+        }
+        else {
+            renderer = new MapTileRenderer(featureSource, defaultStyle);
+        }
+        return renderer;
+    }
+
+    /**
+     * Picks the disk directory for the tiles of the current map, so tiles of
+     * different maps or styles never mix. The directory is keyed by the
+     * checksum of the map's source files, so a replaced shapefile never shows
+     * old tiles, and choropleth tiles by a hash of the colours actually drawn,
+     * so tiles from an offline catalog or from older catalog values are never
+     * served for the current ones.
+     *
+     * @param bounds bounds of the current map
+     * @param fills choropleth fill colours the tiles are drawn with, or null for the plain style
+     * @return the directory, or null if no disk cache is configured or the source is not checksummed
+     */
+    private File tileDiskDirectory(final ReferencedEnvelope bounds, final Color[] fills) {
+        File directory = null;
+        if (tileCacheDirectory != null && featureIndex != null
+                && featureIndex.getStore().getSourceChecksum() != MapFeatureStore.UNKNOWN_SOURCE) {
+            String style = ChoroplethMode.NONE.name().toLowerCase(Locale.ROOT);
+            if (fills != null) {
+                style = choroplethMode.name().toLowerCase(Locale.ROOT)
+                        + "-" + Integer.toHexString(Arrays.hashCode(fills));
+            }
+            final String namespace = featureSource.getSchema().getTypeName()
+                    + "-" + TILE_STYLE_VERSION
+                    + "-" + style
+                    + "-" + Integer.toHexString(bounds.hashCode())
+                    + "-" + Long.toHexString(featureIndex.getStore().getSourceChecksum());
+            directory = new File(tileCacheDirectory, namespace);
+        }
+        return directory;
+    }
+
+    /**
+     * Switches the colouring of the map. Colours of a mode are computed once
+     * and reused; only the tiles are redrawn. A palette change is only drawn
+     * in numeric modes, since the others do not use the palette.
+     *
+     * @param mode the attribute to colour by
+     * @param palette the ramp for numeric attributes
+     */
+    private void setChoropleth(final ChoroplethMode mode, final ChoroplethPalette palette) {
+        final boolean redraw = mode != choroplethMode || palette != choroplethPalette && mode.isNumeric();
+        choroplethMode = mode;
+        choroplethPalette = palette;
+        if (redraw && mapPane != null && featureSource != null) {
+            createTileLayer();
+        }
+    }
+
+    /**
+     * Switches the map to another projection. The reprojected map is computed
+     * in the background first, so the use case call that follows finds it cached.
+     *
+     * @param next the projection to switch to
+     */
+    private void requestProjection(final MapProjection next) {
+        if (next != null && next != projection && controller != null) {
+            if (projectionWorker != null) {
+                projectionWorker.cancel(false);
+            }
+            final MapFeatureIndex nativeIndex = nativeBaseIndex;
+            final int generation = sessionGeneration;
+            projectionWorker = new SwingWorker<>() {
+                @Override
+                protected Void doInBackground() throws IOException {
+                    if (projectedMaps != null && nativeIndex != null) {
+                        projectedMaps.getIndex(nativeIndex, next);
+                    }
+                    return null;
+                }
+
+                @Override
+                protected void done() {
+                    if (!isCancelled() && generation == sessionGeneration) {
+                        try {
+                            get();
+                            controller.changeProjection(next);
+                        }
+                        catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                        catch (ExecutionException ex) {
+                            LOGGER.log(Level.WARNING, "Failed to project map", ex.getCause());
+                            JOptionPane.showMessageDialog(ExploreMapView.this,
+                                    "Could not show the map in " + next.getDisplayName(),
+                                    "Error", JOptionPane.ERROR_MESSAGE);
+                        }
+                        syncProjectionBox();
+                    }
+                }
+            };
+            projectionWorker.execute();
+        }
+    }
+
+    /**
+     * Cancels pending projection switches and resolution reprojections. Their
+     * results are also discarded by the session generation check, since a
+     * reprojection already running is left to finish and fill the shared cache.
+     */
+    private void cancelProjectionWork() {
+        if (projectionWorker != null) {
+            projectionWorker.cancel(false);
+            projectionWorker = null;
+        }
+        if (resolutionProjectionWorker != null) {
+            resolutionProjectionWorker.cancel(false);
+            resolutionProjectionWorker = null;
+        }
+    }
+
+    /**
+     * Shows the projection the map is actually drawn in, e.g. after a failed switch.
+     */
+    private void syncProjectionBox() {
+        if (projectionBox != null && projectionBox.getSelectedItem() != projection) {
+            projectionBox.setSelectedItem(projection);
+        }
+    }
+
+    /**
+     * Returns the index a dataset resolution is drawn from in the current
+     * projection, starting its reprojection in the background if it is not
+     * cached yet.
+     *
+     * @param nativeIndex the resolution's index in native coordinates
+     * @return the index to draw, or null if its reprojection is still pending
+     */
+    private MapFeatureIndex displayIndexOf(final MapFeatureIndex nativeIndex) {
+        MapFeatureIndex result = nativeIndex;
+        if (nativeIndex != null && !projection.isNative()) {
+            result = null;
+            if (projectedMaps != null) {
+                result = projectedMaps.getIfReady(nativeIndex, projection);
+                if (result == null && resolutionProjectionWorker == null) {
+                    final MapProjection target = projection;
+                    final int generation = sessionGeneration;
+                    resolutionProjectionWorker = new SwingWorker<>() {
+                        @Override
+                        protected MapFeatureIndex doInBackground() throws IOException {
+                            return projectedMaps.getIndex(nativeIndex, target);
+                        }
+
+                        @Override
+                        protected void done() {
+                            if (generation == sessionGeneration) {
+                                resolutionProjectionWorker = null;
+                                applyBestResolution();
+                            }
+                        }
+                    };
+                    resolutionProjectionWorker.execute();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts the display scale to the native units dataset resolutions are chosen in.
+     *
+     * @return native map units per screen pixel at the current zoom
+     */
+    private double nativeWorldPerPixel() {
+        double worldPerPixel = 1.0 / Math.abs(mapPane.getWorldToScreenTransform().getScaleX());
+        if (!projection.isNative() && nativeBaseIndex != null && baseStore != null
+                && baseStore.getBounds().getWidth() > 0) {
+            worldPerPixel *= nativeBaseIndex.getStore().getBounds().getWidth() / baseStore.getBounds().getWidth();
+        }
+        return worldPerPixel;
+    }
+
+    /**
+     * Returns the choropleth colours for the store currently drawn, joining a
+     * finer resolution's features to the catalog the first time it is shown.
+     *
+     * @return the colours, or null if no catalog join is available
+     */
+    private ChoroplethColors choroplethColorsForCurrentStore() {
+        ChoroplethColors result = null;
+        if (countryJoin != null && featureIndex != null) {
+            final MapFeatureStore store = featureIndex.getStore();
+            result = choroplethColors.computeIfAbsent(store, key -> new ChoroplethColors(
+                    new CountryJoinIndex(key.getFeatures(), countryJoin.getCatalog()), key.size()));
+        }
+        return result;
+    }
+
+    /**
+     * Stops the tile layer's rendering thread, if any.
+     */
+    private void disposeTileLayer() {
+        if (tileLayer != null) {
+            tileLayer.dispose();
+            tileLayer = null;
         }
     }
 
@@ -561,6 +998,7 @@ public class ExploreMapView extends AbstractView {
         if (mapPane != null && mapContent != null) {
             final ReferencedEnvelope bounds = mapContent.getMaxBounds();
             if (bounds != null) {
+                zoomAnimator.stop();
                 mapPane.setDisplayArea(bounds);
             }
         }
@@ -575,31 +1013,41 @@ public class ExploreMapView extends AbstractView {
         final ExploreMapState state = exploreMapViewModel.getState();
         final String mode = state.getInteractionMode();
 
-        if (!MODE_ZOOM.equals(mode) && !isUpdatingStyle) {
+        final AffineTransform worldToScreen = mapPane.getWorldToScreenTransform();
+        if (!MODE_ZOOM.equals(mode) && hoverPipeline != null && featureIndex != null && worldToScreen != null) {
+            // Hand the raster over only while it mirrors the current viewport.
+            FeatureIdRaster raster = null;
+            if (idRaster != null && idRaster.matches(worldToScreen, mapPane.getWidth(), mapPane.getHeight())) {
+                raster = idRaster;
+            }
             final org.geotools.geometry.Position2D worldPos = event.getWorldPos();
-            final Coordinate coord = new Coordinate(worldPos.x, worldPos.y);
-            final SimpleFeature feature = getFeatureAtPosition(coord);
-
-            if (feature != hoveredFeature) {
-                hoveredFeature = feature;
+            hoverPipeline.submit(new HoverPipeline.Sample(
+                    event.getX(), event.getY(), new Coordinate(worldPos.x, worldPos.y),
+                    worldToScreen, featureIndex, raster));
+        }
+    }
 
-                if (hoverUpdateTimer != null && hoverUpdateTimer.isRunning()) {
-                    hoverUpdateTimer.stop();
-                }
+    /**
+     * Applies the latest resolved hover result.
+     *
+     * @param feature the feature under the cursor, or null
+     */
+    private void applyHoverResult(final SimpleFeature feature) {
+        if (feature != hoveredFeature) {
+            hoveredFeature = feature;
+            updateHoverDisplay();
+        }
+    }
 
-                // Slight delay to avoid excessive hover updates.
-                hoverUpdateTimer = new javax.swing.Timer(
-                        HOVER_DELAY_MS,
-                        timerEvent -> {
-                            SwingUtilities.invokeLater(
-                                    this::updateHoverDisplay
-                            );
-                        }
-                );
-                hoverUpdateTimer.setRepeats(false);
-                hoverUpdateTimer.start();
-            }
+    /**
+     * Clears the hover highlight and drops any hover work still in flight.
+     */
+    private void clearHover() {
+        if (hoverPipeline != null) {
+            hoverPipeline.cancel();
         }
+        hoveredFeature = null;
+        updateHoverDisplay();
     }
 
     /**
@@ -625,15 +1073,23 @@ public class ExploreMapView extends AbstractView {
         }
         else {
             if (MODE_SELECT.equals(mode) && controller != null) {
-                controller.selectFeature(worldPos.x, worldPos.y);
+                controller.selectFeature(worldPos.x, worldPos.y, selectTolerance(), featureIndex);
                 // Update the display to show selection highlight
                 updateSelectedDisplay();
-                // Navigate to country details if a country was selected
-                final String selectedCountryName = exploreMapViewModel.getState().getSelectedCountryName();
-                if (selectedCountryName != null) {
+                // Navigate to country details if a country was selected,
+                // preferring the resolved catalog code over the map's name
+                final ExploreMapState selectedState = exploreMapViewModel.getState();
+                final String selectedCountry;
+                if (selectedState.getSelectedCountryCode() != null) {
+                    selectedCountry = selectedState.getSelectedCountryCode();
+                }
+                else {
+                    selectedCountry = selectedState.getSelectedCountryName();
+                }
+                if (selectedCountry != null) {
                     // Small delay to show the selection before navigating
                     javax.swing.Timer timer = new javax.swing.Timer(300, e -> {
-                        navigator.navigateTo("country_details", selectedCountryName);
+                        navigator.navigateTo("country_details", selectedCountry);
                     });
                     timer.setRepeats(false);
                     timer.start();
@@ -642,6 +1098,19 @@ public class ExploreMapView extends AbstractView {
         }
     }
 
+    /**
+     * Returns the world distance covered by the click tolerance at the current zoom.
+     *
+     * @return the selection tolerance in world units, or zero if the display is not set up
+     */
+    private double selectTolerance() {
+        double tolerance = 0;
+        if (mapPane != null && mapPane.getWorldToScreenTransform() != null) {
+            tolerance = SELECT_TOLERANCE_PIXELS / Math.abs(mapPane.getWorldToScreenTransform().getScaleX());
+        }
+        return tolerance;
+    }
+
     /**
      * Zooms in around a specific world coordinate.
      *
@@ -663,7 +1132,7 @@ public class ExploreMapView extends AbstractView {
 
                 currentZoomLevel++;
                 SwingUtilities.invokeLater(
-                        () -> mapPane.setDisplayArea(newBounds)
+                        () -> zoomAnimator.animateTo(newBounds)
                 );
             }
         }
@@ -690,7 +1159,7 @@ public class ExploreMapView extends AbstractView {
 
                 currentZoomLevel--;
                 SwingUtilities.invokeLater(
-                        () -> mapPane.setDisplayArea(newBounds)
+                        () -> zoomAnimator.animateTo(newBounds)
                 );
             }
         }
@@ -745,7 +1214,7 @@ public class ExploreMapView extends AbstractView {
                     );
 
                     SwingUtilities.invokeLater(
-                            () -> mapPane.setDisplayArea(newBounds)
+                            () -> zoomAnimator.animateTo(newBounds)
                     );
                 }
             }
@@ -753,277 +1222,127 @@ public class ExploreMapView extends AbstractView {
     }
 
     /**
-     * Returns the feature at the given world position if one exists.
-     *
-     * @param worldPos world-space coordinate
-     * @return feature under the cursor, or null
+     * Re-renders the hover ID raster for the current viewport on a background thread.
+     * Any render still running for an older viewport is cancelled.
      */
-    private SimpleFeature getFeatureAtPosition(final Coordinate worldPos) {
-        SimpleFeature result = null;
-
-        if (featureSource != null) {
-            try (SimpleFeatureIterator iterator =
-                         featureSource.getFeatures().features()) {
-                while (iterator.hasNext() && result == null) {
-                    final SimpleFeature feature = iterator.next();
-                    final Geometry geometry =
-                            (Geometry) feature.getDefaultGeometry();
-
-                    if (geometry != null) {
-                        final Point point =
-                                geometry.getFactory().createPoint(worldPos);
-                        if (geometry.contains(point)) {
-                            result = feature;
+    private void scheduleIdRasterUpdate() {
+        cancelIdRasterUpdate();
+
+        if (mapPane != null && featureIndex != null) {
+            final AffineTransform worldToScreen = mapPane.getWorldToScreenTransform();
+            final int width = mapPane.getWidth();
+            final int height = mapPane.getHeight();
+
+            if (worldToScreen != null && width > 0 && height > 0) {
+                final MapFeatureIndex index = featureIndex;
+                final AffineTransform transform = new AffineTransform(worldToScreen);
+                idRasterWorker = new SwingWorker<>() {
+                    @Override
+                    protected FeatureIdRaster doInBackground() {
+                        return FeatureIdRaster.render(index, transform, width, height);
+                    }
+
+                    @Override
+                    protected void done() {
+                        if (!isCancelled() && index == featureIndex) {
+                            try {
+                                idRaster = get();
+                            }
+                            catch (InterruptedException ex) {
+                                Thread.currentThread().interrupt();
+                            }
+                            catch (ExecutionException ex) {
+                                LOGGER.log(Level.WARNING, "Failed to render hover ID raster", ex);
+                            }
                         }
                     }
-                }
-            }
-            catch (IOException ex) {
-                System.err.println(
-                        "Error getting feature at position: "
-                                + ex.getMessage()
-                );
+                };
+                idRasterWorker.execute();
             }
         }
-
-        return result;
     }
 
     /**
-     * Updates the hover overlay to reflect the current hovered feature.
+     * Requests the dataset resolution the current zoom needs and switches to
+     * the best one already loaded. Finer data arrives in the background and
+     * triggers another switch when ready.
      */
-    private void updateHoverDisplay() {
-        if (mapContent != null && featureLayer != null && !isUpdatingStyle) {
-            isUpdatingStyle = true;
-
-            if (hoverLayer != null) {
-                mapContent.removeLayer(hoverLayer);
-                hoverLayer = null;
-            }
-
-            if (hoveredFeature != null) {
-                final org.geotools.api.feature.simple.SimpleFeatureType featureType =
-                        featureSource.getSchema();
-                final SimpleFeatureBuilder featureBuilder =
-                        new SimpleFeatureBuilder(featureType);
-                featureBuilder.init(hoveredFeature);
-                final SimpleFeature hoverFeature =
-                        featureBuilder.buildFeature(null);
-
-                final MemoryFeatureCollection collection =
-                        new MemoryFeatureCollection(featureType);
-                collection.add(hoverFeature);
-
-                hoverLayer =
-                        new FeatureLayer(collection, createHoverStyle());
-                mapContent.addLayer(hoverLayer);
-            }
-
-            if (mapPane != null) {
-                mapPane.repaint();
-            }
-
-            isUpdatingStyle = false;
+    private void updateResolution() {
+        if (dataset != null && mapPane != null && mapPane.getWorldToScreenTransform() != null) {
+            final double worldPerPixel = nativeWorldPerPixel();
+            final int generation = sessionGeneration;
+            dataset.request(worldPerPixel, loaded -> SwingUtilities.invokeLater(() -> {
+                if (generation == sessionGeneration) {
+                    applyBestResolution();
+                }
+            }));
+            applyBestResolution();
         }
     }
 
     /**
-     * Applies the current selection to a dedicated highlight layer.
+     * Swaps the drawn and hit-tested features to the best loaded resolution for the current zoom.
      */
-    private void applySelectedDisplayUpdates() {
-        if (selectedLayer != null) {
-            mapContent.removeLayer(selectedLayer);
-            selectedLayer = null;
-        }
-
-        final ExploreMapState state = exploreMapViewModel.getState();
-        final SimpleFeature selectedFeature = state.getSelectedFeature();
-
-        if (selectedFeature != null) {
-            final org.geotools.api.feature.simple.SimpleFeatureType featureType =
-                    featureSource.getSchema();
-            final SimpleFeatureBuilder featureBuilder =
-                    new SimpleFeatureBuilder(featureType);
-            featureBuilder.init(selectedFeature);
-            final SimpleFeature selectFeature =
-                    featureBuilder.buildFeature(null);
-
-            final MemoryFeatureCollection collection =
-                    new MemoryFeatureCollection(featureType);
-            collection.add(selectFeature);
-
-            selectedLayer = new FeatureLayer(
-                    collection,
-                    createSelectedStyle()
-            );
-            mapContent.addLayer(selectedLayer);
-
-            if (state.getSelectedCountryName() != null) {
-                System.out.println(
-                        "Selected country: " + state.getSelectedCountryName()
-                );
+    private void applyBestResolution() {
+        if (dataset != null && mapPane != null && mapPane.getWorldToScreenTransform() != null) {
+            final MapResolution best = dataset.bestLoaded(nativeWorldPerPixel());
+            final MapFeatureIndex index = displayIndexOf(dataset.getIndex(best));
+            if (best != currentResolution && index != null) {
+                currentResolution = best;
+                // Keep choropleth colours only for the base store and the one about to be drawn.
+                choroplethColors.keySet().removeIf(store -> store != baseStore && store != index.getStore());
+                featureIndex = index;
+                featureSource = index.getStore().getFeatureSource();
+                createTileLayer();
+                idRaster = null;
+                scheduleIdRasterUpdate();
             }
         }
-
-        if (mapPane != null) {
-            mapPane.repaint();
-        }
     }
 
     /**
-     * Schedules selection highlight updates on the EDT.
+     * Cancels a pending ID raster render, if any.
      */
-    private void updateSelectedDisplay() {
-        if (mapContent != null && featureLayer != null) {
-            SwingUtilities.invokeLater(this::applySelectedDisplayUpdates);
+    private void cancelIdRasterUpdate() {
+        if (idRasterWorker != null) {
+            idRasterWorker.cancel(true);
+            idRasterWorker = null;
         }
     }
 
     /**
-     * Creates the default map style used for the base world layer.
-     *
-     * @return style for the main feature layer
+     * Updates the hover overlay to reflect the current hovered feature.
      */
-    private Style createDefaultStyle() {
-        Style style = createBasicFallbackStyle();
-
-        if (styleFactory != null && filterFactory != null) {
-            final org.geotools.api.style.Stroke stroke =
-                    styleFactory.createStroke(
-                            filterFactory.literal(Color.BLACK),
-                            filterFactory.literal(STROKE_WIDTH_THIN)
-                    );
-
-            final Fill fill = styleFactory.createFill(
-                    filterFactory.literal(
-                            new Color(
-                                    LIGHT_BLUE_R,
-                                    LIGHT_BLUE_G,
-                                    LIGHT_BLUE_B,
-                                    Color.OPAQUE
-                            )
-                    )
-            );
-
-            final PolygonSymbolizer symbolizer =
-                    styleFactory.createPolygonSymbolizer(stroke, fill, null);
-            final Rule rule = styleFactory.createRule();
-            rule.symbolizers().add(symbolizer);
-
-            final FeatureTypeStyle fts =
-                    styleFactory.createFeatureTypeStyle(rule);
-            style = styleFactory.createStyle();
-            style.featureTypeStyles().add(fts);
+    private void updateHoverDisplay() {
+        if (mapPane != null) {
+            mapPane.setHoverFeature(hoveredFeature);
         }
-
-        return style;
     }
 
     /**
-     * Creates a very simple fallback style used if style setup fails.
-     *
-     * @return basic line-only style
+     * Applies the current selection to the map pane's highlight overlay.
      */
-    private Style createBasicFallbackStyle() {
-        final org.geotools.api.style.Stroke stroke = styleFactory.createStroke(
-                filterFactory.literal(Color.GRAY),
-                filterFactory.literal(FALLBACK_STROKE_WIDTH)
-        );
-
-        final LineSymbolizer lineSymbolizer =
-                styleFactory.createLineSymbolizer(stroke, null);
-        final Rule rule = styleFactory.createRule();
-        rule.symbolizers().add(lineSymbolizer);
-
-        final FeatureTypeStyle fts = styleFactory.createFeatureTypeStyle(rule);
-        final Style style = styleFactory.createStyle();
-        style.featureTypeStyles().add(fts);
-
-        return style;
-    }
-
-    /**
-     * Creates the style used for hover feedback.
-     *
-     * @return style for hovered feature layer
-     */
-    private Style createHoverStyle() {
-        Style style = createBasicFallbackStyle();
-
-        if (styleFactory != null && filterFactory != null) {
-            final org.geotools.api.style.Stroke redStroke =
-                    styleFactory.createStroke(
-                            filterFactory.literal(Color.RED),
-                            filterFactory.literal(STROKE_WIDTH_EXTRA_THICK)
-                    );
-
-            final Fill fill = styleFactory.createFill(
-                    filterFactory.literal(
-                            new Color(
-                                    HOVER_RED,
-                                    HOVER_GREEN,
-                                    HOVER_BLUE,
-                                    HOVER_ALPHA
-                            )
-                    )
-            );
-
-            final PolygonSymbolizer symbolizer =
-                    styleFactory.createPolygonSymbolizer(redStroke, fill, null);
-            final Rule rule = styleFactory.createRule();
-            rule.symbolizers().add(symbolizer);
+    private void applySelectedDisplayUpdates() {
+        if (mapPane != null) {
+            final ExploreMapState state = exploreMapViewModel.getState();
+            mapPane.setSelectedFeature(state.getSelectedFeature());
+            mapPane.setNeighbourFeatures(state.getNeighbourFeatures());
 
-            final FeatureTypeStyle fts =
-                    styleFactory.createFeatureTypeStyle(rule);
-            style = styleFactory.createStyle();
-            style.featureTypeStyles().add(fts);
+            if (state.getSelectedFeature() != null && state.getSelectedCountryName() != null) {
+                System.out.println(
+                        "Selected country: " + state.getSelectedCountryName()
+                );
+            }
         }
-
-        return style;
     }
 
     /**
-     * Creates the style used for the selected feature overlay.
-     *
-     * @return style for selected feature layer
+     * Schedules selection highlight updates on the EDT.
      */
-    private Style createSelectedStyle() {
-        Style style = createBasicFallbackStyle();
-
-        if (styleFactory != null && filterFactory != null) {
-            final Fill blueFill = styleFactory.createFill(
-                    filterFactory.literal(
-                            new Color(
-                                    SELECTED_RED,
-                                    SELECTED_GREEN,
-                                    SELECTED_BLUE,
-                                    SELECTED_ALPHA
-                            )
-                    )
-            );
-
-            final org.geotools.api.style.Stroke blackStroke =
-                    styleFactory.createStroke(
-                            filterFactory.literal(Color.BLACK),
-                            filterFactory.literal(STROKE_WIDTH_EXTRA_THICK)
-                    );
-
-            final PolygonSymbolizer symbolizer =
-                    styleFactory.createPolygonSymbolizer(
-                            blackStroke,
-                            blueFill,
-                            null
-                    );
-            final Rule rule = styleFactory.createRule();
-            rule.symbolizers().add(symbolizer);
-
-            final FeatureTypeStyle fts =
-                    styleFactory.createFeatureTypeStyle(rule);
-            style = styleFactory.createStyle();
-            style.featureTypeStyles().add(fts);
+    private void updateSelectedDisplay() {
+        if (mapContent != null && featureLayer != null) {
+            SwingUtilities.invokeLater(this::applySelectedDisplayUpdates);
         }
-
-        return style;
     }
 
     /**
@@ -1104,8 +1423,7 @@ public class ExploreMapView extends AbstractView {
 
         @Override
         public void onMouseExited(final MapMouseEvent ev) {
-            hoveredFeature = null;
-            updateHoverDisplay();
+            clearHover();
         }
 
         @Override
@@ -1129,15 +1447,39 @@ public class ExploreMapView extends AbstractView {
         }
     }
 
+    /**
+     * Map pane listener that keeps the hover ID raster in step with the display area.
+     */
+    private final class IdRasterRefreshListener extends MapPaneAdapter {
+        @Override
+        public void onDisplayAreaChanged(final MapPaneEvent ev) {
+            scheduleIdRasterUpdate();
+        }
+    }
+
+    /**
+     * Switches dataset resolution whenever the display area changes.
+     */
+    private final class ResolutionSwitchListener extends MapPaneAdapter {
+        @Override
+        public void onDisplayAreaChanged(final MapPaneEvent ev) {
+            updateResolution();
+        }
+    }
+
     /**
      * Component listener for resizing the map pane.
      */
     private final class MapResizeListener extends ComponentAdapter {
         @Override
         public void componentResized(final ComponentEvent event) {
+            if (tileLayer != null) {
+                tileLayer.fitViewport(mapPane.getWidth(), mapPane.getHeight());
+            }
             if (mapPane != null && mapContent != null) {
                 final ReferencedEnvelope bounds = mapContent.getMaxBounds();
                 if (bounds != null) {
+                    zoomAnimator.stop();
                     mapPane.setDisplayArea(bounds);
                 }
             }
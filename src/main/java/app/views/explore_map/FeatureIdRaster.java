@@ -0,0 +1,105 @@
+package app.views.explore_map;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+import org.locationtech.jts.awt.ShapeWriter;
+import org.locationtech.jts.geom.Geometry;
+
+import app.use_cases.explore_map.MapFeatureIndex;
+import app.use_cases.explore_map.MapFeatureStore;
+
+/**
+ * Offscreen ID buffer for the map viewport.
+ *
+ * <p>
+ * Each pixel holds the position (plus one) of the feature rendered at that
+ * pixel, or zero where no feature was drawn. Once rendered, resolving the
+ * feature under the cursor is a single array read, independent of how
+ * complex the polygons are. A raster is only valid for the world-to-screen
+ * transform and viewport size it was rendered with.
+ */
+final class FeatureIdRaster {
+    private static final int RGB_MASK = 0xFFFFFF;
+
+    private final int width;
+    private final int height;
+    private final AffineTransform worldToScreen;
+    private final int[] ids;
+
+    private FeatureIdRaster(int width, int height, AffineTransform worldToScreen, int[] ids) {
+        this.width = width;
+        this.height = height;
+        this.worldToScreen = worldToScreen;
+        this.ids = ids;
+    }
+
+    /**
+     * Renders every feature of the index into a new ID raster, at the
+     * detail level matching the viewport scale.
+     * Safe to call off the EDT; it touches no Swing state.
+     *
+     * @param index the features to render
+     * @param worldToScreen the transform of the viewport being mirrored
+     * @param width viewport width in pixels
+     * @param height viewport height in pixels
+     * @return the rendered raster
+     */
+    static FeatureIdRaster render(MapFeatureIndex index, AffineTransform worldToScreen,
+                                  int width, int height) {
+        final AffineTransform transform = new AffineTransform(worldToScreen);
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D g2d = image.createGraphics();
+        // Antialiasing would blend neighbouring IDs into meaningless values.
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+
+        final ShapeWriter shapeWriter = ScreenShapes.writer(transform);
+        final MapFeatureStore store = index.getStore();
+        final int level = store.detailLevelFor(1.0 / Math.abs(transform.getScaleX()));
+
+        for (int i = 0; i < index.size(); i++) {
+            final Geometry geometry = store.getGeometry(i, level);
+            if (geometry != null && !geometry.isEmpty()) {
+                g2d.setColor(new Color(i + 1));
+                g2d.fill(shapeWriter.toShape(geometry));
+            }
+        }
+        g2d.dispose();
+
+        final int[] ids = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        return new FeatureIdRaster(width, height, transform, ids);
+    }
+
+    /**
+     * Checks whether this raster still mirrors the given viewport.
+     *
+     * @param currentTransform the viewport's current world-to-screen transform
+     * @param currentWidth the viewport's current width
+     * @param currentHeight the viewport's current height
+     * @return true if lookups against this raster are valid
+     */
+    boolean matches(AffineTransform currentTransform, int currentWidth, int currentHeight) {
+        return width == currentWidth && height == currentHeight
+                && worldToScreen.equals(currentTransform);
+    }
+
+    /**
+     * Returns the feature position rendered at a screen pixel.
+     *
+     * @param screenX pixel column
+     * @param screenY pixel row
+     * @return the feature position, or {@link MapFeatureIndex#NO_FEATURE}
+     */
+    int featureIndexAt(int screenX, int screenY) {
+        int result = MapFeatureIndex.NO_FEATURE;
+        if (screenX >= 0 && screenY >= 0 && screenX < width && screenY < height) {
+            result = (ids[screenY * width + screenX] & RGB_MASK) - 1;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,147 @@
+package app.views.explore_map;
+
+import java.awt.geom.AffineTransform;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.locationtech.jts.geom.Coordinate;
+
+import app.use_cases.explore_map.MapFeatureIndex;
+
+/**
+ * Resolves the feature under the cursor off the EDT.
+ *
+ * <p>
+ * Mouse samples are coalesced: only the most recent one is kept, and a
+ * single background thread resolves it against the immutable ID raster or
+ * feature index captured in the sample. A result is published to the EDT
+ * only if no newer sample arrived meanwhile, so fast mouse movement never
+ * queues up stale hit tests or stale repaints.
+ */
+final class HoverPipeline {
+    private final Consumer<SimpleFeature> publisher;
+    private final AtomicReference<Sample> latest = new AtomicReference<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicLong generation = new AtomicLong();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "map-hover");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param publisher receives each final hover result on the EDT
+     */
+    HoverPipeline(Consumer<SimpleFeature> publisher) {
+        this.publisher = publisher;
+    }
+
+    /**
+     * Replaces any pending sample with a new one and makes sure it gets resolved.
+     * Called on the EDT.
+     *
+     * @param sample the latest cursor sample
+     */
+    void submit(Sample sample) {
+        sample.generation = generation.incrementAndGet();
+        latest.set(sample);
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Drops pending work; results of samples already in progress are discarded.
+     * Called on the EDT.
+     */
+    void cancel() {
+        generation.incrementAndGet();
+        latest.set(null);
+    }
+
+    /**
+     * Stops the background thread.
+     */
+    void dispose() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Resolves samples until none is pending. Runs on the hover thread.
+     */
+    private void drain() {
+        Sample sample = latest.getAndSet(null);
+        while (sample != null) {
+            final SimpleFeature feature = sample.resolve();
+            final long resolvedGeneration = sample.generation;
+            if (latest.get() == null) {
+                SwingUtilities.invokeLater(() -> {
+                    if (resolvedGeneration == generation.get()) {
+                        publisher.accept(feature);
+                    }
+                });
+            }
+            sample = latest.getAndSet(null);
+        }
+        draining.set(false);
+
+        // A sample submitted between the last poll and clearing the flag would otherwise wait.
+        if (latest.get() != null && draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Immutable snapshot of everything needed to resolve one cursor position.
+     */
+    static final class Sample {
+        private final int screenX;
+        private final int screenY;
+        private final Coordinate world;
+        private final double worldPerPixel;
+        private final MapFeatureIndex index;
+        private final FeatureIdRaster raster;
+
+        private long generation;
+
+        /**
+         * @param screenX cursor column in the pane
+         * @param screenY cursor row in the pane
+         * @param world cursor position in world coordinates
+         * @param worldToScreen the pane's transform when the sample was taken
+         * @param index the feature index to test against
+         * @param raster an ID raster matching the pane's viewport, or null
+         */
+        Sample(int screenX, int screenY, Coordinate world, AffineTransform worldToScreen,
+               MapFeatureIndex index, FeatureIdRaster raster) {
+            this.screenX = screenX;
+            this.screenY = screenY;
+            this.world = world;
+            this.worldPerPixel = 1.0 / Math.abs(worldToScreen.getScaleX());
+            this.index = index;
+            this.raster = raster;
+        }
+
+        private SimpleFeature resolve() {
+            SimpleFeature result = null;
+            if (raster != null) {
+                final int position = raster.featureIndexAt(screenX, screenY);
+                if (position != MapFeatureIndex.NO_FEATURE) {
+                    result = index.getFeature(position);
+                }
+            }
+            else {
+                result = index.getFeatureAt(world, worldPerPixel);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package app.views.explore_map;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import javax.imageio.ImageIO;
+
+import org.geotools.geometry.jts.ReferencedEnvelope;
+
+import app.use_cases.explore_map.MapFeatureStore;
+
+/**
+ * Renders the world map to image files without any Swing component, so map
+ * assets can be generated under {@code java.awt.headless=true}.
+ *
+ * <p>
+ * Images are drawn with the explore map's base style by the same
+ * {@link MapTileRenderer} the view uses, one {@link MapTileGrid#TILE_SIZE}
+ * block at a time on a fixed pool of threads. A single image is assembled
+ * from its blocks as they finish. A tile pyramid is written tile by tile to
+ * {@code <directory>/<zoom>/<column>/<row>.png}, the layout of the view's
+ * disk tile cache; at most two tiles per thread are in flight, so memory use
+ * does not grow with the number of tiles.
+ */
+public final class MapImageExporter {
+    private static final String IMAGE_FORMAT = "png";
+    private static final int TASKS_PER_THREAD = 2;
+
+    private final MapFeatureStore store;
+    private final MapTileRenderer renderer;
+    private final int threads;
+
+    /**
+     * Creates an exporter drawing a feature store with the base map style.
+     *
+     * @param store the features to draw
+     * @param threads number of tiles rendered at once
+     * @throws IllegalArgumentException if threads is not positive
+     */
+    public MapImageExporter(MapFeatureStore store, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.store = store;
+        this.renderer = new MapTileRenderer(store, MapStyles.createBaseStyle());
+        this.threads = threads;
+    }
+
+    /**
+     * @return the full extent of the map
+     */
+    public ReferencedEnvelope getBounds() {
+        return store.getBounds();
+    }
+
+    /**
+     * Renders an area of the map into one image. The area is widened or
+     * heightened around its centre to match the image's aspect ratio.
+     *
+     * @param area the world area to draw
+     * @param width image width in pixels
+     * @param height image height in pixels
+     * @return the rendered image, transparent where there is no land
+     * @throws IOException if a block fails to render
+     */
+    public BufferedImage renderImage(ReferencedEnvelope area, int width, int height) throws IOException {
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        final ReferencedEnvelope fitted = fitToImage(area, width, height);
+        final double worldPerPixel = fitted.getWidth() / width;
+        final int size = MapTileGrid.TILE_SIZE;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> blocks = new ArrayList<>();
+            for (int y = 0; y < height; y += size) {
+                for (int x = 0; x < width; x += size) {
+                    final int blockX = x;
+                    final int blockY = y;
+                    final int blockWidth = Math.min(size, width - x);
+                    final int blockHeight = Math.min(size, height - y);
+                    final double minX = fitted.getMinX() + blockX * worldPerPixel;
+                    final double maxY = fitted.getMaxY() - blockY * worldPerPixel;
+                    final ReferencedEnvelope blockArea = new ReferencedEnvelope(
+                            minX, minX + blockWidth * worldPerPixel,
+                            maxY - blockHeight * worldPerPixel, maxY,
+                            fitted.getCoordinateReferenceSystem());
+                    // Blocks cover disjoint pixels, so they can be copied in concurrently.
+                    blocks.add(executor.submit(() -> image.getRaster().setRect(blockX, blockY,
+                            renderer.render(blockArea, blockWidth, blockHeight).getRaster())));
+                }
+            }
+            for (Future<?> block : blocks) {
+                await(block);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        return image;
+    }
+
+    /**
+     * Renders an area of the map into a PNG file.
+     *
+     * @param area the world area to draw
+     * @param width image width in pixels
+     * @param height image height in pixels
+     * @param file the file to write
+     * @throws IOException if rendering fails or the file cannot be written
+     */
+    public void writeImage(ReferencedEnvelope area, int width, int height, File file) throws IOException {
+        write(renderImage(area, width, height), file);
+    }
+
+    /**
+     * Renders every tile of the map's pyramid from level 0 down to a level and
+     * writes each to its own PNG file.
+     *
+     * @param directory root directory of the pyramid
+     * @param maxZoom deepest level to render, capped at {@link MapTileGrid#MAX_ZOOM}
+     * @return the number of tiles written
+     * @throws IOException if a tile fails to render or cannot be written
+     */
+    public int writeTiles(File directory, int maxZoom) throws IOException {
+        final ReferencedEnvelope bounds = store.getBounds();
+        final MapTileGrid grid = new MapTileGrid(bounds);
+        final Semaphore inFlight = new Semaphore(threads * TASKS_PER_THREAD);
+        final List<Future<?>> tiles = new ArrayList<>();
+        int written = 0;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int zoom = 0; zoom <= Math.min(maxZoom, MapTileGrid.MAX_ZOOM); zoom++) {
+                for (MapTileKey key : grid.tilesCovering(bounds, zoom)) {
+                    acquire(inFlight);
+                    written++;
+                    tiles.add(executor.submit(() -> {
+                        try {
+                            final File file = new File(directory, key.getZoom() + File.separator
+                                    + key.getColumn() + File.separator + key.getRow() + "." + IMAGE_FORMAT);
+                            write(renderer.render(grid.tileEnvelope(key),
+                                    MapTileGrid.TILE_SIZE, MapTileGrid.TILE_SIZE), file);
+                            return null;
+                        }
+                        finally {
+                            inFlight.release();
+                        }
+                    }));
+                    // Fail fast on finished tiles and forget them, so the list stays short.
+                    final Iterator<Future<?>> finished = tiles.iterator();
+                    while (finished.hasNext()) {
+                        final Future<?> tile = finished.next();
+                        if (tile.isDone()) {
+                            await(tile);
+                            finished.remove();
+                        }
+                    }
+                }
+            }
+            for (Future<?> tile : tiles) {
+                await(tile);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        return written;
+    }
+
+    /**
+     * Grows an area around its centre so its aspect ratio matches an image's.
+     */
+    private static ReferencedEnvelope fitToImage(ReferencedEnvelope area, int width, int height) {
+        final double worldPerPixel = Math.max(area.getWidth() / width, area.getHeight() / height);
+        final double halfWidth = worldPerPixel * width / 2;
+        final double halfHeight = worldPerPixel * height / 2;
+        return new ReferencedEnvelope(
+                area.getMedian(0) - halfWidth, area.getMedian(0) + halfWidth,
+                area.getMedian(1) - halfHeight, area.getMedian(1) + halfHeight,
+                area.getCoordinateReferenceSystem());
+    }
+
+    /**
+     * Writes an image as PNG, creating its directory if needed.
+     */
+    private static void write(BufferedImage image, File file) throws IOException {
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Could not create directory " + parent);
+        }
+        if (!ImageIO.write(image, IMAGE_FORMAT, file)) {
+            throw new IOException("No image writer for " + IMAGE_FORMAT);
+        }
+    }
+
+    /**
+     * Waits for a render task, rethrowing its failure as an IOException.
+     */
+    private static void await(Future<?> task) throws IOException {
+        try {
+            task.get();
+        }
+        catch (ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Map rendering failed", cause);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while rendering map", ex);
+        }
+    }
+
+    /**
+     * Waits for a free slot for another tile.
+     */
+    private static void acquire(Semaphore inFlight) throws IOException {
+        try {
+            inFlight.acquire();
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while rendering map", ex);
+        }
+    }
+}
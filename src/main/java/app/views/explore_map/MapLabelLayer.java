@@ -0,0 +1,263 @@
+package app.views.explore_map;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.SwingUtilities;
+
+import org.locationtech.jts.algorithm.construct.MaximumInscribedCircle;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+import app.use_cases.explore_map.MapFeatureStore;
+
+/**
+ * Country name labels with cached placement.
+ *
+ * <p>
+ * Each feature gets one anchor, the centre of the largest circle inscribed in
+ * its largest polygon, so labels sit inside the country rather than at a
+ * centroid that may fall in the sea. For every pyramid level the set of
+ * labels that fit without overlapping is resolved once on a background
+ * thread, larger countries first, and cached. Painting then only transforms
+ * the cached anchors of that level, so panning costs a few text draws.
+ */
+final class MapLabelLayer {
+    private static final Logger LOGGER = Logger.getLogger(MapLabelLayer.class.getName());
+
+    private static final Font LABEL_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 11);
+    private static final Color LABEL_COLOR = new Color(40, 40, 40);
+    private static final Color HALO_COLOR = new Color(255, 255, 255, 200);
+
+    /** Inscribed circle precision, as a fraction of the polygon's envelope size. */
+    private static final double ANCHOR_TOLERANCE_FRACTION = 0.01;
+
+    /** Countries whose inscribed circle is narrower than this many pixels are not labelled. */
+    private static final double MIN_LABEL_DIAMETER_PIXELS = 6.0;
+
+    /** Empty space kept around each label when resolving collisions, in pixels. */
+    private static final double LABEL_PADDING = 2.0;
+
+    /**
+     * Ratio between the coarsest and finest display scale drawn from one pyramid
+     * level, as {@link MapTileGrid#zoomFor} rounds up to the next sharper level.
+     */
+    private static final double LEVEL_SCALE_SPAN = 2.0;
+
+    private final MapFeatureStore store;
+    private final MapTileGrid grid;
+    private final Runnable onPlacementReady;
+    private final FontRenderContext fontContext = new FontRenderContext(null, true, true);
+    private final Map<Integer, int[]> placements = new ConcurrentHashMap<>();
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "map-labels");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Anchors anchors;
+
+    /**
+     * @param store the features to label
+     * @param grid the tile pyramid whose levels placements are resolved for
+     * @param onPlacementReady run on the EDT when a requested placement becomes available
+     */
+    MapLabelLayer(MapFeatureStore store, MapTileGrid grid, Runnable onPlacementReady) {
+        this.store = store;
+        this.grid = grid;
+        this.onPlacementReady = onPlacementReady;
+    }
+
+    /**
+     * @return the features this layer labels
+     */
+    MapFeatureStore getStore() {
+        return store;
+    }
+
+    /**
+     * Draws the cached labels of the pyramid level matching the display,
+     * requesting that level's placement if it is not ready yet.
+     *
+     * @param g2d graphics of the map pane
+     * @param worldToScreen the pane's current world-to-screen transform
+     * @param visibleArea the world area currently on screen
+     */
+    void paint(Graphics2D g2d, AffineTransform worldToScreen, Envelope visibleArea) {
+        final int zoom = grid.zoomFor(1.0 / Math.abs(worldToScreen.getScaleX()));
+        final int[] placed = placements.get(zoom);
+        if (placed == null) {
+            request(zoom);
+        }
+        else {
+            final Anchors current = anchors;
+            g2d.setFont(LABEL_FONT);
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            final Point2D.Double screen = new Point2D.Double();
+            for (int position : placed) {
+                if (visibleArea.contains(current.x[position], current.y[position])) {
+                    worldToScreen.transform(new Point2D.Double(current.x[position], current.y[position]), screen);
+                    final float left = (float) (screen.x - current.width[position] / 2);
+                    final float baseline = (float) (screen.y + current.ascent[position] / 2);
+                    g2d.setColor(HALO_COLOR);
+                    g2d.drawString(store.getName(position), left + 1, baseline + 1);
+                    g2d.setColor(LABEL_COLOR);
+                    g2d.drawString(store.getName(position), left, baseline);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops placement work.
+     */
+    void dispose() {
+        executor.shutdownNow();
+    }
+
+    private void request(int zoom) {
+        if (pending.add(zoom)) {
+            executor.execute(() -> {
+                try {
+                    placements.put(zoom, place(zoom));
+                    SwingUtilities.invokeLater(onPlacementReady);
+                }
+                catch (RuntimeException ex) {
+                    LOGGER.log(Level.WARNING, "Failed to place map labels for zoom " + zoom, ex);
+                }
+            });
+        }
+    }
+
+    /**
+     * Greedily accepts labels, largest countries first, skipping any that would
+     * overlap an accepted one. Collisions and label sizes are checked at the
+     * coarsest display scale the level is drawn at, where labels are closest
+     * together, so they stay apart at every scale of the level. Runs on the
+     * label thread.
+     *
+     * @param zoom pyramid level
+     * @return positions of the features labelled at that level
+     */
+    private int[] place(int zoom) {
+        if (anchors == null) {
+            anchors = computeAnchors();
+        }
+        final Anchors current = anchors;
+        final double worldPerPixel = LEVEL_SCALE_SPAN * grid.tileWorldSize(zoom) / MapTileGrid.TILE_SIZE;
+
+        final List<Rectangle2D> accepted = new ArrayList<>();
+        final int[] placed = new int[store.size()];
+        int count = 0;
+        for (int position : current.byPriority) {
+            if (current.radius[position] * 2 / worldPerPixel >= MIN_LABEL_DIAMETER_PIXELS) {
+                final double centerX = current.x[position] / worldPerPixel;
+                final double centerY = -current.y[position] / worldPerPixel;
+                final Rectangle2D box = new Rectangle2D.Double(
+                        centerX - current.width[position] / 2 - LABEL_PADDING,
+                        centerY - current.ascent[position] / 2 - LABEL_PADDING,
+                        current.width[position] + 2 * LABEL_PADDING,
+                        current.ascent[position] + 2 * LABEL_PADDING);
+                boolean free = true;
+                for (int i = 0; i < accepted.size() && free; i++) {
+                    free = !accepted.get(i).intersects(box);
+                }
+                if (free) {
+                    accepted.add(box);
+                    placed[count] = position;
+                    count++;
+                }
+            }
+        }
+        return Arrays.copyOf(placed, count);
+    }
+
+    /**
+     * Computes the label anchor, inscribed radius and text size of every feature.
+     */
+    private Anchors computeAnchors() {
+        final Anchors result = new Anchors(store.size());
+        for (int i = 0; i < store.size(); i++) {
+            final Polygon polygon = largestPolygon(store.getGeometry(i));
+            if (polygon != null) {
+                final Envelope envelope = polygon.getEnvelopeInternal();
+                final double tolerance = Math.max(envelope.getWidth(), envelope.getHeight())
+                        * ANCHOR_TOLERANCE_FRACTION;
+                final MaximumInscribedCircle circle = new MaximumInscribedCircle(polygon, tolerance);
+                final Point center = circle.getCenter();
+                result.x[i] = center.getX();
+                result.y[i] = center.getY();
+                result.radius[i] = circle.getRadiusLine().getLength();
+
+                final Rectangle2D text = LABEL_FONT.getStringBounds(store.getName(i), fontContext);
+                result.width[i] = text.getWidth();
+                result.ascent[i] = LABEL_FONT.getLineMetrics(store.getName(i), fontContext).getAscent();
+            }
+        }
+
+        final Integer[] order = new Integer[store.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> result.radius[i]).reversed());
+        for (int i = 0; i < order.length; i++) {
+            result.byPriority[i] = order[i];
+        }
+        return result;
+    }
+
+    private static Polygon largestPolygon(Geometry geometry) {
+        Polygon result = null;
+        if (geometry != null) {
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                final Geometry part = geometry.getGeometryN(i);
+                if (part instanceof Polygon && !part.isEmpty()
+                        && (result == null || part.getArea() > result.getArea())) {
+                    result = (Polygon) part;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Per-feature label anchors, in feature position order.
+     */
+    private static final class Anchors {
+        private final double[] x;
+        private final double[] y;
+        private final double[] radius;
+        private final double[] width;
+        private final double[] ascent;
+        private final int[] byPriority;
+
+        Anchors(int size) {
+            x = new double[size];
+            y = new double[size];
+            radius = new double[size];
+            width = new double[size];
+            ascent = new double[size];
+            byPriority = new int[size];
+        }
+    }
+}
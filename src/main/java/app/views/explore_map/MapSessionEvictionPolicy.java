@@ -0,0 +1,83 @@
+package app.views.explore_map;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Decides how long a loaded map session survives after the Explore Map view
+ * is closed.
+ *
+ * <p>
+ * A retained session keeps the map pane, its rendered base image, the feature
+ * store and the hover index alive, so navigating to a country's details and
+ * back does not reload anything. Once the view has been idle for longer than
+ * the policy allows, the session is released.
+ */
+public final class MapSessionEvictionPolicy {
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    /** Idle time before eviction; null means the session is never evicted. */
+    private final Duration idleTimeout;
+
+    private MapSessionEvictionPolicy(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * @return a policy that releases the session as soon as the view closes
+     */
+    public static MapSessionEvictionPolicy immediately() {
+        return new MapSessionEvictionPolicy(Duration.ZERO);
+    }
+
+    /**
+     * @param idleTimeout how long the view may stay closed before the session is released
+     * @return a policy that releases the session after the given idle time
+     */
+    public static MapSessionEvictionPolicy afterIdle(Duration idleTimeout) {
+        Objects.requireNonNull(idleTimeout, "idleTimeout");
+        if (idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("idleTimeout must not be negative");
+        }
+        return new MapSessionEvictionPolicy(idleTimeout);
+    }
+
+    /**
+     * @return a policy that keeps the session for the lifetime of the application
+     */
+    public static MapSessionEvictionPolicy never() {
+        return new MapSessionEvictionPolicy(null);
+    }
+
+    /**
+     * @return the default policy, releasing the session after five idle minutes
+     */
+    public static MapSessionEvictionPolicy defaultPolicy() {
+        return afterIdle(DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * @return true if the session is never evicted
+     */
+    public boolean isRetainedForever() {
+        return idleTimeout == null;
+    }
+
+    /**
+     * @return true if the session is released as soon as the view closes
+     */
+    public boolean isImmediate() {
+        return idleTimeout != null && idleTimeout.isZero();
+    }
+
+    /**
+     * @return the idle time in milliseconds before the session is released
+     */
+    public int getIdleTimeoutMillis() {
+        int millis = Integer.MAX_VALUE;
+        if (idleTimeout != null && idleTimeout.toMillis() < Integer.MAX_VALUE) {
+            millis = (int) idleTimeout.toMillis();
+        }
+        return millis;
+    }
+}
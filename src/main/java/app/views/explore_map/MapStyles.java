@@ -0,0 +1,81 @@
+package app.views.explore_map;
+
+import java.awt.Color;
+
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.style.FeatureTypeStyle;
+import org.geotools.api.style.Fill;
+import org.geotools.api.style.LineSymbolizer;
+import org.geotools.api.style.PolygonSymbolizer;
+import org.geotools.api.style.Rule;
+import org.geotools.api.style.Stroke;
+import org.geotools.api.style.Style;
+import org.geotools.api.style.StyleFactory;
+import org.geotools.factory.CommonFactoryFinder;
+
+/**
+ * GeoTools styles of the world map, shared by the explore map view and the
+ * headless {@link MapImageExporter} so both draw the map the same way.
+ */
+final class MapStyles {
+    private static final float STROKE_WIDTH_THIN = 1.0f;
+    private static final double FALLBACK_STROKE_WIDTH = 0.5;
+    private static final Color LAND = new Color(200, 220, 240);
+
+    private MapStyles() {
+    }
+
+    /**
+     * Creates the style of the base world layer: light blue land with black borders.
+     *
+     * @return style for the main feature layer
+     */
+    static Style createBaseStyle() {
+        final StyleFactory styleFactory = CommonFactoryFinder.getStyleFactory();
+        final FilterFactory filterFactory = CommonFactoryFinder.getFilterFactory();
+        Style style = createFallbackStyle(styleFactory, filterFactory);
+
+        if (styleFactory != null && filterFactory != null) {
+            final Stroke stroke = styleFactory.createStroke(
+                    filterFactory.literal(Color.BLACK),
+                    filterFactory.literal(STROKE_WIDTH_THIN)
+            );
+            final Fill fill = styleFactory.createFill(filterFactory.literal(LAND));
+
+            final PolygonSymbolizer symbolizer =
+                    styleFactory.createPolygonSymbolizer(stroke, fill, null);
+            final Rule rule = styleFactory.createRule();
+            rule.symbolizers().add(symbolizer);
+
+            final FeatureTypeStyle fts =
+                    styleFactory.createFeatureTypeStyle(rule);
+            style = styleFactory.createStyle();
+            style.featureTypeStyles().add(fts);
+        }
+
+        return style;
+    }
+
+    /**
+     * Creates a very simple fallback style used if style setup fails.
+     *
+     * @return basic line-only style
+     */
+    private static Style createFallbackStyle(StyleFactory styleFactory, FilterFactory filterFactory) {
+        final Stroke stroke = styleFactory.createStroke(
+                filterFactory.literal(Color.GRAY),
+                filterFactory.literal(FALLBACK_STROKE_WIDTH)
+        );
+
+        final LineSymbolizer lineSymbolizer =
+                styleFactory.createLineSymbolizer(stroke, null);
+        final Rule rule = styleFactory.createRule();
+        rule.symbolizers().add(lineSymbolizer);
+
+        final FeatureTypeStyle fts = styleFactory.createFeatureTypeStyle(rule);
+        final Style style = styleFactory.createStyle();
+        style.featureTypeStyles().add(fts);
+
+        return style;
+    }
+}
@@ -0,0 +1,250 @@
+package app.views.explore_map;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Two-tier cache of rendered map tiles.
+ *
+ * <p>
+ * The memory tier is a bounded LRU map. Tiles pinned as part of the current
+ * frame are never evicted, so the tier can briefly exceed its capacity rather
+ * than drop a tile that is on screen. The optional disk tier stores tiles
+ * as PNG files under {@code <directory>/<zoom>/<column>/<row>.png}; it is only
+ * touched from tile rendering threads, never from the EDT.
+ *
+ * <p>
+ * Each tile is written to a temporary file and moved into place, so a crash
+ * or a concurrent writer never leaves a truncated PNG behind. The directory
+ * is one namespace among its siblings, one per map and style; on first use
+ * the least recently used siblings beyond {@link #MAX_DISK_NAMESPACES} are
+ * deleted, so the disk tier stays bounded however many styles are drawn.
+ */
+final class MapTileCache {
+    private static final Logger LOGGER = Logger.getLogger(MapTileCache.class.getName());
+    private static final String IMAGE_FORMAT = "png";
+    private static final String TEMPORARY_PREFIX = "tile-";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /** Tile namespaces kept in the disk tier's parent directory, including this one. */
+    private static final int MAX_DISK_NAMESPACES = 12;
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final LinkedHashMap<MapTileKey, BufferedImage> tiles;
+    private final Map<MapTileKey, BufferedImage> memory;
+    private final File diskDirectory;
+    private final AtomicBoolean diskPrepared = new AtomicBoolean();
+
+    private volatile int memoryCapacity;
+    private volatile Set<MapTileKey> pinned = Collections.emptySet();
+
+    /**
+     * Creates a tile cache.
+     *
+     * @param memoryCapacity maximum number of unpinned tiles kept in memory
+     * @param diskDirectory directory for the disk tier, or null to keep tiles in memory only
+     */
+    MapTileCache(int memoryCapacity, File diskDirectory) {
+        this.memoryCapacity = memoryCapacity;
+        this.tiles = new LinkedHashMap<>(memoryCapacity, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<MapTileKey, BufferedImage> eldest) {
+                trim();
+                return false;
+            }
+        };
+        this.memory = Collections.synchronizedMap(tiles);
+        this.diskDirectory = diskDirectory;
+    }
+
+    /**
+     * Changes how many tiles the memory tier holds, evicting the least
+     * recently used unpinned tiles if it now holds too many.
+     *
+     * @param capacity maximum number of unpinned tiles kept in memory
+     */
+    void setMemoryCapacity(int capacity) {
+        synchronized (memory) {
+            memoryCapacity = capacity;
+            trim();
+        }
+    }
+
+    /**
+     * Marks the tiles of the current frame, replacing the previous frame's.
+     * Pinned tiles stay in memory whatever the capacity.
+     *
+     * @param keys the tiles the current frame shows or is about to show
+     */
+    void pin(Collection<MapTileKey> keys) {
+        pinned = new HashSet<>(keys);
+    }
+
+    /**
+     * Looks a tile up in memory only; cheap enough to call while painting.
+     *
+     * @param key tile address
+     * @return the tile image, or null if it is not in memory
+     */
+    BufferedImage getFromMemory(MapTileKey key) {
+        return memory.get(key);
+    }
+
+    /**
+     * Loads a tile from the disk tier and promotes it to memory.
+     *
+     * @param key tile address
+     * @return the tile image, or null if there is no disk tier or no stored tile
+     */
+    BufferedImage getFromDisk(MapTileKey key) {
+        BufferedImage image = null;
+        if (diskDirectory != null) {
+            prepareDisk();
+            final File file = fileFor(key);
+            if (file.isFile()) {
+                try {
+                    image = ImageIO.read(file);
+                }
+                catch (IOException ex) {
+                    LOGGER.log(Level.WARNING, "Could not read cached tile " + key, ex);
+                }
+                if (image == null) {
+                    // Unreadable tiles are rendered and written again.
+                    deleteFile(file.toPath());
+                }
+            }
+            if (image != null) {
+                memory.put(key, image);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Stores a freshly rendered tile in memory and, if configured, on disk.
+     *
+     * @param key tile address
+     * @param image the rendered tile
+     */
+    void put(MapTileKey key, BufferedImage image) {
+        memory.put(key, image);
+        if (diskDirectory != null) {
+            prepareDisk();
+            final File file = fileFor(key);
+            final File parent = file.getParentFile();
+            File temporary = null;
+            try {
+                if (parent.isDirectory() || parent.mkdirs()) {
+                    temporary = File.createTempFile(TEMPORARY_PREFIX, TEMPORARY_SUFFIX, parent);
+                    if (ImageIO.write(image, IMAGE_FORMAT, temporary)) {
+                        Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                    }
+                }
+            }
+            catch (IOException ex) {
+                LOGGER.log(Level.WARNING, "Could not write cached tile " + key, ex);
+            }
+            finally {
+                if (temporary != null) {
+                    deleteFile(temporary.toPath());
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops every tile held in memory. The disk tier is left untouched.
+     */
+    void clearMemory() {
+        memory.clear();
+    }
+
+    /**
+     * Evicts least recently used tiles that are not pinned until the memory
+     * tier is back within its capacity. Called with the memory lock held.
+     */
+    private void trim() {
+        final Set<MapTileKey> keep = pinned;
+        final Iterator<MapTileKey> eldestFirst = tiles.keySet().iterator();
+        while (tiles.size() > memoryCapacity && eldestFirst.hasNext()) {
+            if (!keep.contains(eldestFirst.next())) {
+                eldestFirst.remove();
+            }
+        }
+    }
+
+    /**
+     * On the first disk access, marks this namespace as the most recently used
+     * and deletes the least recently used sibling namespaces beyond
+     * {@link #MAX_DISK_NAMESPACES}. Runs on a tile rendering thread.
+     */
+    private void prepareDisk() {
+        if (diskPrepared.compareAndSet(false, true)) {
+            final File directory = diskDirectory.getAbsoluteFile();
+            if ((directory.isDirectory() || directory.mkdirs())
+                    && !directory.setLastModified(System.currentTimeMillis())) {
+                LOGGER.fine("Could not mark tile namespace as used: " + directory);
+            }
+            final File[] namespaces = directory.getParentFile().listFiles(File::isDirectory);
+            if (namespaces != null && namespaces.length > MAX_DISK_NAMESPACES) {
+                Arrays.sort(namespaces, Comparator.comparingLong(File::lastModified));
+                for (int i = 0; i < namespaces.length - MAX_DISK_NAMESPACES; i++) {
+                    if (!namespaces[i].equals(directory)) {
+                        deleteTree(namespaces[i].toPath());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes a tile namespace and everything below it, logging what cannot be deleted.
+     *
+     * @param root the namespace directory
+     */
+    private static void deleteTree(Path root) {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(MapTileCache::deleteFile);
+        }
+        catch (IOException | UncheckedIOException ex) {
+            LOGGER.log(Level.WARNING, "Could not delete tile namespace " + root, ex);
+        }
+    }
+
+    private static void deleteFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        }
+        catch (IOException ex) {
+            LOGGER.log(Level.FINE, "Could not delete " + path, ex);
+        }
+    }
+
+    private File fileFor(MapTileKey key) {
+        final File zoomDirectory = new File(diskDirectory, Integer.toString(key.getZoom()));
+        final File columnDirectory = new File(zoomDirectory, Integer.toString(key.getColumn()));
+        return new File(columnDirectory, key.getRow() + "." + IMAGE_FORMAT);
+    }
+}
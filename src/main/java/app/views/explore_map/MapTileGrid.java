@@ -0,0 +1,107 @@
+package app.views.explore_map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Geometry of the map tile pyramid.
+ *
+ * <p>
+ * Level 0 is a single square tile anchored at the top-left corner of the map
+ * bounds and large enough to cover them. Each further level halves the world
+ * size of a tile, so level {@code z} has {@code 2^z} columns and rows.
+ */
+final class MapTileGrid {
+    /** Edge length of a tile in pixels. */
+    static final int TILE_SIZE = 256;
+
+    /** Deepest pyramid level that will be rendered. */
+    static final int MAX_ZOOM = 14;
+
+    /** Tolerance so a display exactly at a level's scale does not round up to the next level. */
+    private static final double ZOOM_EPSILON = 1e-6;
+
+    private final double originX;
+    private final double originY;
+    private final double worldSize;
+    private final CoordinateReferenceSystem crs;
+
+    /**
+     * Creates a pyramid over the given map bounds.
+     *
+     * @param bounds the full extent of the map
+     */
+    MapTileGrid(ReferencedEnvelope bounds) {
+        this.originX = bounds.getMinX();
+        this.originY = bounds.getMaxY();
+        this.worldSize = Math.max(bounds.getWidth(), bounds.getHeight());
+        this.crs = bounds.getCoordinateReferenceSystem();
+    }
+
+    /**
+     * @param zoom pyramid level
+     * @return world units covered by one tile edge at that level
+     */
+    double tileWorldSize(int zoom) {
+        return worldSize / (1L << zoom);
+    }
+
+    /**
+     * Picks the shallowest level whose tiles are at least as sharp as the display.
+     *
+     * @param worldPerPixel world units per screen pixel of the display
+     * @return the pyramid level to render at
+     */
+    int zoomFor(double worldPerPixel) {
+        final double levelZeroPerPixel = worldSize / TILE_SIZE;
+        final double exact = Math.log(levelZeroPerPixel / worldPerPixel) / Math.log(2);
+        final int zoom = (int) Math.ceil(exact - ZOOM_EPSILON);
+        return Math.max(0, Math.min(MAX_ZOOM, zoom));
+    }
+
+    /**
+     * @param key tile address
+     * @return the world envelope covered by the tile
+     */
+    ReferencedEnvelope tileEnvelope(MapTileKey key) {
+        final double size = tileWorldSize(key.getZoom());
+        final double minX = originX + key.getColumn() * size;
+        final double maxY = originY - key.getRow() * size;
+        return new ReferencedEnvelope(minX, minX + size, maxY - size, maxY, crs);
+    }
+
+    /**
+     * Lists the tiles of a level that intersect an area, clipped to the pyramid.
+     *
+     * @param area the visible world area
+     * @param zoom pyramid level
+     * @return the intersecting tiles, row by row
+     */
+    List<MapTileKey> tilesCovering(Envelope area, int zoom) {
+        final List<MapTileKey> keys = new ArrayList<>();
+        final Envelope extent = new Envelope(originX, originX + worldSize, originY - worldSize, originY);
+        if (extent.intersects(area)) {
+            final double size = tileWorldSize(zoom);
+            final int last = (int) ((1L << zoom) - 1);
+            final int minColumn = clamp((int) Math.floor((area.getMinX() - originX) / size), last);
+            final int maxColumn = clamp((int) Math.floor((area.getMaxX() - originX) / size), last);
+            final int minRow = clamp((int) Math.floor((originY - area.getMaxY()) / size), last);
+            final int maxRow = clamp((int) Math.floor((originY - area.getMinY()) / size), last);
+
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int column = minColumn; column <= maxColumn; column++) {
+                    keys.add(new MapTileKey(zoom, column, row));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static int clamp(int value, int last) {
+        return Math.max(0, Math.min(last, value));
+    }
+}
@@ -0,0 +1,71 @@
+package app.views.explore_map;
+
+import java.util.Objects;
+
+/**
+ * Address of one tile in the map tile pyramid.
+ */
+final class MapTileKey {
+    private final int zoom;
+    private final int column;
+    private final int row;
+
+    /**
+     * Creates a tile address.
+     *
+     * @param zoom pyramid level, 0 being a single tile covering the whole map
+     * @param column tile column, counted from the left edge of the map
+     * @param row tile row, counted from the top edge of the map
+     */
+    MapTileKey(int zoom, int column, int row) {
+        this.zoom = zoom;
+        this.column = column;
+        this.row = row;
+    }
+
+    int getZoom() {
+        return zoom;
+    }
+
+    int getColumn() {
+        return column;
+    }
+
+    int getRow() {
+        return row;
+    }
+
+    /**
+     * @return the tile one level up that covers this tile, or null at level 0
+     */
+    MapTileKey parent() {
+        MapTileKey result = null;
+        if (zoom > 0) {
+            result = new MapTileKey(zoom - 1, column / 2, row / 2);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        boolean result = false;
+        if (this == other) {
+            result = true;
+        }
+        else if (other instanceof MapTileKey) {
+            final MapTileKey that = (MapTileKey) other;
+            result = zoom == that.zoom && column == that.column && row == that.row;
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(zoom, column, row);
+    }
+
+    @Override
+    public String toString() {
+        return zoom + "/" + column + "/" + row;
+    }
+}
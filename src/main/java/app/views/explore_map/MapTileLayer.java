@@ -0,0 +1,251 @@
+package app.views.explore_map;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.SwingUtilities;
+
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Tiled base map layer.
+ *
+ * <p>
+ * The visible area is composed from fixed-size tiles of the pyramid level
+ * that matches the display scale. Tiles come from a {@link MapTileCache};
+ * missing ones are handed to a {@link MapTileScheduler}, nearest to the
+ * viewport centre first, and the pane is asked to repaint when they arrive.
+ * Until then the matching quarter of the parent tile is stretched over the
+ * gap, so panning only ever renders newly exposed tiles.
+ */
+final class MapTileLayer {
+    private static final Logger LOGGER = Logger.getLogger(MapTileLayer.class.getName());
+
+    /** Smallest on-screen edge of a tile: levels are picked rounding up, so tiles show at 128 to 256 px. */
+    private static final int MIN_TILE_PIXELS = MapTileGrid.TILE_SIZE / 2;
+
+    /** Fewest tiles kept in memory, whatever the size of the pane. */
+    private static final int MIN_MEMORY_TILES = 64;
+
+    private final MapTileGrid grid;
+    private final MapTileRenderer renderer;
+    private final MapTileCache cache;
+    private final Runnable onTileReady;
+    private final MapTileScheduler scheduler;
+
+    private volatile boolean disposed;
+
+    /**
+     * Creates a tile layer.
+     *
+     * @param grid the tile pyramid
+     * @param renderer renders missing tiles
+     * @param cache holds rendered tiles
+     * @param onTileReady run on the EDT whenever a requested tile becomes available
+     */
+    MapTileLayer(MapTileGrid grid, MapTileRenderer renderer, MapTileCache cache, Runnable onTileReady) {
+        this.grid = grid;
+        this.renderer = renderer;
+        this.cache = cache;
+        this.onTileReady = onTileReady;
+        this.scheduler = new MapTileScheduler(this::loadTile);
+    }
+
+    /**
+     * Paints the tiles covering the visible area, requesting any that are missing.
+     *
+     * @param g2d graphics of the map pane
+     * @param worldToScreen the pane's current world-to-screen transform
+     * @param visibleArea the world area currently on screen
+     */
+    void paint(Graphics2D g2d, AffineTransform worldToScreen, Envelope visibleArea) {
+        final List<MapTileKey> visible = tilesCovering(worldToScreen, visibleArea);
+        final List<MapTileKey> missing = new ArrayList<>();
+
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        for (MapTileKey key : visible) {
+            final Rectangle target = screenRectangle(key, worldToScreen);
+            final BufferedImage tile = cache.getFromMemory(key);
+            if (tile != null) {
+                g2d.drawImage(tile, target.x, target.y, target.width, target.height, null);
+            }
+            else {
+                missing.add(key);
+                paintFromParent(g2d, key, target);
+            }
+        }
+
+        schedule(visible, missing, visibleArea);
+    }
+
+    /**
+     * Requests the missing tiles covering an area without painting anything,
+     * cancelling in-flight tiles outside it.
+     *
+     * @param worldToScreen the world-to-screen transform the area will be shown at
+     * @param visibleArea the world area that will be on screen
+     */
+    void prefetch(AffineTransform worldToScreen, Envelope visibleArea) {
+        final List<MapTileKey> visible = tilesCovering(worldToScreen, visibleArea);
+        final List<MapTileKey> missing = new ArrayList<>();
+        for (MapTileKey key : visible) {
+            if (cache.getFromMemory(key) == null) {
+                missing.add(key);
+            }
+        }
+        schedule(visible, missing, visibleArea);
+    }
+
+    /**
+     * Resizes the memory cache for a new pane size.
+     *
+     * @param width pane width in pixels
+     * @param height pane height in pixels
+     */
+    void fitViewport(int width, int height) {
+        cache.setMemoryCapacity(memoryTilesFor(width, height));
+    }
+
+    /**
+     * Sizes the memory cache for a pane: every tile one frame can show, plus
+     * half as many again for parent tiles and tiles just panned out of view.
+     *
+     * @param width pane width in pixels
+     * @param height pane height in pixels
+     * @return the number of tiles to keep in memory
+     */
+    static int memoryTilesFor(int width, int height) {
+        final int columns = (width + MIN_TILE_PIXELS - 1) / MIN_TILE_PIXELS + 1;
+        final int rows = (height + MIN_TILE_PIXELS - 1) / MIN_TILE_PIXELS + 1;
+        final int frameTiles = columns * rows;
+        return Math.max(MIN_MEMORY_TILES, frameTiles + frameTiles / 2);
+    }
+
+    /**
+     * Checks whether every tile covering an area is ready to paint.
+     *
+     * @param worldToScreen the world-to-screen transform the area is shown at
+     * @param visibleArea the world area on screen
+     * @return whether no tile covering the area is missing from memory
+     */
+    boolean isComplete(AffineTransform worldToScreen, Envelope visibleArea) {
+        boolean complete = true;
+        for (MapTileKey key : tilesCovering(worldToScreen, visibleArea)) {
+            if (cache.getFromMemory(key) == null) {
+                complete = false;
+                break;
+            }
+        }
+        return complete;
+    }
+
+    /**
+     * Stops rendering and releases the render threads.
+     */
+    void dispose() {
+        disposed = true;
+        scheduler.shutdown();
+        cache.clearMemory();
+    }
+
+    /**
+     * Lists the tiles of the pyramid level matching the display scale that cover an area.
+     */
+    private List<MapTileKey> tilesCovering(AffineTransform worldToScreen, Envelope visibleArea) {
+        final double worldPerPixel = 1.0 / Math.abs(worldToScreen.getScaleX());
+        return grid.tilesCovering(visibleArea, grid.zoomFor(worldPerPixel));
+    }
+
+    /**
+     * Pins the tiles of the frame in memory and hands the missing ones to the
+     * scheduler, nearest to the centre of the area first.
+     */
+    private void schedule(List<MapTileKey> visible, List<MapTileKey> missing, Envelope visibleArea) {
+        if (!disposed) {
+            cache.pin(visible);
+            final double centerX = visibleArea.centre().x;
+            final double centerY = visibleArea.centre().y;
+            missing.sort(Comparator.comparingDouble(key -> distanceToTile(key, centerX, centerY)));
+            scheduler.schedule(visible, missing);
+        }
+    }
+
+    /**
+     * Squared world distance from a point to the centre of a tile.
+     */
+    private double distanceToTile(MapTileKey key, double x, double y) {
+        final ReferencedEnvelope envelope = grid.tileEnvelope(key);
+        final double dx = envelope.getMedian(0) - x;
+        final double dy = envelope.getMedian(1) - y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Fetches a tile from disk or renders it, then notifies the pane.
+     * Runs on a scheduler worker thread.
+     *
+     * @param key the tile to load
+     */
+    private void loadTile(MapTileKey key) {
+        try {
+            if (!disposed) {
+                BufferedImage image = cache.getFromDisk(key);
+                if (image == null) {
+                    final ReferencedEnvelope area = grid.tileEnvelope(key);
+                    image = renderer.render(area, MapTileGrid.TILE_SIZE, MapTileGrid.TILE_SIZE);
+                    cache.put(key, image);
+                }
+                SwingUtilities.invokeLater(onTileReady);
+            }
+        }
+        catch (RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Failed to render map tile " + key, ex);
+        }
+    }
+
+    /**
+     * Stretches the matching quarter of the parent tile over a missing tile, if cached.
+     */
+    private void paintFromParent(Graphics2D g2d, MapTileKey key, Rectangle target) {
+        final MapTileKey parent = key.parent();
+        if (parent != null) {
+            final BufferedImage parentImage = cache.getFromMemory(parent);
+            if (parentImage != null) {
+                final int half = MapTileGrid.TILE_SIZE / 2;
+                final int sourceX = (key.getColumn() % 2) * half;
+                final int sourceY = (key.getRow() % 2) * half;
+                g2d.drawImage(parentImage,
+                        target.x, target.y, target.x + target.width, target.y + target.height,
+                        sourceX, sourceY, sourceX + half, sourceY + half,
+                        null);
+            }
+        }
+    }
+
+    /**
+     * Maps a tile's world envelope to screen pixels. Edges are rounded the same
+     * way for neighbouring tiles so they meet without seams.
+     */
+    private Rectangle screenRectangle(MapTileKey key, AffineTransform worldToScreen) {
+        final ReferencedEnvelope envelope = grid.tileEnvelope(key);
+        final Point2D topLeft = worldToScreen.transform(
+                new Point2D.Double(envelope.getMinX(), envelope.getMaxY()), null);
+        final Point2D bottomRight = worldToScreen.transform(
+                new Point2D.Double(envelope.getMaxX(), envelope.getMinY()), null);
+        final int left = (int) Math.round(topLeft.getX());
+        final int top = (int) Math.round(topLeft.getY());
+        final int right = (int) Math.round(bottomRight.getX());
+        final int bottom = (int) Math.round(bottomRight.getY());
+        return new Rectangle(left, top, right - left, bottom - top);
+    }
+}
@@ -0,0 +1,164 @@
+package app.views.explore_map;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.style.Style;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.map.FeatureLayer;
+import org.geotools.map.MapContent;
+import org.geotools.renderer.lite.StreamingRenderer;
+import org.locationtech.jts.awt.ShapeWriter;
+import org.locationtech.jts.geom.Geometry;
+
+import app.use_cases.explore_map.MapFeatureStore;
+
+/**
+ * Renders single map tiles into images.
+ *
+ * <p>
+ * Each call builds its own {@link MapContent} and {@link StreamingRenderer},
+ * so tiles can be rendered from any thread, including several at once. No
+ * Swing component is involved. When built over a {@link MapFeatureStore},
+ * each tile draws the store's detail level matching the tile's scale.
+ *
+ * <p>
+ * Given a per-feature fill colour array, the renderer skips GeoTools styling
+ * and fills each feature's shape directly with its colour, so choropleth
+ * modes need no filter evaluation at all.
+ */
+final class MapTileRenderer {
+    private static final Color OUTLINE = Color.BLACK;
+    private static final float OUTLINE_WIDTH = 1.0f;
+
+    private final MapFeatureStore store;
+    private final SimpleFeatureSource featureSource;
+    private final Style style;
+    private final Color[] fills;
+
+    /**
+     * Creates a renderer drawing one feature source with one style.
+     *
+     * @param featureSource the features to draw
+     * @param style the style to draw them with
+     */
+    MapTileRenderer(SimpleFeatureSource featureSource, Style style) {
+        this.store = null;
+        this.featureSource = featureSource;
+        this.style = style;
+        this.fills = null;
+    }
+
+    /**
+     * Creates a renderer drawing a feature store at scale-dependent detail.
+     *
+     * @param store the features to draw
+     * @param style the style to draw them with
+     */
+    MapTileRenderer(MapFeatureStore store, Style style) {
+        this.store = store;
+        this.featureSource = store.getFeatureSource();
+        this.style = style;
+        this.fills = null;
+    }
+
+    /**
+     * Creates a renderer filling each feature of a store with its own colour.
+     *
+     * @param store the features to draw
+     * @param fills fill colour of each feature, indexed by store position
+     */
+    MapTileRenderer(MapFeatureStore store, Color[] fills) {
+        this.store = store;
+        this.featureSource = store.getFeatureSource();
+        this.style = null;
+        this.fills = fills;
+    }
+
+    /**
+     * Renders the features inside a world envelope into a transparent image.
+     *
+     * @param area the world area to draw
+     * @param width image width in pixels
+     * @param height image height in pixels
+     * @return the rendered image
+     */
+    BufferedImage render(ReferencedEnvelope area, int width, int height) {
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g2d = image.createGraphics();
+        if (fills != null) {
+            try {
+                paintFills(g2d, area, width);
+            }
+            finally {
+                g2d.dispose();
+            }
+        }
+        else {
+            paintStyled(g2d, area, width, height);
+        }
+        return image;
+    }
+
+    /**
+     * Renders the tile through GeoTools with the configured style.
+     */
+    private void paintStyled(Graphics2D g2d, ReferencedEnvelope area, int width, int height) {
+        final MapContent content = new MapContent();
+        try {
+            content.addLayer(new FeatureLayer(sourceFor(area, width), style));
+
+            final StreamingRenderer renderer = new StreamingRenderer();
+            renderer.setMapContent(content);
+            renderer.setJava2DHints(new RenderingHints(
+                    RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON));
+            renderer.paint(g2d, new Rectangle(width, height), area);
+        }
+        finally {
+            content.dispose();
+            g2d.dispose();
+        }
+    }
+
+    /**
+     * Fills and outlines every feature intersecting the tile with its precomputed colour.
+     */
+    private void paintFills(Graphics2D g2d, ReferencedEnvelope area, int width) {
+        final double scale = width / area.getWidth();
+        final AffineTransform worldToTile = new AffineTransform(
+                scale, 0, 0, -scale, -area.getMinX() * scale, area.getMaxY() * scale);
+        final ShapeWriter shapeWriter = ScreenShapes.writer(worldToTile);
+        final int level = store.detailLevelFor(area.getWidth() / width);
+
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setStroke(new BasicStroke(OUTLINE_WIDTH));
+        for (int i = 0; i < store.size(); i++) {
+            final Geometry geometry = store.getGeometry(i, level);
+            if (geometry != null && !geometry.isEmpty() && store.getEnvelope(i).intersects(area)) {
+                final Shape shape = shapeWriter.toShape(geometry);
+                g2d.setColor(fills[i]);
+                g2d.fill(shape);
+                g2d.setColor(OUTLINE);
+                g2d.draw(shape);
+            }
+        }
+    }
+
+    /**
+     * Picks the feature source whose detail matches the scale of a tile.
+     */
+    private SimpleFeatureSource sourceFor(ReferencedEnvelope area, int width) {
+        SimpleFeatureSource result = featureSource;
+        if (store != null) {
+            result = store.getFeatureSource(store.detailLevelFor(area.getWidth() / width));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,131 @@
+package app.views.explore_map;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Renders map tiles in parallel on a work-stealing pool.
+ *
+ * <p>
+ * Each frame hands over the tiles it needs ordered by priority; tiles that
+ * are not already in flight are submitted in that order, and the pool runs
+ * submissions first-in first-out, so tiles near the viewport centre are
+ * drawn first. Tiles that are no longer visible are cancelled before they
+ * start. The time from the first tile of a burst until the last one lands is
+ * logged as the frame render time.
+ */
+final class MapTileScheduler {
+    private static final Logger LOGGER = Logger.getLogger(MapTileScheduler.class.getName());
+
+    private final ForkJoinPool pool;
+    private final Consumer<MapTileKey> loader;
+    private final Map<MapTileKey, ForkJoinTask<?>> inFlight = new ConcurrentHashMap<>();
+
+    private long frameStartNanos;
+
+    /**
+     * Creates a scheduler with one worker per core, leaving one core for the EDT.
+     *
+     * @param loader renders or loads a single tile; called on worker threads
+     */
+    MapTileScheduler(Consumer<MapTileKey> loader) {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), loader);
+    }
+
+    /**
+     * Creates a scheduler with a fixed number of workers.
+     *
+     * @param parallelism number of tiles rendered at once
+     * @param loader renders or loads a single tile; called on worker threads
+     */
+    MapTileScheduler(int parallelism, Consumer<MapTileKey> loader) {
+        this.loader = loader;
+        this.pool = new ForkJoinPool(parallelism, currentPool -> {
+            final ForkJoinWorkerThread thread =
+                    ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(currentPool);
+            thread.setName("map-tile-renderer-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, true);
+    }
+
+    /**
+     * Updates the work for the current frame.
+     *
+     * @param visible every tile the frame shows; in-flight tiles outside it are cancelled
+     * @param missing the tiles still to render, highest priority first
+     */
+    synchronized void schedule(List<MapTileKey> visible, List<MapTileKey> missing) {
+        if (!pool.isShutdown()) {
+            final Set<MapTileKey> wanted = new HashSet<>(visible);
+            for (Map.Entry<MapTileKey, ForkJoinTask<?>> entry : inFlight.entrySet()) {
+                if (!wanted.contains(entry.getKey()) && entry.getValue().cancel(false)) {
+                    inFlight.remove(entry.getKey(), entry.getValue());
+                }
+            }
+
+            for (MapTileKey key : missing) {
+                if (!inFlight.containsKey(key)) {
+                    if (inFlight.isEmpty()) {
+                        frameStartNanos = System.nanoTime();
+                    }
+                    final ForkJoinTask<?> task = new TileTask(key);
+                    inFlight.put(key, task);
+                    pool.execute(task);
+                }
+            }
+        }
+    }
+
+    /**
+     * Cancels all queued tiles and stops the workers.
+     */
+    synchronized void shutdown() {
+        inFlight.values().forEach(task -> task.cancel(false));
+        inFlight.clear();
+        pool.shutdownNow();
+    }
+
+    /**
+     * Removes a completed tile and closes the frame once nothing is left in flight.
+     */
+    private synchronized void finished(MapTileKey key, ForkJoinTask<?> task) {
+        if (inFlight.remove(key, task) && inFlight.isEmpty()) {
+            final long frameMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - frameStartNanos);
+            LOGGER.fine("Map tiles rendered in " + frameMillis + " ms");
+        }
+    }
+
+    /**
+     * Pool task rendering a single tile.
+     */
+    private final class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient MapTileKey key;
+
+        TileTask(MapTileKey key) {
+            this.key = key;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                loader.accept(key);
+            }
+            finally {
+                finished(key, this);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package app.views.explore_map;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+
+import org.locationtech.jts.awt.ShapeWriter;
+
+/**
+ * Helpers for turning world geometries into Java2D shapes in screen space.
+ */
+final class ScreenShapes {
+    /** Vertices closer than this many pixels are merged when writing shapes. */
+    private static final double DECIMATION_PIXELS = 0.5;
+
+    private ScreenShapes() {
+    }
+
+    /**
+     * Creates a shape writer that maps world coordinates through the given
+     * transform, dropping sub-pixel vertices along the way.
+     *
+     * @param worldToScreen the world-to-screen transform; copied, not retained
+     * @return a configured shape writer
+     */
+    static ShapeWriter writer(AffineTransform worldToScreen) {
+        final AffineTransform transform = new AffineTransform(worldToScreen);
+        final ShapeWriter shapeWriter = new ShapeWriter(
+                (source, destination) -> transform.transform(new Point2D.Double(source.x, source.y), destination)
+        );
+        shapeWriter.setRemoveDuplicatePoints(true);
+        shapeWriter.setDecimation(DECIMATION_PIXELS);
+        return shapeWriter;
+    }
+}
@@ -0,0 +1,172 @@
+package app.views.explore_map;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.Timer;
+
+import org.geotools.geometry.jts.ReferencedEnvelope;
+
+/**
+ * Animates display area changes of an {@link ExploreMapPane}.
+ *
+ * <p>
+ * When a transition starts, the pane's current frame is captured and the
+ * target display area is applied straight away, so the sharp render of the
+ * target starts in the background. A Swing timer then shows the captured
+ * frame scaled and translated towards the target at display refresh rate;
+ * the scale is interpolated geometrically so zooming feels uniform. Once the
+ * transition has run its course the pane swaps back to live painting as soon
+ * as the target's tiles are ready, or after a timeout.
+ *
+ * <p>
+ * Progress is driven by elapsed time, so a slow frame skips ahead rather than
+ * stretching the animation. If painting a frame took longer than the frame
+ * budget, the next frames are scaled with nearest-neighbour filtering. A new
+ * transition started mid-animation captures the frame currently on screen
+ * and starts from there; applying its target display area cancels the tile
+ * renders of the previous target that it no longer shows.
+ */
+final class ZoomAnimator {
+    private static final int FRAME_INTERVAL_MS = 16;
+    private static final long FRAME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(FRAME_INTERVAL_MS);
+    private static final long DURATION_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final long SWAP_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(750);
+    private static final double EASE_EXPONENT = 3.0;
+
+    private final ExploreMapPane pane;
+    private final Timer timer;
+
+    private BufferedImage frame;
+    private AffineTransform screenToFrame;
+    private AffineTransform from;
+    private AffineTransform to;
+    private AffineTransform current;
+    private long startNanos;
+
+    /**
+     * @param pane the pane whose display area changes are animated
+     */
+    ZoomAnimator(ExploreMapPane pane) {
+        this.pane = pane;
+        this.timer = new Timer(FRAME_INTERVAL_MS, event -> tick());
+        this.timer.setCoalesce(true);
+    }
+
+    /**
+     * Moves the pane to a new display area, animating the transition if the
+     * pane is on screen. Must be called on the EDT.
+     *
+     * @param target the display area to end on
+     */
+    void animateTo(ReferencedEnvelope target) {
+        AffineTransform start = current;
+        if (start == null) {
+            start = pane.getWorldToScreenTransform();
+        }
+
+        if (start == null || !pane.isShowing() || pane.getWidth() <= 0 || pane.getHeight() <= 0) {
+            stop();
+            pane.setDisplayArea(target);
+        }
+        else {
+            final BufferedImage captured = pane.snapshot();
+            pane.setDisplayArea(target);
+            final AffineTransform end = pane.getWorldToScreenTransform();
+            if (end == null) {
+                stop();
+            }
+            else {
+                start(captured, start, end);
+            }
+        }
+    }
+
+    /**
+     * Starts showing a captured frame on its way between two transforms.
+     *
+     * @param captured the frame on screen when the transition started
+     * @param start the world-to-screen transform the frame was captured at
+     * @param end the world-to-screen transform of the target display area
+     */
+    private void start(BufferedImage captured, AffineTransform start, AffineTransform end) {
+        try {
+            screenToFrame = start.createInverse();
+            frame = captured;
+            from = new AffineTransform(start);
+            to = new AffineTransform(end);
+            current = from;
+            startNanos = System.nanoTime();
+            pane.prefetchTiles();
+            show(from);
+            timer.restart();
+        }
+        catch (NoninvertibleTransformException ex) {
+            stop();
+        }
+    }
+
+    /**
+     * Ends any transition and returns the pane to live painting.
+     */
+    void stop() {
+        timer.stop();
+        frame = null;
+        screenToFrame = null;
+        current = null;
+        pane.clearAnimationFrame();
+    }
+
+    /**
+     * Advances the transition to the current time.
+     */
+    private void tick() {
+        final long elapsed = System.nanoTime() - startNanos;
+        if (elapsed < DURATION_NANOS) {
+            final double progress = (double) elapsed / DURATION_NANOS;
+            current = interpolate(1 - Math.pow(1 - progress, EASE_EXPONENT));
+            show(current);
+        }
+        else if (pane.isRenderComplete() || elapsed >= DURATION_NANOS + SWAP_TIMEOUT_NANOS) {
+            stop();
+        }
+        else if (current != to) {
+            current = to;
+            show(to);
+        }
+    }
+
+    /**
+     * Shows the captured frame as it would appear under a world-to-screen transform.
+     */
+    private void show(AffineTransform worldToScreen) {
+        final AffineTransform frameToScreen = new AffineTransform(worldToScreen);
+        frameToScreen.concatenate(screenToFrame);
+        pane.setAnimationFrame(frame, frameToScreen, pane.getLastPaintNanos() <= FRAME_BUDGET_NANOS);
+    }
+
+    /**
+     * Blends the start and end transforms: the scale geometrically and the
+     * world point at the pane centre linearly.
+     *
+     * @param t the eased progress, from 0 to 1
+     * @return the world-to-screen transform at that point of the transition
+     */
+    private AffineTransform interpolate(double t) {
+        final double scaleX = from.getScaleX() * Math.pow(to.getScaleX() / from.getScaleX(), t);
+        final double scaleY = from.getScaleY() * Math.pow(to.getScaleY() / from.getScaleY(), t);
+
+        final double screenX = pane.getWidth() / 2.0;
+        final double screenY = pane.getHeight() / 2.0;
+        final double fromX = (screenX - from.getTranslateX()) / from.getScaleX();
+        final double fromY = (screenY - from.getTranslateY()) / from.getScaleY();
+        final double toX = (screenX - to.getTranslateX()) / to.getScaleX();
+        final double toY = (screenY - to.getTranslateY()) / to.getScaleY();
+        final double worldX = fromX + (toX - fromX) * t;
+        final double worldY = fromY + (toY - fromY) * t;
+
+        return new AffineTransform(scaleX, 0, 0, scaleY, screenX - scaleX * worldX, screenY - scaleY * worldY);
+    }
+}
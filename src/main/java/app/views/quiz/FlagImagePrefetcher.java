@@ -0,0 +1,151 @@
+package app.views.quiz;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+/**
+ * Fetches and decodes quiz images in the background, ahead of the questions
+ * that show them.
+ *
+ * <p>
+ * Each image is downloaded, decoded and scaled to fit the display box on a
+ * small pool of daemon threads, so the EDT only ever receives a ready
+ * {@link ImageIcon}. Requests for the same URL share one load. The most
+ * recently used images are kept, enough to cover a few questions either side
+ * of the current one; a failed load is forgotten so it is retried the next
+ * time it is asked for.
+ */
+final class FlagImagePrefetcher {
+    private static final int THREADS = 2;
+    private static final int CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int maxWidth;
+    private final int maxHeight;
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS, runnable -> {
+        final Thread thread = new Thread(runnable, "quiz-image-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, CompletableFuture<ImageIcon>> images =
+            new LinkedHashMap<>(CAPACITY, LOAD_FACTOR, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<ImageIcon>> eldest) {
+                    return size() > CAPACITY;
+                }
+            };
+
+    /**
+     * @param maxWidth  widest an image is shown, in pixels
+     * @param maxHeight tallest an image is shown, in pixels
+     */
+    FlagImagePrefetcher(int maxWidth, int maxHeight) {
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+    }
+
+    /**
+     * Starts loading images that will be needed soon.
+     *
+     * @param urls image URLs or classpath resource paths, most urgent first
+     */
+    void prefetch(List<String> urls) {
+        for (String url : urls) {
+            request(url);
+        }
+    }
+
+    /**
+     * Returns the image at a URL, starting its load if it is not cached.
+     *
+     * @param url an http(s) URL or a classpath resource path
+     * @return the decoded, scaled image, complete if it was prefetched
+     */
+    CompletableFuture<ImageIcon> request(String url) {
+        CompletableFuture<ImageIcon> image;
+        synchronized (images) {
+            image = images.get(url);
+            if (image == null) {
+                image = CompletableFuture.supplyAsync(() -> load(url), executor);
+                images.put(url, image);
+                final CompletableFuture<ImageIcon> loading = image;
+                image.whenComplete((icon, error) -> {
+                    if (error != null) {
+                        forget(url, loading);
+                    }
+                });
+            }
+        }
+        return image;
+    }
+
+    private void forget(String url, CompletableFuture<ImageIcon> image) {
+        synchronized (images) {
+            images.remove(url, image);
+        }
+    }
+
+    /**
+     * Downloads and decodes an image, then scales it down to the display box.
+     */
+    private ImageIcon load(String url) {
+        try {
+            final URL source;
+            if (url.startsWith("http")) {
+                source = new URL(url);
+            }
+            else {
+                source = getClass().getResource(url);
+            }
+            if (source == null) {
+                throw new IOException("Image not found: " + url);
+            }
+            final BufferedImage decoded = ImageIO.read(source);
+            if (decoded == null) {
+                throw new IOException("Unsupported image format: " + url);
+            }
+            return new ImageIcon(fit(decoded));
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Scales an image down, keeping its aspect ratio, so it fits the display box.
+     */
+    private BufferedImage fit(BufferedImage image) {
+        final double scale = Math.min(1.0, Math.min(
+                (double) maxWidth / image.getWidth(), (double) maxHeight / image.getHeight()));
+        BufferedImage result = image;
+        if (scale < 1.0) {
+            final int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+            final int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+            result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            final Graphics2D g2d = result.createGraphics();
+            try {
+                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g2d.drawImage(image, 0, 0, width, height, null);
+            }
+            finally {
+                g2d.dispose();
+            }
+        }
+        return result;
+    }
+}
@@ -18,6 +18,7 @@ public class QuizState {
     private int questionIndex;
     private int totalQuestions;
     private String mediaUrl;
+    private List<String> upcomingMediaUrls = Collections.emptyList();
 
     // Feedback info
     private String feedbackMessage;
@@ -33,6 +34,9 @@ public class QuizState {
     // Quiz history
     private List<QuizHistoryEntry> historyEntries = Collections.emptyList();
 
+    // Error shown when a quiz cannot start
+    private String errorMessage;
+
     // UI flags
     private boolean showQuestion;
     private boolean showFeedback;
@@ -99,6 +103,23 @@ public class QuizState {
         this.mediaUrl = mediaUrl;
     }
 
+    public List<String> getUpcomingMediaUrls() {
+        return upcomingMediaUrls;
+    }
+
+    /**
+     * Sets the media URLs of the next questions. If null, an empty list is used.
+     * @param upcomingMediaUrls - The media of the questions after the current one.
+     */
+    public void setUpcomingMediaUrls(List<String> upcomingMediaUrls) {
+        if (upcomingMediaUrls != null) {
+            this.upcomingMediaUrls = upcomingMediaUrls;
+        }
+        else {
+            this.upcomingMediaUrls = Collections.emptyList();
+        }
+    }
+
     public String getFeedbackMessage() {
         return feedbackMessage;
     }
@@ -172,6 +193,14 @@ public class QuizState {
         }
     }
 
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
     public boolean isShowQuestion() {
         return showQuestion;
     }
@@ -16,11 +16,13 @@ import java.awt.Insets;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
 import javax.swing.ButtonModel;
+import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JComboBox;
 import javax.swing.JDialog;
@@ -53,6 +55,8 @@ public class QuizView extends AbstractView {
     private static final int QUESTION_TIME_LIMIT_SECONDS = 30;
     private static final String UNKNOWN_LABEL = "Unknown";
     private static final String TIME_PREFIX = "Time: ";
+    private static final int FLAG_MAX_WIDTH = 320;
+    private static final int FLAG_MAX_HEIGHT = 240;
     private static final Logger LOGGER = Logger.getLogger(QuizView.class.getName());
 
     private TakeQuizController controller;
@@ -73,6 +77,8 @@ public class QuizView extends AbstractView {
     private JPanel centerPanel;
     private final JPanel optionsPanel = new JPanel();
     private final JLabel imageLabel = new JLabel();
+    private final FlagImagePrefetcher flagImages = new FlagImagePrefetcher(FLAG_MAX_WIDTH, FLAG_MAX_HEIGHT);
+    private String displayedMediaUrl;
 
     // Bottom: selection UI
     private JPanel configPanel;
@@ -373,45 +379,42 @@ public class QuizView extends AbstractView {
     }
 
     private void displayMediaIfAvailable(String mediaUrl) {
+        displayedMediaUrl = mediaUrl;
+        imageLabel.setText("");
+        imageLabel.setIcon(null);
         if (mediaUrl != null && !mediaUrl.isEmpty()) {
-            try {
-                imageLabel.setText("");
-                imageLabel.setIcon(null);
-
-                if (mediaUrl.startsWith("http")) {
-                    loadRemoteImage(mediaUrl);
-                }
-                else {
-                    loadLocalImage(mediaUrl);
-                }
-
-                imageLabel.setVisible(true);
+            final CompletableFuture<ImageIcon> image = flagImages.request(mediaUrl);
+            if (image.isDone() && !image.isCompletedExceptionally()) {
+                imageLabel.setIcon(image.join());
             }
-            catch (java.io.IOException ex) {
-                LOGGER.warning("Failed to load image: " + ex.getMessage());
-                imageLabel.setIcon(null);
-                imageLabel.setText("[image failed to load]");
-                imageLabel.setVisible(true);
+            else {
+                // Not prefetched yet: show a placeholder and swap the image in once it arrives.
+                imageLabel.setText("Loading...");
+                image.whenComplete((icon, error) -> SwingUtilities.invokeLater(() -> {
+                    showLoadedImage(mediaUrl, icon, error);
+                }));
             }
+            imageLabel.setVisible(true);
         }
         else {
-            imageLabel.setIcon(null);
             imageLabel.setVisible(false);
         }
     }
 
-    private void loadRemoteImage(String mediaUrl) throws java.io.IOException {
-        final java.net.URL url = new java.net.URL(mediaUrl);
-        imageLabel.setIcon(new javax.swing.ImageIcon(url));
-    }
-
-    private void loadLocalImage(String mediaUrl) {
-        final java.net.URL res = getClass().getResource(mediaUrl);
-        if (res != null) {
-            imageLabel.setIcon(new javax.swing.ImageIcon(res));
+    private void showLoadedImage(String mediaUrl, ImageIcon icon, Throwable error) {
+        if (error != null) {
+            LOGGER.warning("Failed to load image: " + error.getMessage());
         }
-        else {
-            imageLabel.setText("[image not found]");
+        if (mediaUrl.equals(displayedMediaUrl)) {
+            if (error == null) {
+                imageLabel.setText("");
+                imageLabel.setIcon(icon);
+            }
+            else {
+                imageLabel.setText("[image failed to load]");
+            }
+            imageLabel.revalidate();
+            imageLabel.repaint();
         }
     }
 
@@ -758,6 +761,7 @@ public class QuizView extends AbstractView {
                     state.getTotalQuestions(),
                     state.getMediaUrl()
             );
+            flagImages.prefetch(state.getUpcomingMediaUrls());
         }
 
         if (state.isShowFeedback()) {
@@ -784,6 +788,24 @@ public class QuizView extends AbstractView {
         if (state.isShowHistory()) {
             showQuizHistory(state.getHistoryEntries());
         }
+
+        if (state.getErrorMessage() != null) {
+            showStartFailure(state.getErrorMessage());
+        }
+    }
+
+    /**
+     * Tells the user a quiz could not be started and returns to quiz selection.
+     * @param message the reason shown to the user
+     */
+    private void showStartFailure(String message) {
+        JOptionPane.showMessageDialog(
+                this,
+                message,
+                "Quiz Unavailable",
+                JOptionPane.WARNING_MESSAGE
+        );
+        resetToSelection();
     }
 
     /**
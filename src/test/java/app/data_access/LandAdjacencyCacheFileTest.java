@@ -0,0 +1,140 @@
+package app.data_access;
+
+import app.use_cases.explore_map.LandAdjacencyGraph;
+import app.use_cases.explore_map.MapFeatureIndex;
+import app.use_cases.explore_map.MapFeatureStore;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.locationtech.jts.io.WKTReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LandAdjacencyCacheFile.
+ */
+public class LandAdjacencyCacheFileTest {
+
+    private static final long CHECKSUM = 0x5EEDL;
+
+    /** Bytes before the offsets: magic, version, checksum, feature count and neighbour count. */
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES + Integer.BYTES * 2;
+
+    @TempDir
+    File directory;
+
+    private MapFeatureStore store;
+    private LandAdjacencyGraph graph;
+    private File file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = testStore("West", "POLYGON ((0 0, 1 0, 1 1, 0 1, 0 0))",
+                "East", "POLYGON ((1 0, 2 0, 2 1, 1 1, 1 0))",
+                "Island", "POLYGON ((5 5, 6 5, 6 6, 5 6, 5 5))");
+        graph = LandAdjacencyGraph.build(new MapFeatureIndex(store));
+        file = new File(directory, "countries.gma");
+        new LandAdjacencyCacheFile(file).write(graph, CHECKSUM);
+    }
+
+    @Test
+    void testWriteThenReadRoundTrips() throws Exception {
+        LandAdjacencyGraph read = new LandAdjacencyCacheFile(file).read(CHECKSUM, store);
+
+        assertNotNull(read);
+        assertSame(store, read.getStore());
+        assertArrayEquals(graph.getOffsets(), read.getOffsets());
+        assertArrayEquals(graph.getNeighbourPositions(), read.getNeighbourPositions());
+    }
+
+    @Test
+    void testChecksumMismatchReadsAsStale() throws Exception {
+        assertNull(new LandAdjacencyCacheFile(file).read(CHECKSUM + 1, store));
+    }
+
+    @Test
+    void testOtherStoreReadsAsStale() throws Exception {
+        MapFeatureStore smaller = testStore("West", "POLYGON ((0 0, 1 0, 1 1, 0 1, 0 0))");
+
+        assertNull(new LandAdjacencyCacheFile(file).read(CHECKSUM, smaller));
+    }
+
+    @Test
+    void testMissingFileReadsAsStale() throws Exception {
+        assertNull(new LandAdjacencyCacheFile(new File(directory, "missing.gma")).read(CHECKSUM, store));
+    }
+
+    @Test
+    void testStaleCacheIsReplacedByWrite() throws Exception {
+        LandAdjacencyCacheFile cache = new LandAdjacencyCacheFile(file);
+        assertNull(cache.read(CHECKSUM + 1, store));
+
+        cache.write(graph, CHECKSUM + 1);
+
+        assertNotNull(cache.read(CHECKSUM + 1, store));
+    }
+
+    @Test
+    void testTruncatedFileIsCorrupt() throws Exception {
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - Integer.BYTES));
+
+        assertThrows(IOException.class, () -> new LandAdjacencyCacheFile(file).read(CHECKSUM, store));
+    }
+
+    @Test
+    void testNegativeNeighbourCountIsCorrupt() throws Exception {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        bytes.putInt(HEADER_SIZE - Integer.BYTES, -1);
+        Files.write(file.toPath(), bytes.array());
+
+        assertThrows(IOException.class, () -> new LandAdjacencyCacheFile(file).read(CHECKSUM, store));
+    }
+
+    @Test
+    void testNeighbourOutsideTheStoreIsCorrupt() throws Exception {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        bytes.putInt(bytes.capacity() - Integer.BYTES, store.size());
+        Files.write(file.toPath(), bytes.array());
+
+        assertThrows(IOException.class, () -> new LandAdjacencyCacheFile(file).read(CHECKSUM, store));
+    }
+
+    @Test
+    void testDecreasingOffsetsAreCorrupt() throws Exception {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        // Start of the third feature's row, set past the end offset
+        bytes.putInt(HEADER_SIZE + Integer.BYTES * 2, 99);
+        Files.write(file.toPath(), bytes.array());
+
+        assertThrows(IOException.class, () -> new LandAdjacencyCacheFile(file).read(CHECKSUM, store));
+    }
+
+    /**
+     * Builds a store from name and WKT pairs.
+     */
+    private static MapFeatureStore testStore(String... countries) throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("Country", "the_geom:Polygon,NAME:String");
+        SimpleFeatureBuilder builder = new SimpleFeatureBuilder(type);
+        WKTReader reader = new WKTReader();
+        List<SimpleFeature> features = new ArrayList<>();
+        for (int i = 0; i < countries.length; i += 2) {
+            builder.add(reader.read(countries[i + 1]));
+            builder.add(countries[i]);
+            features.add(builder.buildFeature("country." + countries[i]));
+        }
+        return new MapFeatureStore(type, features);
+    }
+}
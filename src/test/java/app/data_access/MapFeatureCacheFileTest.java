@@ -0,0 +1,132 @@
+package app.data_access;
+
+import app.use_cases.explore_map.MapFeatureStore;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.locationtech.jts.io.WKTReader;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MapFeatureCacheFile.
+ */
+public class MapFeatureCacheFileTest {
+
+    private static final long CHECKSUM = 0x1234ABCDL;
+
+    @TempDir
+    File directory;
+
+    @Test
+    void testWriteThenReadRoundTrips() throws Exception {
+        MapFeatureStore store = testStore();
+        MapFeatureCacheFile cache = new MapFeatureCacheFile(new File(directory, "countries.gmc"));
+
+        cache.write(store, CHECKSUM);
+        MapFeatureStore read = cache.read(CHECKSUM);
+
+        assertNotNull(read);
+        assertEquals(store.size(), read.size());
+        assertEquals(CHECKSUM, read.getSourceChecksum());
+        for (int i = 0; i < store.size(); i++) {
+            assertEquals(store.getFeature(i).getID(), read.getFeature(i).getID());
+            assertEquals(store.getName(i), read.getName(i));
+            assertEquals(store.getFeature(i).getAttribute("ISO_A3"), read.getFeature(i).getAttribute("ISO_A3"));
+            assertTrue(store.getGeometry(i).equalsExact(read.getGeometry(i)));
+            assertEquals(store.getEnvelope(i), read.getEnvelope(i));
+        }
+    }
+
+    @Test
+    void testChecksumMismatchReadsAsStale() throws Exception {
+        MapFeatureCacheFile cache = new MapFeatureCacheFile(new File(directory, "countries.gmc"));
+        cache.write(testStore(), CHECKSUM);
+
+        assertNull(cache.read(CHECKSUM + 1));
+    }
+
+    @Test
+    void testMissingFileReadsAsStale() throws Exception {
+        MapFeatureCacheFile cache = new MapFeatureCacheFile(new File(directory, "missing.gmc"));
+
+        assertNull(cache.read(CHECKSUM));
+    }
+
+    @Test
+    void testStaleCacheIsReplacedByWrite() throws Exception {
+        File file = new File(directory, "countries.gmc");
+        MapFeatureCacheFile cache = new MapFeatureCacheFile(file);
+        cache.write(testStore(), CHECKSUM);
+
+        assertNull(cache.read(CHECKSUM + 1));
+        cache.write(testStore(), CHECKSUM + 1);
+
+        assertNotNull(cache.read(CHECKSUM + 1));
+    }
+
+    @Test
+    void testTruncatedFileIsCorrupt() throws Exception {
+        File file = new File(directory, "countries.gmc");
+        new MapFeatureCacheFile(file).write(testStore(), CHECKSUM);
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(IOException.class, () -> new MapFeatureCacheFile(file).read(CHECKSUM));
+    }
+
+    @Test
+    void testImpossibleCountIsCorrupt() throws Exception {
+        File file = new File(directory, "countries.gmc");
+        new MapFeatureCacheFile(file).write(testStore(), CHECKSUM);
+        byte[] header = Arrays.copyOf(Files.readAllBytes(file.toPath()), Integer.BYTES * 2 + Long.BYTES);
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.write(header);
+            // A type name longer than the whole file
+            out.writeInt(Integer.MAX_VALUE);
+        }
+
+        assertThrows(IOException.class, () -> new MapFeatureCacheFile(file).read(CHECKSUM));
+    }
+
+    @Test
+    void testChecksumFollowsSourceContents() throws Exception {
+        File shapefile = new File(directory, "countries.shp");
+        File dbf = new File(directory, "countries.dbf");
+        Files.write(shapefile.toPath(), new byte[] {1, 2, 3});
+        Files.write(dbf.toPath(), new byte[] {4, 5, 6});
+        long before = MapFeatureCacheFile.checksum(shapefile);
+
+        assertEquals(before, MapFeatureCacheFile.checksum(shapefile));
+        Files.write(dbf.toPath(), new byte[] {4, 5, 7});
+        assertNotEquals(before, MapFeatureCacheFile.checksum(shapefile));
+    }
+
+    private static MapFeatureStore testStore() throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("Country", "the_geom:Polygon,NAME:String,ISO_A3:String");
+        SimpleFeatureBuilder builder = new SimpleFeatureBuilder(type);
+        WKTReader reader = new WKTReader();
+        List<SimpleFeature> features = new ArrayList<>();
+        builder.add(reader.read("POLYGON ((0 0, 1 0, 1 1, 0 1, 0 0))"));
+        builder.add("West");
+        builder.add("WST");
+        features.add(builder.buildFeature("country.1"));
+        builder.add(reader.read("POLYGON ((1 0, 2 0, 2 1, 1 1, 1 0))"));
+        builder.add("East");
+        builder.add(null);
+        features.add(builder.buildFeature("country.2"));
+        return new MapFeatureStore(type, features);
+    }
+}
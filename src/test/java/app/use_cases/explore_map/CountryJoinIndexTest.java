@@ -0,0 +1,101 @@
+package app.use_cases.explore_map;
+
+import app.entities.Country;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CountryJoinIndex.
+ */
+public class CountryJoinIndexTest {
+
+    private final List<Country> catalog = List.of(
+            testCountry("FRA", "France"),
+            testCountry("CIV", "Côte d'Ivoire"),
+            testCountry("NOR", "Norway"),
+            testCountry("USA", "United States"));
+
+    private SimpleFeatureBuilder builder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("Country", "NAME:String,ISO_A3:String,ADM0_A3:String");
+        builder = new SimpleFeatureBuilder(type);
+    }
+
+    @Test
+    void testJoinsByIsoCode() {
+        SimpleFeature feature = feature("f.1", "République française", "FRA", "XXX");
+        CountryJoinIndex join = new CountryJoinIndex(List.of(feature), catalog);
+
+        assertEquals(0, join.ordinalOf(0));
+        assertEquals("FRA", join.getCountryCode(feature));
+    }
+
+    @Test
+    void testFallsBackToAdm0CodeWhenIsoCodeIsUnknown() {
+        // Natural Earth marks some countries, such as Norway, with ISO_A3 "-99"
+        SimpleFeature feature = feature("f.1", "Kingdom of Norway", "-99", "NOR");
+        CountryJoinIndex join = new CountryJoinIndex(List.of(feature), catalog);
+
+        assertEquals("NOR", join.getCountryCode(feature));
+    }
+
+    @Test
+    void testFallsBackToNormalizedName() {
+        SimpleFeature ivoryCoast = feature("f.1", "Cote d’Ivoire", "-99", "-99");
+        SimpleFeature unitedStates = feature("f.2", "UNITED  STATES", null, null);
+        CountryJoinIndex join = new CountryJoinIndex(List.of(ivoryCoast, unitedStates), catalog);
+
+        assertEquals("CIV", join.getCountryCode(ivoryCoast));
+        assertEquals("USA", join.getCountryCode(unitedStates));
+    }
+
+    @Test
+    void testUnmatchedFeature() {
+        SimpleFeature feature = feature("f.1", "Atlantis", "ATL", "ATL");
+        CountryJoinIndex join = new CountryJoinIndex(List.of(feature), catalog);
+
+        assertEquals(CountryJoinIndex.NO_COUNTRY, join.ordinalOf(0));
+        assertNull(join.getCountry(feature));
+        assertNull(join.getCountryCode(feature));
+    }
+
+    @Test
+    void testFeatureOfAnotherMapIsUnknown() {
+        CountryJoinIndex join = new CountryJoinIndex(List.of(feature("f.1", "France", "FRA", "FRA")), catalog);
+
+        assertNull(join.getCountryCode(feature("other.1", "France", "FRA", "FRA")));
+    }
+
+    @Test
+    void testNormalizeNameIgnoresAccentsCasePunctuationAndSpacing() {
+        assertEquals("cotedivoire", CountryJoinIndex.normalizeName("Côte d'Ivoire"));
+        assertEquals(CountryJoinIndex.normalizeName("Côte d'Ivoire"),
+                CountryJoinIndex.normalizeName(" COTE D’IVOIRE "));
+        assertEquals(CountryJoinIndex.normalizeName("Guinea-Bissau"),
+                CountryJoinIndex.normalizeName("Guinea Bissau"));
+    }
+
+    private SimpleFeature feature(String id, String name, String isoCode, String adm0Code) {
+        List<Object> values = new ArrayList<>();
+        values.add(name);
+        values.add(isoCode);
+        values.add(adm0Code);
+        return builder.buildFeature(id, values.toArray());
+    }
+
+    private static Country testCountry(String code, String name) {
+        return new Country(code, name, null, "Region", null, 0L, 0.0,
+                null, "https://example.com/flag.png", null, null, null);
+    }
+}
@@ -1,16 +1,21 @@
 package app.use_cases.explore_map;
 
+import app.entities.Country;
 import org.geotools.api.data.SimpleFeatureSource;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.Name;
 import org.geotools.api.filter.identity.FeatureId;
+import org.geotools.data.DataUtilities;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.io.WKTReader;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -63,6 +68,19 @@ public class ExploreMapInteractorTest {
         assertNull(presenter.lastOutputData.getSelectedCountryName());
     }
 
+    @Test
+    void testLoadMapPassesCountryJoin() {
+        // Arrange
+        dataAccess.countryJoin = new CountryJoinIndex(List.of(), List.of(testCountry("CAN", "Canada")));
+
+        // Act
+        interactor.loadMap(new ExploreMapInputData("world.shp"));
+
+        // Assert
+        assertTrue(presenter.prepareMapLoadedViewWasCalled);
+        assertSame(dataAccess.countryJoin, presenter.lastOutputData.getCountryJoin());
+    }
+
     @Test
     void testLoadMapIOException() {
         // Arrange
@@ -151,6 +169,50 @@ public class ExploreMapInteractorTest {
         assertNull(presenter.lastOutputData.getSelectedCountryName());
     }
 
+    @Test
+    void testSelectFeatureFallsBackToNearestFeatureWithinTolerance() {
+        // Arrange: the click misses every polygon, e.g. in the sea next to an island
+        dataAccess.setFeatureToReturn(null);
+        dataAccess.nearestFeatureToReturn = new TestSimpleFeature("Malta", "feature.9");
+
+        // Act
+        interactor.selectFeature(new ExploreMapSelectInputData(14.0, 36.0, 0.5));
+
+        // Assert
+        assertTrue(dataAccess.getFeatureAtPositionWasCalled);
+        assertTrue(dataAccess.getNearestFeatureWasCalled);
+        assertEquals(0.5, dataAccess.lastMaxDistance, 0.001);
+        assertEquals("Malta", presenter.lastOutputData.getSelectedCountryName());
+    }
+
+    @Test
+    void testSelectFeatureInsideFeatureSkipsNearestLookup() {
+        // Arrange
+        dataAccess.setFeatureToReturn(new TestSimpleFeature("Canada", "feature.1"));
+        dataAccess.nearestFeatureToReturn = new TestSimpleFeature("Greenland", "feature.2");
+
+        // Act
+        interactor.selectFeature(new ExploreMapSelectInputData(-100.0, 60.0, 0.5));
+
+        // Assert
+        assertFalse(dataAccess.getNearestFeatureWasCalled);
+        assertEquals("Canada", presenter.lastOutputData.getSelectedCountryName());
+    }
+
+    @Test
+    void testSelectFeatureWithoutToleranceSkipsNearestLookup() {
+        // Arrange
+        dataAccess.setFeatureToReturn(null);
+        dataAccess.nearestFeatureToReturn = new TestSimpleFeature("Malta", "feature.9");
+
+        // Act
+        interactor.selectFeature(new ExploreMapSelectInputData(14.0, 36.0));
+
+        // Assert
+        assertFalse(dataAccess.getNearestFeatureWasCalled);
+        assertNull(presenter.lastOutputData.getSelectedFeature());
+    }
+
     @Test
     void testSelectFeatureWithNonStringNameAttribute() {
         // Arrange: Test the toString() conversion path when NAME is a non-String object
@@ -170,6 +232,189 @@ public class ExploreMapInteractorTest {
         assertEquals("12345", presenter.lastOutputData.getSelectedCountryName());
     }
 
+    @Test
+    void testSelectFeatureResolvesCountryCodeThroughJoin() {
+        // Arrange: the map's name differs from the catalog's only in case and punctuation
+        SimpleFeature feature = new TestSimpleFeature("Côte d'Ivoire", "feature.7");
+        dataAccess.setFeatureToReturn(feature);
+        dataAccess.countryJoin = new CountryJoinIndex(List.of(feature), List.of(
+                testCountry("CAN", "Canada"),
+                testCountry("CIV", "Cote dIvoire")));
+
+        // Act
+        interactor.selectFeature(new ExploreMapSelectInputData(1.0, 2.0));
+
+        // Assert
+        assertEquals("Côte d'Ivoire", presenter.lastOutputData.getSelectedCountryName());
+        assertEquals("CIV", presenter.lastOutputData.getSelectedCountryCode());
+    }
+
+    @Test
+    void testSelectFeatureWithoutCatalogMatchHasNoCountryCode() {
+        // Arrange
+        SimpleFeature feature = new TestSimpleFeature("Atlantis", "feature.8");
+        dataAccess.setFeatureToReturn(feature);
+        dataAccess.countryJoin = new CountryJoinIndex(List.of(feature), List.of(testCountry("CAN", "Canada")));
+
+        // Act
+        interactor.selectFeature(new ExploreMapSelectInputData(1.0, 2.0));
+
+        // Assert
+        assertEquals("Atlantis", presenter.lastOutputData.getSelectedCountryName());
+        assertNull(presenter.lastOutputData.getSelectedCountryCode());
+    }
+
+    @Test
+    void testSelectFeatureWithoutJoinHasNoCountryCode() {
+        // Arrange
+        dataAccess.setFeatureToReturn(new TestSimpleFeature("Canada", "feature.1"));
+
+        // Act
+        interactor.selectFeature(new ExploreMapSelectInputData(1.0, 2.0));
+
+        // Assert
+        assertEquals("Canada", presenter.lastOutputData.getSelectedCountryName());
+        assertNull(presenter.lastOutputData.getSelectedCountryCode());
+    }
+
+    @Test
+    void testSelectFeatureReportsLandNeighbours() throws Exception {
+        // Arrange: two squares sharing an edge and one island
+        MapFeatureStore store = testStore();
+        dataAccess.adjacencyGraph = LandAdjacencyGraph.build(new MapFeatureIndex(store));
+        dataAccess.setFeatureToReturn(store.getFeature(0));
+
+        // Act
+        interactor.selectFeature(new ExploreMapSelectInputData(0.5, 0.5));
+
+        // Assert
+        List<SimpleFeature> neighbours = presenter.lastOutputData.getNeighbourFeatures();
+        assertEquals(1, neighbours.size());
+        assertEquals("East", neighbours.get(0).getAttribute("NAME"));
+    }
+
+    @Test
+    void testSelectIslandHasNoLandNeighbours() throws Exception {
+        // Arrange
+        MapFeatureStore store = testStore();
+        dataAccess.adjacencyGraph = LandAdjacencyGraph.build(new MapFeatureIndex(store));
+        dataAccess.setFeatureToReturn(store.getFeature(2));
+
+        // Act
+        interactor.selectFeature(new ExploreMapSelectInputData(5.5, 5.5));
+
+        // Assert
+        assertTrue(presenter.lastOutputData.getNeighbourFeatures().isEmpty());
+    }
+
+    @Test
+    void testSelectFeatureWithoutAdjacencyHasNoNeighbours() {
+        // Arrange
+        dataAccess.setFeatureToReturn(new TestSimpleFeature("Canada", "feature.1"));
+
+        // Act
+        interactor.selectFeature(new ExploreMapSelectInputData(1.0, 2.0));
+
+        // Assert
+        assertNotNull(presenter.lastOutputData.getNeighbourFeatures());
+        assertTrue(presenter.lastOutputData.getNeighbourFeatures().isEmpty());
+    }
+
+    @Test
+    void testSelectFeatureHitTestsTheDrawnIndex() throws Exception {
+        // Arrange: the loaded map is the base resolution, a finer one is drawn
+        MapFeatureStore base = testStore();
+        MapFeatureStore finer = testStore("finer", "Islet", "POLYGON ((8 8, 8.1 8, 8.1 8.1, 8 8.1, 8 8))");
+        dataAccess.featureIndex = new MapFeatureIndex(base);
+        dataAccess.adjacencyGraph = LandAdjacencyGraph.build(dataAccess.featureIndex);
+        dataAccess.countryJoin = new CountryJoinIndex(base.getFeatures(), List.of(testCountry("WST", "West")));
+
+        // Act
+        interactor.selectFeature(new ExploreMapSelectInputData(0.5, 0.5, 0, new MapFeatureIndex(finer)));
+
+        // Assert: the drawn feature is selected, resolved and bordered through the loaded map
+        assertFalse(dataAccess.getFeatureAtPositionWasCalled);
+        assertSame(finer.getFeature(0), presenter.lastOutputData.getSelectedFeature());
+        assertEquals("WST", presenter.lastOutputData.getSelectedCountryCode());
+        assertEquals(List.of(finer.getFeature(1)), presenter.lastOutputData.getNeighbourFeatures());
+    }
+
+    @Test
+    void testSelectFeatureOnlyInTheDrawnIndex() throws Exception {
+        // Arrange: an islet only the finer resolution has
+        MapFeatureStore base = testStore();
+        MapFeatureStore finer = testStore("finer", "Islet", "POLYGON ((8 8, 8.1 8, 8.1 8.1, 8 8.1, 8 8))");
+        dataAccess.featureIndex = new MapFeatureIndex(base);
+        dataAccess.adjacencyGraph = LandAdjacencyGraph.build(dataAccess.featureIndex);
+
+        // Act
+        interactor.selectFeature(new ExploreMapSelectInputData(8.05, 8.05, 0, new MapFeatureIndex(finer)));
+
+        // Assert
+        assertEquals("Islet", presenter.lastOutputData.getSelectedCountryName());
+        assertTrue(presenter.lastOutputData.getNeighbourFeatures().isEmpty());
+    }
+
+    @Test
+    void testChangeProjectionSuccess() {
+        // Act
+        interactor.changeProjection(new ExploreMapProjectionInputData(MapProjection.ROBINSON));
+
+        // Assert
+        assertEquals(MapProjection.ROBINSON, dataAccess.lastProjection);
+        assertTrue(presenter.prepareProjectionChangedViewWasCalled);
+        assertEquals(MapProjection.ROBINSON, presenter.lastProjectionOutputData.getProjection());
+        assertNull(presenter.lastProjectionOutputData.getFeatureSource());
+        assertNull(presenter.lastProjectionOutputData.getFeatureIndex());
+        assertFalse(presenter.prepareFailViewWasCalled);
+    }
+
+    @Test
+    void testChangeProjectionFailure() {
+        // Arrange
+        dataAccess.setShouldThrowException(true);
+
+        // Act
+        interactor.changeProjection(new ExploreMapProjectionInputData(MapProjection.WEB_MERCATOR));
+
+        // Assert
+        assertTrue(presenter.prepareFailViewWasCalled);
+        assertTrue(presenter.lastErrorMessage.startsWith("Error changing projection"));
+        assertFalse(presenter.prepareProjectionChangedViewWasCalled);
+        assertEquals(MapProjection.PLATE_CARREE, dataAccess.getProjection());
+    }
+
+    private static MapFeatureStore testStore() throws Exception {
+        return testStore("country");
+    }
+
+    /**
+     * Builds two squares sharing an edge and one island, followed by any extra
+     * name and WKT pairs, with feature IDs starting with the given prefix.
+     */
+    private static MapFeatureStore testStore(String idPrefix, String... extra) throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("Country", "the_geom:Polygon,NAME:String");
+        SimpleFeatureBuilder builder = new SimpleFeatureBuilder(type);
+        WKTReader reader = new WKTReader();
+        List<SimpleFeature> features = new ArrayList<>();
+        List<String> countries = new ArrayList<>(List.of(
+            "West", "POLYGON ((0 0, 1 0, 1 1, 0 1, 0 0))",
+            "East", "POLYGON ((1 0, 2 0, 2 1, 1 1, 1 0))",
+            "Island", "POLYGON ((5 5, 6 5, 6 6, 5 6, 5 5))"));
+        countries.addAll(List.of(extra));
+        for (int i = 0; i < countries.size(); i += 2) {
+            builder.add(reader.read(countries.get(i + 1)));
+            builder.add(countries.get(i));
+            features.add(builder.buildFeature(idPrefix + "." + countries.get(i)));
+        }
+        return new MapFeatureStore(type, features);
+    }
+
+    private static Country testCountry(String code, String name) {
+        return new Country(code, name, null, "Region", null, 0L, 0.0,
+                null, "https://example.com/flag.png", null, null, null);
+    }
+
     // Test Double for ExploreMapDataAccessInterface
     private static class TestDataAccess implements ExploreMapDataAccessInterface {
         boolean loadShapefileWasCalled = false;
@@ -179,6 +424,14 @@ public class ExploreMapInteractorTest {
         Coordinate lastCoordinate = null;
         boolean shouldThrowException = false;
         SimpleFeature featureToReturn = null;
+        SimpleFeature nearestFeatureToReturn = null;
+        boolean getNearestFeatureWasCalled = false;
+        double lastMaxDistance = 0;
+        CountryJoinIndex countryJoin = null;
+        LandAdjacencyGraph adjacencyGraph = null;
+        MapFeatureIndex featureIndex = null;
+        MapProjection projection = MapProjection.PLATE_CARREE;
+        MapProjection lastProjection = null;
 
         void setShouldThrowException(boolean shouldThrow) {
             this.shouldThrowException = shouldThrow;
@@ -205,6 +458,13 @@ public class ExploreMapInteractorTest {
             return featureToReturn;
         }
 
+        @Override
+        public SimpleFeature getNearestFeature(Coordinate coordinate, double maxDistance) {
+            getNearestFeatureWasCalled = true;
+            lastMaxDistance = maxDistance;
+            return nearestFeatureToReturn;
+        }
+
         @Override
         public ReferencedEnvelope getMaxBounds() {
             return null;
@@ -214,6 +474,40 @@ public class ExploreMapInteractorTest {
         public void setFeatureSource(SimpleFeatureSource featureSource) {
             setFeatureSourceWasCalled = true;
         }
+
+        @Override
+        public MapFeatureIndex getFeatureIndex() {
+            return featureIndex;
+        }
+
+        @Override
+        public MapDataset getDataset() {
+            return null;
+        }
+
+        @Override
+        public CountryJoinIndex getCountryJoin() {
+            return countryJoin;
+        }
+
+        @Override
+        public LandAdjacencyGraph getAdjacencyGraph() {
+            return adjacencyGraph;
+        }
+
+        @Override
+        public MapProjection getProjection() {
+            return projection;
+        }
+
+        @Override
+        public void setProjection(MapProjection newProjection) throws IOException {
+            lastProjection = newProjection;
+            if (shouldThrowException) {
+                throw new IOException("Test exception");
+            }
+            projection = newProjection;
+        }
     }
 
     // Test Double for ExploreMapOutputBoundary
@@ -221,7 +515,9 @@ public class ExploreMapInteractorTest {
         boolean prepareMapLoadedViewWasCalled = false;
         boolean prepareFeatureSelectedViewWasCalled = false;
         boolean prepareFailViewWasCalled = false;
+        boolean prepareProjectionChangedViewWasCalled = false;
         ExploreMapOutputData lastOutputData = null;
+        ExploreMapProjectionOutputData lastProjectionOutputData = null;
         String lastErrorMessage = null;
 
         @Override
@@ -236,6 +532,12 @@ public class ExploreMapInteractorTest {
             lastOutputData = outputData;
         }
 
+        @Override
+        public void prepareProjectionChangedView(ExploreMapProjectionOutputData outputData) {
+            prepareProjectionChangedViewWasCalled = true;
+            lastProjectionOutputData = outputData;
+        }
+
         @Override
         public void prepareFailView(String errorMessage) {
             prepareFailViewWasCalled = true;
@@ -0,0 +1,104 @@
+package app.use_cases.explore_map;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.io.WKTReader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LandAdjacencyGraph.
+ */
+public class LandAdjacencyGraphTest {
+
+    private MapFeatureStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("Country", "the_geom:Polygon,NAME:String");
+        SimpleFeatureBuilder builder = new SimpleFeatureBuilder(type);
+        WKTReader reader = new WKTReader();
+        List<SimpleFeature> features = new ArrayList<>();
+        String[] countries = {
+            "West", "POLYGON ((0 0, 1 0, 1 1, 0 1, 0 0))",
+            "East", "POLYGON ((1 0, 2 0, 2 1, 1 1, 1 0))",
+            "Island", "POLYGON ((5 5, 6 5, 6 6, 5 6, 5 5))",
+        };
+        for (int i = 0; i < countries.length; i += 2) {
+            builder.add(reader.read(countries[i + 1]));
+            builder.add(countries[i]);
+            features.add(builder.buildFeature("country." + countries[i]));
+        }
+        store = new MapFeatureStore(type, features);
+    }
+
+    @Test
+    void testBuildFindsSharedBorders() {
+        LandAdjacencyGraph graph = LandAdjacencyGraph.build(new MapFeatureIndex(store));
+
+        assertArrayEquals(new int[] {1}, graph.neighboursOf(0));
+        assertArrayEquals(new int[] {0}, graph.neighboursOf(1));
+        assertEquals(0, graph.degree(2));
+        assertTrue(graph.areAdjacent(0, 1));
+        assertFalse(graph.areAdjacent(0, 2));
+        assertEquals(List.of(store.getFeature(1)), graph.getNeighbours(store.getFeature(0)));
+    }
+
+    @Test
+    void testArraysRoundTripThroughTheConstructor() {
+        LandAdjacencyGraph built = LandAdjacencyGraph.build(new MapFeatureIndex(store));
+
+        LandAdjacencyGraph copy = new LandAdjacencyGraph(store, built.getOffsets(), built.getNeighbourPositions());
+
+        assertArrayEquals(built.getOffsets(), copy.getOffsets());
+        assertArrayEquals(built.getNeighbourPositions(), copy.getNeighbourPositions());
+    }
+
+    @Test
+    void testConstructorCopiesItsArrays() {
+        int[] offsets = {0, 1, 2, 2};
+        int[] neighbours = {1, 0};
+        LandAdjacencyGraph graph = new LandAdjacencyGraph(store, offsets, neighbours);
+
+        neighbours[0] = 2;
+
+        assertArrayEquals(new int[] {1}, graph.neighboursOf(0));
+    }
+
+    @Test
+    void testRejectsOffsetsOfTheWrongLength() {
+        assertInvalid(new int[] {0, 1, 2}, new int[] {1, 0});
+    }
+
+    @Test
+    void testRejectsOffsetsNotStartingAtZero() {
+        assertInvalid(new int[] {1, 1, 2, 2}, new int[] {1, 0});
+    }
+
+    @Test
+    void testRejectsDecreasingOffsets() {
+        assertInvalid(new int[] {0, 2, 1, 2}, new int[] {1, 0});
+    }
+
+    @Test
+    void testRejectsOffsetsNotEndingAtTheNeighbourCount() {
+        assertInvalid(new int[] {0, 1, 2, 2}, new int[] {1, 0, 2});
+    }
+
+    @Test
+    void testRejectsNeighboursOutsideTheStore() {
+        assertInvalid(new int[] {0, 1, 2, 2}, new int[] {3, 0});
+        assertInvalid(new int[] {0, 1, 2, 2}, new int[] {1, -1});
+    }
+
+    private void assertInvalid(int[] offsets, int[] neighbours) {
+        assertThrows(IllegalArgumentException.class, () -> new LandAdjacencyGraph(store, offsets, neighbours));
+    }
+}
@@ -0,0 +1,89 @@
+package app.use_cases.explore_map;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.io.WKTReader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MapFeatureIndex point and nearest-feature lookups.
+ */
+public class MapFeatureIndexTest {
+
+    private MapFeatureIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new MapFeatureIndex(testStore(
+                "West", "POLYGON ((0 0, 1 0, 1 1, 0 1, 0 0))",
+                "East", "POLYGON ((1 0, 2 0, 2 1, 1 1, 1 0))",
+                "Island", "POLYGON ((5 5, 6 5, 6 6, 5 6, 5 5))"));
+    }
+
+    @Test
+    void testIndexAtFindsTheContainingFeature() {
+        assertEquals(0, index.indexAt(new Coordinate(0.5, 0.5)));
+        assertEquals(1, index.indexAt(new Coordinate(1.5, 0.5)));
+        assertEquals(2, index.indexAt(new Coordinate(5.5, 5.5)));
+    }
+
+    @Test
+    void testIndexAtOutsideEveryFeature() {
+        assertEquals(MapFeatureIndex.NO_FEATURE, index.indexAt(new Coordinate(3, 3)));
+        assertNull(index.getFeatureAt(new Coordinate(3, 3)));
+    }
+
+    @Test
+    void testNearestIndexOfAContainedPointIsItsFeature() {
+        assertEquals(2, index.nearestIndex(new Coordinate(5.5, 5.5), 0.0));
+    }
+
+    @Test
+    void testNearestIndexPicksTheClosestFeature() {
+        assertEquals(2, index.nearestIndex(new Coordinate(4.8, 5.5), 2.0));
+        assertEquals(1, index.nearestIndex(new Coordinate(2.3, 0.5), 2.0));
+    }
+
+    @Test
+    void testNearestIndexRespectsTheTolerance() {
+        Coordinate nearIsland = new Coordinate(4.5, 5.5);
+
+        assertEquals(MapFeatureIndex.NO_FEATURE, index.nearestIndex(nearIsland, 0.4));
+        assertNull(index.getNearestFeature(nearIsland, 0.4));
+        assertEquals(2, index.nearestIndex(nearIsland, 0.5), "A feature exactly at the tolerance is found");
+    }
+
+    @Test
+    void testNearestFeatureIsTheStoredFeature() {
+        SimpleFeature feature = index.getNearestFeature(new Coordinate(2.1, 0.5), 0.5);
+
+        assertNotNull(feature);
+        assertEquals("East", feature.getAttribute("NAME"));
+        assertSame(index.getStore().getFeature(1), feature);
+    }
+
+    /**
+     * Builds a store from name and WKT pairs.
+     */
+    private static MapFeatureStore testStore(String... countries) throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("Country", "the_geom:Polygon,NAME:String");
+        SimpleFeatureBuilder builder = new SimpleFeatureBuilder(type);
+        WKTReader reader = new WKTReader();
+        List<SimpleFeature> features = new ArrayList<>();
+        for (int i = 0; i < countries.length; i += 2) {
+            builder.add(reader.read(countries[i + 1]));
+            builder.add(countries[i]);
+            features.add(builder.buildFeature("country." + countries[i]));
+        }
+        return new MapFeatureStore(type, features);
+    }
+}
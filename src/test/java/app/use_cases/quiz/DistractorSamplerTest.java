@@ -0,0 +1,148 @@
+package app.use_cases.quiz;
+
+import app.entities.Country;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DistractorSampler.
+ */
+public class DistractorSamplerTest {
+
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    @Test
+    void testCorrectOrdinalIsNeverDrawn() {
+        DistractorSampler sampler = new DistractorSampler(catalog(12, 3));
+
+        for (int correct = 0; correct < 12; correct++) {
+            for (DistractorStrategy strategy : DistractorStrategy.values()) {
+                for (int round = 0; round < 20; round++) {
+                    int[] drawn = sampler.sample(correct, 3, strategy, random);
+                    assertDistinctWithout(correct, 3, drawn);
+                }
+            }
+            for (int round = 0; round < 20; round++) {
+                int[] drawn = sampler.sample(correct, 3, AbstractQuestionGenerator.MOSTLY_REGIONAL, random);
+                assertDistinctWithout(correct, 3, drawn);
+            }
+        }
+    }
+
+    @Test
+    void testSmallRegionIsToppedUpFromTheWholeCatalog() {
+        List<Country> countries = new ArrayList<>(catalog(8, 1));
+        countries.add(country("OC1", "Oceania", 100L));
+        countries.add(country("OC2", "Oceania", 200L));
+        DistractorSampler sampler = new DistractorSampler(countries);
+        int correct = sampler.ordinalOf(countries.get(8));
+        int otherInRegion = sampler.ordinalOf(countries.get(9));
+
+        for (int round = 0; round < 50; round++) {
+            int[] drawn = sampler.sample(correct, 3, DistractorStrategy.SAME_REGION, random);
+
+            assertDistinctWithout(correct, 3, drawn);
+            assertTrue(contains(drawn, otherInRegion), "The only other regional country is always drawn");
+        }
+    }
+
+    @Test
+    void testSimilarPopulationDrawsNearbyCountries() {
+        DistractorSampler sampler = new DistractorSampler(catalog(40, 1));
+
+        for (int round = 0; round < 50; round++) {
+            int[] drawn = sampler.sample(20, 3, DistractorStrategy.SIMILAR_POPULATION, random);
+
+            assertDistinctWithout(20, 3, drawn);
+            for (int ordinal : drawn) {
+                // Populations follow the ordinals, and the window is eight countries on each side
+                assertTrue(Math.abs(ordinal - 20) <= 8, "Drawn country too far in population: " + ordinal);
+            }
+        }
+    }
+
+    @Test
+    void testWeightedSampleWithAllWeightsZeroStillFillsUniformly() {
+        DistractorSampler sampler = new DistractorSampler(catalog(10, 2));
+        Map<DistractorStrategy, Integer> weights = Map.of(
+                DistractorStrategy.SAME_REGION, 0,
+                DistractorStrategy.SIMILAR_POPULATION, 0);
+
+        int[] drawn = sampler.sample(4, 3, weights, random);
+        assertDistinctWithout(4, 3, drawn);
+
+        int[] noWeights = sampler.sample(4, 3, Map.of(), random);
+        assertDistinctWithout(4, 3, noWeights);
+    }
+
+    @Test
+    void testSmallCatalogReturnsEveryOtherCountry() {
+        DistractorSampler sampler = new DistractorSampler(catalog(3, 1));
+
+        int[] drawn = sampler.sample(1, 5, DistractorStrategy.UNIFORM, random);
+
+        assertDistinctWithout(1, 2, drawn);
+        assertTrue(contains(drawn, 0) && contains(drawn, 2));
+    }
+
+    @Test
+    void testEmptyCatalogDrawsNothing() {
+        DistractorSampler sampler = new DistractorSampler(List.of());
+
+        assertEquals(0, sampler.sample(-1, 3, DistractorStrategy.UNIFORM, random).length);
+        assertEquals(0, sampler.sample(-1, 3, AbstractQuestionGenerator.MOSTLY_REGIONAL, random).length);
+    }
+
+    @Test
+    void testOrdinalOfUnknownCountry() {
+        DistractorSampler sampler = new DistractorSampler(catalog(3, 1));
+
+        assertEquals(-1, sampler.ordinalOf(country("ZZZ", "Europe", 1L)));
+        assertEquals(2, sampler.ordinalOf(sampler.get(2)));
+    }
+
+    // ===== Helpers =====
+
+    /**
+     * Builds a catalog whose populations increase with the ordinal, spread
+     * round-robin over the given number of regions.
+     */
+    private static List<Country> catalog(int size, int regionCount) {
+        List<Country> countries = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            countries.add(country("C" + i, "Region " + (i % regionCount), 1_000L * (i + 1)));
+        }
+        return countries;
+    }
+
+    private static Country country(String code, String region, long population) {
+        return new Country(code, "Country " + code, null, region, null, population, 0.0, null,
+                "https://example.com/flag.png", null, null, null);
+    }
+
+    private static void assertDistinctWithout(int correct, int expectedSize, int[] drawn) {
+        assertEquals(expectedSize, drawn.length);
+        Set<Integer> seen = new HashSet<>();
+        for (int ordinal : drawn) {
+            assertNotEquals(correct, ordinal, "The correct answer must never be drawn");
+            assertTrue(seen.add(ordinal), "Ordinal drawn twice: " + ordinal);
+        }
+    }
+
+    private static boolean contains(int[] values, int value) {
+        boolean found = false;
+        for (int candidate : values) {
+            found |= candidate == value;
+        }
+        return found;
+    }
+}
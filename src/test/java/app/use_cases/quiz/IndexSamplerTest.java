@@ -0,0 +1,66 @@
+package app.use_cases.quiz;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IndexSampler.
+ */
+public class IndexSamplerTest {
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Test
+    void testSampleReturnsDistinctPositionsInRange() {
+        for (int round = 0; round < 100; round++) {
+            int[] drawn = IndexSampler.sample(50, 10, random);
+
+            assertEquals(10, drawn.length);
+            Set<Integer> seen = new HashSet<>();
+            for (int position : drawn) {
+                assertTrue(position >= 0 && position < 50, "Position out of range: " + position);
+                assertTrue(seen.add(position), "Position drawn twice: " + position);
+            }
+        }
+    }
+
+    @Test
+    void testCountLargerThanSizeDrawsEveryPositionOnce() {
+        int[] drawn = IndexSampler.sample(5, 12, random);
+
+        assertEquals(5, drawn.length);
+        Set<Integer> seen = new HashSet<>();
+        for (int position : drawn) {
+            seen.add(position);
+        }
+        assertEquals(Set.of(0, 1, 2, 3, 4), seen);
+    }
+
+    @Test
+    void testEmptyRangeDrawsNothing() {
+        assertEquals(0, IndexSampler.sample(0, 3, random).length);
+        assertEquals(0, IndexSampler.sample(0, 0, random).length);
+    }
+
+    @Test
+    void testNonPositiveCountDrawsNothing() {
+        assertEquals(0, IndexSampler.sample(10, 0, random).length);
+        assertEquals(0, IndexSampler.sample(10, -1, random).length);
+    }
+
+    @Test
+    void testEveryPositionCanBeDrawn() {
+        Set<Integer> seen = new HashSet<>();
+        for (int round = 0; round < 200; round++) {
+            for (int position : IndexSampler.sample(8, 2, random)) {
+                seen.add(position);
+            }
+        }
+        assertEquals(8, seen.size(), "Sampling should reach every position");
+    }
+}
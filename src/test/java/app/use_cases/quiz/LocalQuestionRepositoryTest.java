@@ -0,0 +1,122 @@
+package app.use_cases.quiz;
+
+import app.entities.Country;
+import app.entities.Question;
+import app.entities.QuestionType;
+import app.entities.QuizType;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LocalQuestionRepository with catalogs too small to fill a quiz.
+ */
+public class LocalQuestionRepositoryTest {
+
+    @Test
+    void testEmptyCatalogFallsBackToBuiltInCountries() {
+        LocalQuestionRepository repository = new LocalQuestionRepository(List::of);
+
+        for (QuizType quizType : List.of(QuizType.CAPITALS, QuizType.LANGUAGES, QuizType.CURRENCIES)) {
+            for (QuestionType questionType : QuestionType.values()) {
+                List<Question> questions = repository.getQuestionsForQuiz(quizType, questionType, 5);
+                assertEquals(5, questions.size(), quizType + " " + questionType + " should work offline");
+            }
+        }
+    }
+
+    @Test
+    void testFailedCatalogFetchFallsBackToBuiltInCountries() {
+        LocalQuestionRepository repository = new LocalQuestionRepository(() -> {
+            throw new RuntimeException("offline");
+        });
+
+        assertEquals(5, repository.getQuestionsForQuiz(QuizType.CAPITALS, QuestionType.MCQ, 5).size());
+    }
+
+    @Test
+    void testChangedCatalogRebuildsDistractors() {
+        List<Country> first = List.of(
+                country("AAA", "Alpha", 1L), country("BBB", "Beta", 2L),
+                country("CCC", "Gamma", 3L), country("DDD", "Delta", 4L));
+        List<Country> second = List.of(
+                country("EEE", "Epsilon", 5L), country("FFF", "Zeta", 6L),
+                country("GGG", "Eta", 7L), country("HHH", "Theta", 8L));
+        AtomicReference<List<Country>> catalog = new AtomicReference<>(first);
+        LocalQuestionRepository repository = new LocalQuestionRepository(catalog::get);
+        assertEquals(4, repository.getQuestionsForQuiz(QuizType.CAPITALS, QuestionType.MCQ, 4).size());
+
+        catalog.set(second);
+        List<Question> questions = repository.getQuestionsForQuiz(QuizType.CAPITALS, QuestionType.MCQ, 4);
+
+        List<String> capitals = new ArrayList<>();
+        for (Country country : second) {
+            capitals.add(country.getCapital().orElseThrow());
+        }
+        assertEquals(4, questions.size());
+        for (Question question : questions) {
+            assertTrue(capitals.containsAll(question.getOptions()), question.getOptions().toString());
+        }
+    }
+
+    @Test
+    void testEmptyCatalogHasNoFlagOrPopulationQuestions() {
+        LocalQuestionRepository repository = new LocalQuestionRepository(List::of);
+
+        assertTrue(repository.getQuestionsForQuiz(QuizType.FLAGS, QuestionType.MCQ, 5).isEmpty());
+        assertTrue(repository.getQuestionsForQuiz(QuizType.POPULATION, QuestionType.TYPE_IN, 5).isEmpty());
+    }
+
+    @Test
+    void testSingleCountryCatalog() {
+        List<Country> catalog = List.of(country("FRA", "France", 68_000_000L));
+        LocalQuestionRepository repository = new LocalQuestionRepository(() -> catalog);
+
+        // Type-in needs no wrong answers, multiple choice needs three
+        assertEquals(1, repository.getQuestionsForQuiz(QuizType.CAPITALS, QuestionType.TYPE_IN, 5).size());
+        assertTrue(repository.getQuestionsForQuiz(QuizType.CAPITALS, QuestionType.MCQ, 5).isEmpty());
+
+        // A population comparison needs a second country
+        assertTrue(repository.getQuestionsForQuiz(QuizType.POPULATION, QuestionType.TYPE_IN, 5).isEmpty());
+    }
+
+    @Test
+    void testPopulationTypeInComparesTwoDifferentCountries() {
+        List<Country> catalog = List.of(
+                country("FRA", "France", 68_000_000L),
+                country("DEU", "Germany", 84_000_000L),
+                country("LUX", "Luxembourg", 0L));
+        LocalQuestionRepository repository = new LocalQuestionRepository(() -> catalog);
+
+        List<Question> questions = repository.getQuestionsForQuiz(QuizType.POPULATION, QuestionType.TYPE_IN, 5);
+
+        assertEquals(2, questions.size(), "Only countries with a population are subjects");
+        for (Question question : questions) {
+            assertTrue(question.getPrompt().contains("France"), question.getPrompt());
+            assertTrue(question.getPrompt().contains("Germany"), question.getPrompt());
+            assertEquals("Germany", question.getCorrect());
+        }
+    }
+
+    @Test
+    void testPopulationTypeInSkipsCountriesWithEqualPopulations() {
+        List<Country> catalog = List.of(
+                country("AAA", "Alpha", 1_000L),
+                country("BBB", "Beta", 1_000L));
+        LocalQuestionRepository repository = new LocalQuestionRepository(() -> catalog);
+
+        assertTrue(repository.getQuestionsForQuiz(QuizType.POPULATION, QuestionType.TYPE_IN, 5).isEmpty());
+    }
+
+    // ===== Helpers =====
+
+    private static Country country(String code, String name, long population) {
+        return new Country(code, name, name + " City", "Europe", null, population, 0.0, null,
+                "https://example.com/" + code + ".png", List.of(name + "ish"), List.of(name + " franc"), null);
+    }
+}
@@ -60,6 +60,28 @@ public class TakeQuizInteractorTest {
         assertEquals(2, r.getTotalQuestions());
     }
 
+    @Test
+    void testStartQuizWithNoQuestionsShowsFailView() {
+        interactor = new TakeQuizInteractor(
+                (quizType, questionType, limit) -> List.of(),
+                fakeHistoryData,
+                fakePresenter
+        );
+
+        interactor.startQuiz(new TakeQuizStartRequestModel(
+                QuizType.CAPITALS,
+                QuestionType.MCQ,
+                5
+        ));
+
+        assertNotNull(fakePresenter.lastFailMessage, "Presenter should be told the quiz cannot start");
+        assertNull(fakePresenter.lastStartResponse);
+
+        // No quiz is running, so answering does nothing
+        interactor.submitAnswer(new SubmitAnswerRequestModel("Paris"));
+        assertNull(fakePresenter.lastFeedbackResponse);
+    }
+
     @Test
     void testSubmitAnswerCorrectUpdatesScoreAndStreak() {
         // Arrange: start quiz first
@@ -224,8 +246,41 @@ public class TakeQuizInteractorTest {
                 "Presenter should receive a history response");
     }
 
+    @Test
+    void testResponsesListUpcomingMediaUrls() {
+        interactor = new TakeQuizInteractor(
+                (quizType, questionType, limit) -> List.of(
+                        flagQuestion("a"), flagQuestion("b"), flagQuestion(null), flagQuestion("c")),
+                fakeHistoryData,
+                fakePresenter
+        );
+        interactor.startQuiz(new TakeQuizStartRequestModel(
+                QuizType.FLAGS, QuestionType.TYPE_IN, 4));
+
+        // Questions without media are skipped
+        assertEquals(List.of("b", "c"), fakePresenter.lastStartResponse.getUpcomingMediaUrls());
+
+        interactor.nextQuestion();
+
+        assertNotNull(fakePresenter.lastQuestionResponse);
+        assertEquals(List.of("c"), fakePresenter.lastQuestionResponse.getUpcomingMediaUrls());
+    }
+
     // ===== Helper fakes =====
 
+    private static Question flagQuestion(String mediaUrl) {
+        return new Question(
+                QuizType.FLAGS,
+                QuestionType.TYPE_IN,
+                "Which country does this flag belong to?",
+                List.of(),
+                "France",
+                List.of(),
+                "This is the flag of France.",
+                mediaUrl
+        );
+    }
+
     /**
      * Fake repository that always returns the same 2 simple questions,
      * ignoring the quiz type / question type / limit parameters.
@@ -274,12 +329,18 @@ public class TakeQuizInteractorTest {
         AnswerFeedbackResponseModel lastFeedbackResponse;
         TakeQuizEndResponseModel lastEndResponse;
         QuizHistoryResponseModel lastHistoryResponse;
+        String lastFailMessage;
 
         @Override
         public void prepareQuizStart(TakeQuizStartResponseModel responseModel) {
             this.lastStartResponse = responseModel;
         }
 
+        @Override
+        public void prepareFailView(String errorMessage) {
+            this.lastFailMessage = errorMessage;
+        }
+
         @Override
         public void presentQuestion(TakeQuizQuestionResponseModel responseModel) {
             this.lastQuestionResponse = responseModel;